@@ -1,6 +1,8 @@
 package com.bid;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -24,11 +26,17 @@ public class BidApplication {
 	 @Bean(name = "onbidApiExecutor")
 	    public Executor onbidApiExecutor() {
 	        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-	        executor.setCorePoolSize(5);   // ✅ 동시에 실행될 스레드의 수 (API 호출 병렬성) - 적절히 조절
+	        executor.setCorePoolSize(5);   // ✅ 동기화 작업(@Async) 실행용 - 페이지 조회 병렬성은 onbidFetchExecutor에서 조절
 	        executor.setMaxPoolSize(10);   // 최대 스레드 수
 	        executor.setQueueCapacity(1000); // 큐 용량
 	        executor.setThreadNamePrefix("OnbidApi-");
 	        executor.initialize();
 	        return executor;
 	    }
+
+	 // ✅ 온비드 페이지 조회용: 페이지마다 virtual thread 하나 (동시 호출 수는 OnbidPageFetcher의 adaptive limiter가 제한)
+	 @Bean(name = "onbidFetchExecutor", destroyMethod = "shutdownNow")
+	    public ExecutorService onbidFetchExecutor() {
+	        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("OnbidFetch-", 0).factory());
+	    }
 }
@@ -0,0 +1,23 @@
+package com.bid.config;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Component
+@ConfigurationProperties(prefix = "onbid.sync.shard") // application.properties에서 'onbid.sync.shard.'로 시작하는 속성 매핑
+@Getter
+@Setter
+public class OnbidShardProperties {
+
+	private Map<String, List<String>> dimensions = new TreeMap<>(); // 필터 파라미터 -> 값 목록 (비어 있으면 나누지 않음)
+	private long defaultRefreshMinutes = 120; // 샤드 기본 갱신 주기 (분)
+	private Map<String, Long> refreshMinutes = new HashMap<>(); // 샤드 키 -> 개별 갱신 주기 (분)
+}
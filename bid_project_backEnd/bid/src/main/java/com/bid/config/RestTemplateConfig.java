@@ -1,14 +1,73 @@
 package com.bid.config;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
 @Configuration
 public class RestTemplateConfig {
-	
+
 	@Bean
 	public RestTemplate restTemplate() {
 		return new RestTemplate();
 	}
+
+	// ✅ 온비드 전용 커넥션 풀 (병렬 페이지 조회 시 keep-alive 커넥션 재사용)
+	@Bean(destroyMethod = "close")
+	public PoolingHttpClientConnectionManager onbidConnectionManager(
+			@Value("${onbid.http.max-connections:32}") int maxConnections,
+			@Value("${onbid.http.connect-timeout-ms:5000}") long connectTimeoutMs,
+			@Value("${onbid.http.socket-timeout-ms:60000}") long socketTimeoutMs,
+			MeterRegistry meterRegistry) {
+		PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+				.setMaxConnTotal(maxConnections)
+				.setMaxConnPerRoute(maxConnections) // 호출 대상이 온비드 한 곳뿐이므로 전체 = 라우트당
+				.setDefaultConnectionConfig(ConnectionConfig.custom()
+						.setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+						.setSocketTimeout(Timeout.ofMilliseconds(socketTimeoutMs)) // 읽기 사이 최대 대기
+						.setValidateAfterInactivity(TimeValue.ofSeconds(10))
+						.setTimeToLive(TimeValue.ofMinutes(5))
+						.build())
+				.build();
+
+		// httpcomponents.httpclient.pool.* (leased/available/pending/max) 메트릭
+		new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "onbid").bindTo(meterRegistry);
+		return connectionManager;
+	}
+
+	// Apache HttpClient 5는 기본으로 Accept-Encoding(gzip, deflate)을 보내고 응답을 투명하게 압축 해제합니다.
+	@Bean(destroyMethod = "close")
+	public CloseableHttpClient onbidHttpClient(
+			@Qualifier("onbidConnectionManager") PoolingHttpClientConnectionManager onbidConnectionManager,
+			@Value("${onbid.http.pool-wait-timeout-ms:10000}") long poolWaitTimeoutMs,
+			@Value("${onbid.http.response-timeout-ms:60000}") long responseTimeoutMs) {
+		return HttpClients.custom()
+				.setConnectionManager(onbidConnectionManager)
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectionRequestTimeout(Timeout.ofMilliseconds(poolWaitTimeoutMs)) // 풀에서 커넥션 대기
+						.setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMs)) // 응답 헤더 대기
+						.build())
+				.evictIdleConnections(TimeValue.ofSeconds(30))
+				.build();
+	}
+
+	// 응답 바디를 버퍼링하지 않는 request factory라서 InputStream이 그대로 파서까지 전달됩니다.
+	@Bean
+	public RestTemplate onbidRestTemplate(@Qualifier("onbidHttpClient") CloseableHttpClient onbidHttpClient) {
+		return new RestTemplate(new HttpComponentsClientHttpRequestFactory(onbidHttpClient));
+	}
 }
@@ -54,7 +54,9 @@ public class SecurityConfig {
 						.requestMatchers(HttpMethod.GET, "/api/tenders").permitAll()
 						.requestMatchers(HttpMethod.GET, "/api/tenders/search").permitAll()
 						.requestMatchers(HttpMethod.GET, "/api/tenders/{cltrMnmtNo}").permitAll()
+						.requestMatchers(HttpMethod.GET, "/api/tenders/{cltrMnmtNo}/price-history").permitAll()
 						.requestMatchers("/api/login/**", "/api/signup/**", "/api/faq/**", "/api/mypage/**").permitAll()
+						.requestMatchers(HttpMethod.GET, "/actuator/health/**").permitAll() // liveness/readiness 프로브
 						.requestMatchers("/api/favorites/**").authenticated().requestMatchers("/api/**").authenticated()
 						.anyRequest().authenticated())
 				.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
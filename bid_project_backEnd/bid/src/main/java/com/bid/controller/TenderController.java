@@ -13,7 +13,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.bid.dto.response.PagedTenderResponse;
+import com.bid.dto.response.TenderPriceHistoryDTO;
 import com.bid.dto.response.TenderResponseDTO;
+import com.bid.service.TenderCountCache;
 import com.bid.service.TenderService;
 
 import lombok.RequiredArgsConstructor;
@@ -28,13 +30,23 @@ public class TenderController {
 
 	private final TenderService tenderService;
 	
+	// cursor 파라미터가 있으면 커서(keyset) 모드: 첫 페이지는 cursor=, 다음 페이지는 응답의 nextCursor
+	// count: exact(기본, 캐시된 정확한 건수) / estimate(COUNT 없이 추정) / none(건수 없이 hasNext만)
 	@GetMapping
     public ResponseEntity<PagedTenderResponse> getAllTenders(
-            @RequestParam(name ="pageNo", defaultValue = "1") int pageNo) {    // ✅ numOfRows 파라미터 추가 (기본값 10)
+            @RequestParam(name ="pageNo", defaultValue = "1") int pageNo,    // ✅ numOfRows 파라미터 추가 (기본값 10)
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "count", defaultValue = "exact") String count) {
 		try {
-            PagedTenderResponse tenders = tenderService.getAllTenders(pageNo, 10);
+            PagedTenderResponse tenders = cursor != null
+                    ? tenderService.getTendersAfter(cursor, 10)
+                    : tenderService.getAllTenders(pageNo, 10, TenderCountCache.Mode.from(count));
             log.info("Successfully fetched all tenders. Total count: {}", tenders.getTotalCount());
             return ResponseEntity.ok(tenders);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid tender list request (pageNo={}, cursor={}, count={}): {}", pageNo, cursor, count,
+                    e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             log.error("Error fetching all tenders: {}", e.getMessage(), e);
             return ResponseEntity.status(500).build();
@@ -58,6 +70,19 @@ public class TenderController {
          }
     }
     
+    // 가격 변동 이력 (from/to: yyyy-MM-dd HH:mm:ss, ISO 또는 yyyyMMddHHmmss)
+    @GetMapping("/{cltrMnmtNo}/price-history")
+    public ResponseEntity<List<TenderPriceHistoryDTO>> getPriceHistory(@PathVariable("cltrMnmtNo") String cltrMnmtNo,
+            @RequestParam(name = "from", required = false) String from,
+            @RequestParam(name = "to", required = false) String to) {
+        try {
+            return ResponseEntity.ok(tenderService.getPriceHistory(cltrMnmtNo, from, to));
+        } catch (Exception e) {
+            log.error("Error fetching price history for CLTR_MNMT_NO {}: {}", cltrMnmtNo, e.getMessage(), e);
+            return ResponseEntity.status(500).build();
+        }
+    }
+
 //    상세검색
     @GetMapping("/search") // 간결화 필요
     public ResponseEntity<PagedTenderResponse> searchTenders(
@@ -74,20 +99,31 @@ public class TenderController {
             @RequestParam(name = "pbctClsDtm", required = false) String pbctClsDtm,    // String으로 받아서 서비스에서 파싱
             @RequestParam(name = "pageNo", defaultValue = "1") int pageNo,
             @RequestParam(name = "numOfRows", defaultValue = "10") int numOfRows,
-            @RequestParam(name = "status", defaultValue = "1") int status
+            @RequestParam(name = "status", defaultValue = "1") int status,
+            @RequestParam(name = "cursor", required = false) String cursor, // 있으면 커서(keyset) 모드
+            @RequestParam(name = "count", defaultValue = "exact") String count // exact / estimate / none
     		) {
 
         log.info("Request for search tenders with cltrNm: {}, dpslMtdCd: {}, pageNo: {}, numOfRows: {}",
                 cltrNm, dpslMtdNm, pageNo, numOfRows);
         try {
-            PagedTenderResponse tenders = tenderService.searchTenders(
-                    cltrNm, dpslMtdNm, sido, sgk, emd,
-                    goodsPriceFrom, goodsPriceTo, openPriceFrom, openPriceTo,
-                    pbctBegnDtm, pbctClsDtm,
-                    pageNo, numOfRows, status
-            );
+            PagedTenderResponse tenders = cursor != null
+                    ? tenderService.searchTendersAfter(
+                            cltrNm, dpslMtdNm, sido, sgk, emd,
+                            goodsPriceFrom, goodsPriceTo,
+                            pbctBegnDtm, pbctClsDtm,
+                            cursor, numOfRows)
+                    : tenderService.searchTenders(
+                            cltrNm, dpslMtdNm, sido, sgk, emd,
+                            goodsPriceFrom, goodsPriceTo, openPriceFrom, openPriceTo,
+                            pbctBegnDtm, pbctClsDtm,
+                            pageNo, numOfRows, status, TenderCountCache.Mode.from(count)
+                    );
             log.info("Successfully fetched search tenders. Total count: {}", tenders.getTotalCount());
             return ResponseEntity.ok(tenders);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid tender search request (cursor={}, count={}): {}", cursor, count, e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             log.error("Error searching tenders: {}", e.getMessage(), e);
             return ResponseEntity.status(500).build();
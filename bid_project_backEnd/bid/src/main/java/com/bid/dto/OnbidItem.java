@@ -6,17 +6,18 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 
+// 숫자 항목도 문자열로 받고 OnbidApiParser가 OnbidValueDecoder로 읽습니다 (형식이 틀린 값에 예외를 만들지 않도록).
 @Getter
 @Setter
 @ToString
 public class OnbidItem {
 
-	@JacksonXmlProperty(localName = "RNUM") private Long RNUM;
-    @JacksonXmlProperty(localName = "PLNM_NO") private Long PLNM_NO;
-    @JacksonXmlProperty(localName = "PBCT_NO") private Long PBCT_NO;
-    @JacksonXmlProperty(localName = "PBCT_CDTN_NO") private Long PBCT_CDTN_NO;
-    @JacksonXmlProperty(localName = "CLTR_NO") private Long CLTR_NO;
-    @JacksonXmlProperty(localName = "CLTR_HSTR_NO") private Long CLTR_HSTR_NO;
+	@JacksonXmlProperty(localName = "RNUM") private String RNUM;
+    @JacksonXmlProperty(localName = "PLNM_NO") private String PLNM_NO;
+    @JacksonXmlProperty(localName = "PBCT_NO") private String PBCT_NO;
+    @JacksonXmlProperty(localName = "PBCT_CDTN_NO") private String PBCT_CDTN_NO;
+    @JacksonXmlProperty(localName = "CLTR_NO") private String CLTR_NO;
+    @JacksonXmlProperty(localName = "CLTR_HSTR_NO") private String CLTR_HSTR_NO;
     @JacksonXmlProperty(localName = "SCRN_GRP_CD") private String SCRN_GRP_CD;
     @JacksonXmlProperty(localName = "CTGR_FULL_NM") private String CTGR_FULL_NM;
     @JacksonXmlProperty(localName = "BID_MNMT_NO") private String BID_MNMT_NO;
@@ -28,14 +29,14 @@ public class OnbidItem {
     @JacksonXmlProperty(localName = "DPSL_MTD_CD") private String DPSL_MTD_CD;
     @JacksonXmlProperty(localName = "DPSL_MTD_NM") private String DPSL_MTD_NM;
     @JacksonXmlProperty(localName = "BID_MTD_NM") private String BID_MTD_NM;
-    @JacksonXmlProperty(localName = "MIN_BID_PRC") private Long MIN_BID_PRC;
-    @JacksonXmlProperty(localName = "APSL_ASES_AVG_AMT") private Long APSL_ASES_AVG_AMT;
+    @JacksonXmlProperty(localName = "MIN_BID_PRC") private String MIN_BID_PRC;
+    @JacksonXmlProperty(localName = "APSL_ASES_AVG_AMT") private String APSL_ASES_AVG_AMT;
     @JacksonXmlProperty(localName = "FEE_RATE") private String FEE_RATE;
     @JacksonXmlProperty(localName = "PBCT_BEGN_DTM") private String PBCT_BEGN_DTM;
     @JacksonXmlProperty(localName = "PBCT_CLS_DTM") private String PBCT_CLS_DTM;
     @JacksonXmlProperty(localName = "PBCT_CLTR_STAT_NM") private String PBCT_CLTR_STAT_NM;
-    @JacksonXmlProperty(localName = "USCBD_CNT") private Long USCBD_CNT;
-    @JacksonXmlProperty(localName = "IQRY_CNT") private Long IQRY_CNT;
+    @JacksonXmlProperty(localName = "USCBD_CNT") private String USCBD_CNT;
+    @JacksonXmlProperty(localName = "IQRY_CNT") private String IQRY_CNT;
     @JacksonXmlProperty(localName = "GOODS_NM") private String GOODS_NM;
     @JacksonXmlProperty(localName = "MANF") private String MANF;
     @JacksonXmlProperty(localName = "MDL") private String MDL;
@@ -0,0 +1,11 @@
+package com.bid.dto;
+
+// 동기화 비교용 projection: Tender 엔티티 전체 대신 키/지문/활성 여부만 조회
+public interface TenderSyncState {
+
+	String getCltrMnmtNo();
+
+	String getContentHash();
+
+	Boolean getActive();
+}
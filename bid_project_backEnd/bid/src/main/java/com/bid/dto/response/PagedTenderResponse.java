@@ -16,8 +16,11 @@ import lombok.Setter;
 public class PagedTenderResponse {
 
 	private List<TenderResponseDTO> tenders; // 현재 페이지의 입찰 목록
-    private int totalCount;                  // 전체 입찰 건수
-    private int pageNo;                      // 현재 페이지 번호
+    private Integer totalCount;              // 전체 입찰 건수 (커서 모드나 count=none이면 null)
+    private Boolean totalCountExact;         // totalCount가 정확한 값인지 (false면 이전 동기화 기준 값이거나 하한)
+    private boolean hasNext;                 // 다음 페이지가 있는지 (건수 없이도 항상 채움)
+    private int pageNo;                      // 현재 페이지 번호 (커서 모드에서는 0)
     private int numOfRows;
+    private String nextCursor;               // 다음 페이지 커서 (커서 모드, 마지막 페이지면 null)
     
 }
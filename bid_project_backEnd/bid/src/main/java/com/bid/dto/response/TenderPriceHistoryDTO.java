@@ -0,0 +1,37 @@
+package com.bid.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.bid.entity.TenderPriceHistory;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TenderPriceHistoryDTO {
+
+	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+	private LocalDateTime observedAt; // 이 가격을 처음 확인한 시각
+	private Long pbctNo;
+	private String cltrHstrNo;
+	private Long minBidPrice;
+	private Long apslAsesAvgAmt;
+
+	public static TenderPriceHistoryDTO fromEntity(TenderPriceHistory history) {
+		return TenderPriceHistoryDTO.builder()
+				.observedAt(history.getObservedAt())
+				.pbctNo(history.getPbctNo())
+				.cltrHstrNo(history.getCltrHstrNo())
+				.minBidPrice(history.getMinBidPrice())
+				.apslAsesAvgAmt(history.getApslAsesAvgAmt())
+				.build();
+	}
+}
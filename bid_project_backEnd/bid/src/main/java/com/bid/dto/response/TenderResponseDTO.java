@@ -3,7 +3,9 @@ package com.bid.dto.response;
 import java.time.LocalDateTime;
 
 import com.bid.entity.Tender;
+import com.bid.entity.TenderPhase;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,7 +15,7 @@ import lombok.Setter;
 
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class TenderResponseDTO {
@@ -27,13 +29,47 @@ public class TenderResponseDTO {
 	private String bidNumber; // 입찰 공고 번호
 	private String goodsName;
 	private Long minBidPrice; // MIN_BID_PRC (최저 입찰가)
+	private Long highestBidPrice; // 사용자 입찰 중 최고가 (입찰이 없으면 null)
 	private Long apslAsesAvgAmt;
 	private Long openPriceFrom;
 	private Long openPriceTo;
+
+	// 온비드 물건 목록의 나머지 항목 (Tender 엔티티와 같은 이름)
+	private Long pbctCdtnNo;
+	private Long cltrNo;
+	private String scrnGrpCd;
+	private String ctgrFullNm;
+	private String ldnmAdrs;
+	private String nmrdAdrs;
+	private String ldnmPnu;
+	private String dpslMtdCd;
+	private String bidMtdNm;
+	private String feeRate;
+	private String pbctCltrStatNm;
+	private Long uscbdCnt;
+	private Long iqryCnt;
+	private String manf;
+	private String mdl;
+	private String nrgt;
+	private String grbx;
+	private String endpc;
+	private String vhclMlge;
+	private String fuel;
+	private String scrtNm;
+	private String tpbz;
+	private String itmNm;
+	private String mmbRgtNm;
+	private String cltrImgFiles;
 	
 	private LocalDateTime lastSyncedAt;
     private Boolean active;
 
+    @JsonIgnore
+    private String contentHash; // 동기화 내부용 지문 (응답에는 노출하지 않음)
+
+    @JsonIgnore
+    private String pageDigest; // 동기화 내부용: 이 항목이 들어 있던 페이지 응답의 지문
+
 	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss") // LocalDateTime 직렬화 형식 지정
 	private LocalDateTime announcementDate; // 공고일
 
@@ -48,22 +84,15 @@ public class TenderResponseDTO {
 	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
 	private LocalDateTime pbctClsDtm;
 
+	// 공고 상태: 0 알 수 없음, 1 진행 중, 2 예정, 3 마감 (TenderPhase.code)
+	public static int statusOf(LocalDateTime announcementDate, LocalDateTime deadline) {
+		return TenderPhase.of(announcementDate, deadline, LocalDateTime.now()).code();
+	}
+
 	// 엔티티를 DTO로 변환하는 정적 팩토리 메서드 (간단한 매퍼 역할)
 	public static TenderResponseDTO fromEntity(Tender tender) {
 		
-		LocalDateTime now = LocalDateTime.now();
-		
-		int status;
-		
-		if(tender.getAnnouncementDate() == null || tender.getDeadline() == null) {
-			status = 0;
-		} else if (now.isBefore(tender.getAnnouncementDate())) {
-			status = 2;
-		} else if (now.isAfter(tender.getDeadline())) {
-			status = 3;
-		} else {
-			status = 1;
-		}
+		int status = statusOf(tender.getAnnouncementDate(), tender.getDeadline());
 		return TenderResponseDTO.builder().tenderId(tender.getTenderId()).pbctNo(tender.getPbctNo())
 				.cltrHstrNo(tender.getCltrHstrNo()).cltrMnmtNo(tender.getCltrMnmtNo())
 				.tenderTitle(tender.getTenderTitle()).organization(tender.getOrganization())
@@ -73,6 +102,17 @@ public class TenderResponseDTO {
 				.openPriceTo(tender.getInitialOpenPriceTo())
 				.lastSyncedAt(tender.getLastSyncedAt())
 				.minBidPrice(tender.getMinBidPrice() != null ? tender.getMinBidPrice() : 0L)
+				.highestBidPrice(tender.getHighestBidPrice())
+				.apslAsesAvgAmt(tender.getApslAsesAvgAmt())
+				.pbctCdtnNo(tender.getPbctCdtnNo()).cltrNo(tender.getCltrNo()).scrnGrpCd(tender.getScrnGrpCd())
+				.ctgrFullNm(tender.getCtgrFullNm()).ldnmAdrs(tender.getLdnmAdrs()).nmrdAdrs(tender.getNmrdAdrs())
+				.ldnmPnu(tender.getLdnmPnu()).dpslMtdCd(tender.getDpslMtdCd()).bidMtdNm(tender.getBidMtdNm())
+				.feeRate(tender.getFeeRate()).pbctCltrStatNm(tender.getPbctCltrStatNm())
+				.uscbdCnt(tender.getUscbdCnt()).iqryCnt(tender.getIqryCnt())
+				.manf(tender.getManf()).mdl(tender.getMdl()).nrgt(tender.getNrgt()).grbx(tender.getGrbx())
+				.endpc(tender.getEndpc()).vhclMlge(tender.getVhclMlge()).fuel(tender.getFuel())
+				.scrtNm(tender.getScrtNm()).tpbz(tender.getTpbz()).itmNm(tender.getItmNm())
+				.mmbRgtNm(tender.getMmbRgtNm()).cltrImgFiles(tender.getCltrImgFiles())
                 .active(tender.isActive())
                 .status(status)
 				.build();
@@ -0,0 +1,40 @@
+package com.bid.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 전체 동기화에서 마지막으로 정상 처리한 온비드 페이지 응답의 지문 (다음 실행에서 같은 응답이면 파싱/DB 쓰기 생략)
+@Entity
+@Table(name = "onbid_page_digests", indexes = {
+		@Index(name = "idx_page_digest_query_page", columnList = "querySignature, pageNo", unique = true)
+	})
+@Getter @Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OnbidPageDigest {
+
+	@Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String querySignature; // serviceKey/pageNo를 뺀 요청 파라미터의 SHA-256
+
+    @Column(nullable = false)
+    private int pageNo;
+
+    @Column(nullable = false, length = 64)
+    private String bodyDigest; // 응답 바디 바이트의 SHA-256
+
+    private int itemCount; // 이 페이지에서 파싱한 item 수
+
+    // 조건부 요청(If-None-Match / If-Modified-Since)용 응답 헤더 (온비드가 주는 경우에만 저장)
+    private String etag;
+    private String lastModified;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
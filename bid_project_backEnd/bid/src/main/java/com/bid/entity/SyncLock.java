@@ -0,0 +1,28 @@
+package com.bid.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 여러 앱 노드 중 한 노드만 동기화하도록 하는 DB lease 락 (갱신/획득은 SyncLockRepository의 조건부 UPDATE로 처리)
+@Entity
+@Table(name = "sync_locks")
+@Getter @Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SyncLock {
+
+	@Id
+    @Column(length = 150)
+    private String lockName; // onbid-sync 또는 onbid-sync:{샤드 키}
+
+    @Column(length = 100)
+    private String ownerId; // 락을 가진 노드 (없으면 null)
+
+    @Column(nullable = false)
+    private LocalDateTime leaseUntil; // DB 시각 기준 만료 시각 (지나면 다른 노드가 가져갈 수 있음)
+
+    private LocalDateTime acquiredAt;
+}
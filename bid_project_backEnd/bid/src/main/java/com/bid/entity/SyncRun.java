@@ -0,0 +1,51 @@
+package com.bid.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 온비드 동기화 1회 실행 기록. id가 곧 단조 증가하는 동기화 세대(sync generation)입니다.
+@Entity
+@Table(name = "sync_runs")
+@Getter @Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SyncRun {
+
+	public enum SyncType { FAST, FULL, HOT } // HOT: 마감 임박/관심 공고 우선 갱신
+
+	public enum Status { RUNNING, COMPLETED, FAILED }
+
+	@Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // sync generation
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private SyncType syncType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Status status;
+
+    @Column(length = 100)
+    private String shardKey; // 전체 동기화 샤드 (OnbidShard.key, 빠른 동기화는 null)
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    // 전체 동기화 재개 판단용 (페이지 경계가 같아야 끝난 페이지를 건너뛸 수 있음)
+    private Integer totalCount;
+    private Integer pageSize;
+    private Integer totalPages;
+    private int resumeCount; // 중단 후 이어서 실행한 횟수
+
+    private int newCount;
+    private int updatedCount;
+    private int unchangedCount;
+    private int deactivatedCount;
+    private int skippedPageCount; // 응답이 지난번과 같아 파싱을 생략한 페이지 수
+}
@@ -0,0 +1,36 @@
+package com.bid.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 전체 동기화 1회 실행 안의 페이지별 진행 상태 (재시작 시 DONE이 아닌 페이지만 다시 받기 위함)
+@Entity
+@Table(name = "sync_run_pages", indexes = {
+		@Index(name = "idx_sync_run_page", columnList = "syncRunId, pageNo", unique = true)
+	})
+@Getter @Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SyncRunPage {
+
+	public enum Status { PENDING, DONE, FAILED }
+
+	@Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long syncRunId; // sync_runs.id
+
+    @Column(nullable = false)
+    private int pageNo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Status status;
+
+    private LocalDateTime finishedAt; // DONE/FAILED 로 바뀐 시각
+}
@@ -11,7 +11,12 @@ import lombok.*;
 @Entity
 @Table(name = "tenders", indexes = { // 인덱스 추가 (조회 성능 향상 및 unique 제약 조건)
 	    @Index(name = "idx_cltr_mnmt_no", columnList = "cltrMnmtNo", unique = true),
-	    @Index(name = "idx_announcement_date", columnList = "announcementDate") // 정렬을 위해 인덱스 추가
+	    @Index(name = "idx_announcement_date", columnList = "announcementDate"), // 정렬을 위해 인덱스 추가
+	    @Index(name = "idx_active_list_order", columnList = "active, listOrder, cltrMnmtNo"), // 목록 정렬/페이지네이션용
+	    @Index(name = "idx_phase_deadline", columnList = "phase, deadline"), // 진행 단계별 조회, 마감 전환용
+	    @Index(name = "idx_sync_generation", columnList = "syncGeneration"), // 세대 기반 비활성화 처리용
+	    @Index(name = "idx_sync_shard_generation", columnList = "syncShard, syncGeneration"), // 샤드별 비활성화 처리용
+	    @Index(name = "idx_page_digest", columnList = "pageDigest") // 바뀌지 않은 페이지의 행을 한 번에 확인 처리용
 	})
 @Getter @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // Lombok: 인자 없는 생성자 (JPA 필수)
@@ -34,7 +39,8 @@ public class Tender {
     private String bidNumber;    // 입찰 공고 번호 (BID_MNMT_NO)
     @Column(columnDefinition = "TEXT") // 설명이 길 수 있으므로 TEXT 타입 고려
     private String goodsName;    // 물건 상세 설명 (GOODS_NM)
-    private Long minBidPrice; // MIN_BID_PRC (최저 입찰가)
+    private Long minBidPrice; // MIN_BID_PRC (최저 입찰가, 온비드 값 그대로)
+    private Long highestBidPrice; // 사용자 입찰 중 최고가 (BidService가 갱신, 온비드 동기화는 건드리지 않음)
     private Long apslAsesAvgAmt; // APSL_ASES_AVG_AMT (감정평가액)
     
     private LocalDateTime announcementDate; // 공고일 (PBCT_BEGN_DTM)
@@ -43,9 +49,48 @@ public class Tender {
     private Long initialOpenPriceFrom;
     private Long initialOpenPriceTo;
 
+    // 온비드 물건 목록의 나머지 항목 (OnbidItem 전체 매핑)
+    private Long pbctCdtnNo;      // 공매조건번호 (PBCT_CDTN_NO)
+    private Long cltrNo;          // 물건번호 (CLTR_NO)
+    private String scrnGrpCd;     // 화면그룹코드 (SCRN_GRP_CD)
+    private String ctgrFullNm;    // 용도 전체 이름 (CTGR_FULL_NM)
+    private String ldnmAdrs;      // 지번 주소 (LDNM_ADRS)
+    private String nmrdAdrs;      // 도로명 주소 (NMRD_ADRS)
+    private String ldnmPnu;       // 필지고유번호 (LDNM_PNU)
+    private String dpslMtdCd;     // 처분방식코드 (DPSL_MTD_CD, 0001 매각 / 0002 임대)
+    private String bidMtdNm;      // 입찰방식명 (BID_MTD_NM)
+    private String feeRate;       // 최저입찰가율 (FEE_RATE)
+    private String pbctCltrStatNm; // 물건 상태 (PBCT_CLTR_STAT_NM)
+    private Long uscbdCnt;        // 유찰 횟수 (USCBD_CNT)
+    private Long iqryCnt;         // 조회수 (IQRY_CNT) - 자주 바뀌므로 지문에서 제외
+    private String manf;          // 제조사 (MANF)
+    private String mdl;           // 모델 (MDL)
+    private String nrgt;          // 연식 (NRGT)
+    private String grbx;          // 변속기 (GRBX)
+    private String endpc;         // 배기량 (ENDPC)
+    private String vhclMlge;      // 주행거리 (VHCL_MLGE)
+    private String fuel;          // 연료 (FUEL)
+    private String scrtNm;        // 증권명 (SCRT_NM)
+    private String tpbz;          // 업종 (TPBZ)
+    private String itmNm;         // 품목명 (ITM_NM)
+    private String mmbRgtNm;      // 회원권명 (MMB_RGT_NM)
+    @Column(columnDefinition = "TEXT")
+    private String cltrImgFiles;  // 물건 이미지 파일 (CLTR_IMG_FILES)
+
     // 추가 메타데이터 (데이터 동기화 관리를 위해)
     private LocalDateTime lastSyncedAt; // 이 레코드가 온비드와 마지막으로 동기화된 시간
+    @Column(length = 64)
+    private String contentHash; // 온비드 필드 지문 (SHA-256, 변경된 행만 쓰기 위해 사용)
+    private Long syncGeneration; // 이 행을 마지막으로 확인한 동기화 세대 (sync_runs.id)
+    @Column(length = 100)
+    private String syncShard; // 이 행을 마지막으로 가져온 전체 동기화 샤드 (OnbidShard.key)
+    @Column(length = 64)
+    private String pageDigest; // 이 행을 마지막으로 가져온 전체 동기화 페이지 응답의 지문
     private boolean active; // 현재 활성 상태인지 여부 (예: 기간 만료/삭제된 공고 처리)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private TenderPhase phase; // 진행 단계 (공고일/마감일 기준, 시간이 지나면 TenderPhaseMaintainer가 갱신)
+    private Long listOrder; // 목록 정렬 키 (TenderPhase.listOrder, 시작된 공고 먼저)
 
     // TenderResponseDTO에서 Tender 엔티티로 변환하는 팩토리 메서드 (선택 사항, Mapper로 대체 가능)
     public static Tender fromDto(TenderResponseDTO dto) {
@@ -64,8 +109,35 @@ public class Tender {
                 .apslAsesAvgAmt(dto.getApslAsesAvgAmt())
                 .lastSyncedAt(LocalDateTime.now()) // 생성 시점 기록
                 .active(true) // 기본적으로 활성 상태로 생성
+                .phase(TenderPhase.of(dto.getAnnouncementDate(), dto.getDeadline(), LocalDateTime.now()))
+                .listOrder(TenderPhase.listOrder(dto.getAnnouncementDate(), LocalDateTime.now()))
                 .initialOpenPriceFrom(dto.getOpenPriceFrom())
                 .initialOpenPriceTo(dto.getOpenPriceTo())
+                .pbctCdtnNo(dto.getPbctCdtnNo())
+                .cltrNo(dto.getCltrNo())
+                .scrnGrpCd(dto.getScrnGrpCd())
+                .ctgrFullNm(dto.getCtgrFullNm())
+                .ldnmAdrs(dto.getLdnmAdrs())
+                .nmrdAdrs(dto.getNmrdAdrs())
+                .ldnmPnu(dto.getLdnmPnu())
+                .dpslMtdCd(dto.getDpslMtdCd())
+                .bidMtdNm(dto.getBidMtdNm())
+                .feeRate(dto.getFeeRate())
+                .pbctCltrStatNm(dto.getPbctCltrStatNm())
+                .uscbdCnt(dto.getUscbdCnt())
+                .iqryCnt(dto.getIqryCnt())
+                .manf(dto.getManf())
+                .mdl(dto.getMdl())
+                .nrgt(dto.getNrgt())
+                .grbx(dto.getGrbx())
+                .endpc(dto.getEndpc())
+                .vhclMlge(dto.getVhclMlge())
+                .fuel(dto.getFuel())
+                .scrtNm(dto.getScrtNm())
+                .tpbz(dto.getTpbz())
+                .itmNm(dto.getItmNm())
+                .mmbRgtNm(dto.getMmbRgtNm())
+                .cltrImgFiles(dto.getCltrImgFiles())
                 .build();
     }
 }
@@ -0,0 +1,54 @@
+package com.bid.entity;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 공고 진행 단계 (tenders.phase). code는 TenderResponseDTO.status 값과 같습니다.
+ * 공고일/마감일과 현재 시각으로 정해지므로 동기화가 쓸 때 계산하고, 시간이 지나 바뀌는 행은 TenderPhaseMaintainer가 갱신합니다.
+ */
+public enum TenderPhase {
+	UNKNOWN(0), // 공고일이나 마감일이 없음
+	OPEN(1),
+	UPCOMING(2),
+	CLOSED(3);
+
+	// 목록 정렬 키(tenders.list_order) 구간: 시작된 공고 < UPCOMING_ORDER_BASE <= 예정 공고 < UNDATED_ORDER
+	public static final long UPCOMING_ORDER_BASE = 100_000_000_000L; // epoch 초보다 큰 값
+	public static final long UNDATED_ORDER = Long.MAX_VALUE;
+
+	private final int code;
+
+	TenderPhase(int code) {
+		this.code = code;
+	}
+
+	public int code() {
+		return code;
+	}
+
+	public static TenderPhase of(LocalDateTime announcementDate, LocalDateTime deadline, LocalDateTime now) {
+		if (announcementDate == null || deadline == null) {
+			return UNKNOWN;
+		} else if (now.isBefore(announcementDate)) {
+			return UPCOMING;
+		} else if (now.isAfter(deadline)) {
+			return CLOSED;
+		}
+		return OPEN;
+	}
+
+	/**
+	 * 목록 정렬 키 (오름차순): 시작된 공고(공고일 <= now)는 공고일 최신순, 예정 공고는 공고일이 가까운 순, 공고일이 없으면 마지막.
+	 */
+	public static long listOrder(LocalDateTime announcementDate, LocalDateTime now) {
+		return announcementDate == null ? UNDATED_ORDER
+				: listOrder(announcementDate.toEpochSecond(ZoneOffset.UTC), now.toEpochSecond(ZoneOffset.UTC));
+	}
+
+	// epoch 초(UTC 기준 LocalDateTime) 버전
+	public static long listOrder(long announcementEpochSecond, long nowEpochSecond) {
+		return announcementEpochSecond > nowEpochSecond ? UPCOMING_ORDER_BASE + announcementEpochSecond
+				: -announcementEpochSecond;
+	}
+}
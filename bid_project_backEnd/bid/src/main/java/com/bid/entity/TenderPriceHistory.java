@@ -0,0 +1,41 @@
+package com.bid.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 공고별 온비드 가격 변동 이력 (append-only). 추적하는 가격(최저입찰가/감정가)이 바뀐 동기화에서만 한 행을 추가합니다.
+// (cltrMnmtNo, observedAt) 인덱스 하나로 공고의 기간 조회를 처리합니다.
+@Entity
+@Table(name = "tender_price_history", indexes = {
+		@Index(name = "idx_price_history_tender_time", columnList = "cltrMnmtNo, observedAt")
+	})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class TenderPriceHistory {
+
+	@Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String cltrMnmtNo; // tenders.cltr_mnmt_no (FK 없이 키만 보관)
+
+    @Column(nullable = false)
+    private LocalDateTime observedAt; // 이 가격을 처음 확인한 시각
+
+    @Column(nullable = false)
+    private Long syncGeneration; // 확인한 동기화 세대 (sync_runs.id)
+
+    // 재공고(회차) 구분용
+    private Long pbctNo;
+    @Column(length = 20)
+    private String cltrHstrNo;
+
+    // 추적하는 가격 (온비드 값 그대로, 입찰로 바뀐 tenders.min_bid_price와 무관)
+    private Long minBidPrice;
+    private Long apslAsesAvgAmt;
+}
@@ -0,0 +1,9 @@
+package com.bid.event;
+
+/**
+ * 사용자 입찰로 공고의 최고 입찰가가 올라감 (입찰 트랜잭션이 커밋된 뒤에 처리).
+ *
+ * @param highestBidPrice 입찰 후 최고 입찰가
+ */
+public record TenderBidPlacedEvent(String cltrMnmtNo, long highestBidPrice) {
+}
@@ -0,0 +1,10 @@
+package com.bid.event;
+
+import java.util.List;
+
+/**
+ * 트랜잭션 하나(동기화 chunk/비활성화 한 번)에서 생긴 변경 이벤트 묶음.
+ * 커밋된 뒤에만 TenderChangeBus가 받아서 구독자에게 전달합니다.
+ */
+public record TenderChangeBatch(List<TenderChangeEvent> events) {
+}
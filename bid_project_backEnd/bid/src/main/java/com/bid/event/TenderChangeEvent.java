@@ -0,0 +1,13 @@
+package com.bid.event;
+
+/**
+ * 동기화가 tenders 행을 바꿨을 때 TenderChangeBus로 전달되는 변경 이벤트.
+ * 같은 공고의 이벤트는 발생 순서대로 전달됩니다.
+ */
+public sealed interface TenderChangeEvent permits TenderCreated, TenderChanged, TenderDeactivated {
+
+	String cltrMnmtNo();
+
+	// 변경을 만든 동기화 세대 (sync_runs.id)
+	long generation();
+}
@@ -0,0 +1,18 @@
+package com.bid.event;
+
+import java.util.List;
+
+/**
+ * TenderChangeBus 구독자. 이 인터페이스를 구현한 Bean은 자동으로 등록됩니다.
+ * 이벤트는 버스의 전달 스레드 하나에서 묶음으로 순서대로 전달되므로 오래 걸리는 작업은 피해야 합니다.
+ */
+public interface TenderChangeListener {
+
+	void onTenderChanges(List<TenderChangeEvent> events);
+
+	/**
+	 * 버퍼가 가득 차서 일부 이벤트를 버렸을 때 호출됩니다. 증분 상태를 유지하는 구독자는 전체를 다시 읽어야 합니다.
+	 */
+	default void onEventsDropped(long droppedCount) {
+	}
+}
@@ -0,0 +1,18 @@
+package com.bid.event;
+
+import java.util.Map;
+
+import com.bid.dto.response.TenderResponseDTO;
+
+/**
+ * 기존 공고의 내용이 바뀌었거나 비활성 공고가 다시 나타남.
+ *
+ * @param changes 바뀐 필드 이름 -> 이전/이후 값 (TenderFingerprint 필드 기준, 재활성화는 active 포함)
+ * @param tender  저장된 뒤의 값
+ */
+public record TenderChanged(String cltrMnmtNo, long generation, Map<String, FieldChange> changes,
+		TenderResponseDTO tender) implements TenderChangeEvent {
+
+	public record FieldChange(Object before, Object after) {
+	}
+}
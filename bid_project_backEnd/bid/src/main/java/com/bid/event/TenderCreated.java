@@ -0,0 +1,12 @@
+package com.bid.event;
+
+import com.bid.dto.response.TenderResponseDTO;
+
+/**
+ * 새 공고가 저장됨.
+ *
+ * @param tender 저장된 값
+ */
+public record TenderCreated(String cltrMnmtNo, long generation, TenderResponseDTO tender)
+		implements TenderChangeEvent {
+}
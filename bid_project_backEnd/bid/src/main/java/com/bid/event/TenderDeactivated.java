@@ -0,0 +1,7 @@
+package com.bid.event;
+
+/**
+ * 공고가 온비드에서 더 이상 조회되지 않아 비활성화됨.
+ */
+public record TenderDeactivated(String cltrMnmtNo, long generation) implements TenderChangeEvent {
+}
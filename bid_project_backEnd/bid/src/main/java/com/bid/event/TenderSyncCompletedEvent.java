@@ -0,0 +1,14 @@
+package com.bid.event;
+
+import com.bid.entity.SyncRun;
+
+/**
+ * 온비드 동기화 1회가 정상 완료되었음을 알리는 이벤트.
+ * 동기화를 실행한 노드에서는 바로, 다른 노드에서는 sync_runs를 확인한 SyncCoordinator가 발행합니다.
+ *
+ * @param generation 완료된 동기화 세대 (sync_runs.id)
+ * @param shardKey   전체 동기화 샤드 (빠른 동기화는 null)
+ * @param local      이 노드에서 실행한 동기화인지 여부
+ */
+public record TenderSyncCompletedEvent(long generation, SyncRun.SyncType syncType, String shardKey, boolean local) {
+}
@@ -0,0 +1,13 @@
+package com.bid.exception;
+
+public class OnbidApiException extends RuntimeException {
+
+	public OnbidApiException(String message) {
+        super(message);
+    }
+
+    public OnbidApiException(String message, Throwable cause) {
+        super(message, cause);
+    }
+    
+}
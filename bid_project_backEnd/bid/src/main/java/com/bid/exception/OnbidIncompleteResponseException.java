@@ -0,0 +1,14 @@
+package com.bid.exception;
+
+// 온비드 응답을 끝까지 받지 못했거나(연결 끊김/제한 시간 초과) XML이 깨진 경우 - 다시 받으면 나을 수 있음
+public class OnbidIncompleteResponseException extends OnbidApiException {
+
+	public OnbidIncompleteResponseException(String message) {
+        super(message);
+    }
+
+    public OnbidIncompleteResponseException(String message, Throwable cause) {
+        super(message, cause);
+    }
+    
+}
@@ -0,0 +1,14 @@
+package com.bid.exception;
+
+// 온비드(공공데이터포털)가 호출 한도 초과를 알려온 경우 (HTTP 429/503 또는 returnReasonCode 22/23)
+public class OnbidRateLimitException extends OnbidApiException {
+
+	public OnbidRateLimitException(String message) {
+        super(message);
+    }
+
+    public OnbidRateLimitException(String message, Throwable cause) {
+        super(message, cause);
+    }
+    
+}
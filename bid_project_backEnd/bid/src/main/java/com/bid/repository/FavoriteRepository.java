@@ -1,9 +1,13 @@
 package com.bid.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.bid.entity.Favorite;
@@ -21,5 +25,11 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
 
     // 특정 사용자가 즐겨찾기한 특정 입찰 공고를 삭제
     void deleteByUserAndTender(User user, Tender tender);
+
+    // 우선 갱신 대상: 즐겨찾기가 많은 진행 중(마감 전) 활성 공고의 물건관리번호
+    @Query("SELECT f.tender.cltrMnmtNo FROM Favorite f WHERE f.tender.active = true "
+    		+ "AND (f.tender.deadline IS NULL OR f.tender.deadline > :now) "
+    		+ "GROUP BY f.tender.cltrMnmtNo ORDER BY COUNT(f) DESC")
+    List<String> findMostFavoritedCltrMnmtNos(@Param("now") LocalDateTime now, Pageable pageable);
     
 }
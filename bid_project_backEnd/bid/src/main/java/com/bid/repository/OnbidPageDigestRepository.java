@@ -0,0 +1,17 @@
+package com.bid.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.bid.entity.OnbidPageDigest;
+
+@Repository
+public interface OnbidPageDigestRepository extends JpaRepository<OnbidPageDigest, Long> {
+
+	List<OnbidPageDigest> findByQuerySignature(String querySignature);
+
+	Optional<OnbidPageDigest> findByQuerySignatureAndPageNo(String querySignature, int pageNo);
+}
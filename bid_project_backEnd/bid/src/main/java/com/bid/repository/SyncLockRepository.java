@@ -0,0 +1,50 @@
+package com.bid.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * sync_locks 테이블 lease 락. 노드 간 시계 차이를 피하려고 만료 판단은 모두 DB의 NOW() 기준으로 하고,
+ * 획득/갱신/반납은 조건부 UPDATE 한 문장이라 동시에 시도해도 한 노드만 성공합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SyncLockRepository {
+
+	private static final String ENSURE_SQL = "INSERT IGNORE INTO sync_locks (lock_name, lease_until) VALUES (?, NOW())";
+
+	private static final String ACQUIRE_SQL = "UPDATE sync_locks SET owner_id = ?, acquired_at = NOW(), "
+			+ "lease_until = NOW() + INTERVAL ? SECOND "
+			+ "WHERE lock_name = ? AND (owner_id IS NULL OR owner_id = ? OR lease_until < NOW())";
+
+	private static final String RENEW_SQL = "UPDATE sync_locks SET lease_until = NOW() + INTERVAL ? SECOND "
+			+ "WHERE lock_name = ? AND owner_id = ?";
+
+	private static final String RELEASE_SQL = "UPDATE sync_locks SET owner_id = NULL, lease_until = NOW() "
+			+ "WHERE lock_name = ? AND owner_id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 락이 비어 있거나 만료되었으면 ownerId로 leaseSeconds 동안 가져갑니다.
+	 *
+	 * @return 획득했으면 true
+	 */
+	public boolean tryAcquire(String lockName, String ownerId, long leaseSeconds) {
+		jdbcTemplate.update(ENSURE_SQL, lockName);
+		return jdbcTemplate.update(ACQUIRE_SQL, ownerId, leaseSeconds, lockName, ownerId) == 1;
+	}
+
+	/**
+	 * @return 아직 ownerId가 락을 가지고 있어서 연장했으면 true
+	 */
+	public boolean renew(String lockName, String ownerId, long leaseSeconds) {
+		return jdbcTemplate.update(RENEW_SQL, leaseSeconds, lockName, ownerId) == 1;
+	}
+
+	public void release(String lockName, String ownerId) {
+		jdbcTemplate.update(RELEASE_SQL, lockName, ownerId);
+	}
+}
@@ -0,0 +1,26 @@
+package com.bid.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.bid.entity.SyncRunPage;
+
+@Repository
+public interface SyncRunPageRepository extends JpaRepository<SyncRunPage, Long> {
+
+	// 재개 시 이미 끝난 페이지 번호만 조회
+	@Query("SELECT p.pageNo FROM SyncRunPage p WHERE p.syncRunId = :syncRunId AND p.status = :status")
+	List<Integer> findPageNos(@Param("syncRunId") Long syncRunId, @Param("status") SyncRunPage.Status status);
+
+	@Modifying
+	@Query("UPDATE SyncRunPage p SET p.status = :status, p.finishedAt = :finishedAt "
+			+ "WHERE p.syncRunId = :syncRunId AND p.pageNo = :pageNo")
+	int updateStatus(@Param("syncRunId") Long syncRunId, @Param("pageNo") int pageNo,
+			@Param("status") SyncRunPage.Status status, @Param("finishedAt") LocalDateTime finishedAt);
+}
@@ -0,0 +1,38 @@
+package com.bid.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.bid.entity.SyncRun;
+
+@Repository
+public interface SyncRunRepository extends JpaRepository<SyncRun, Long> {
+
+	// 샤드의 가장 최근 실행 (재개 후보 확인용)
+	Optional<SyncRun> findFirstBySyncTypeAndShardKeyOrderByIdDesc(SyncRun.SyncType syncType, String shardKey);
+
+	// 샤드의 가장 최근 정상 완료 실행 (갱신 주기/고아 행 비활성화 판단용)
+	Optional<SyncRun> findFirstBySyncTypeAndShardKeyAndStatusOrderByFinishedAtDesc(SyncRun.SyncType syncType,
+			String shardKey, SyncRun.Status status);
+
+	// totalCount를 기록한 샤드의 가장 최근 실행 (샤드 합계로 전체 목록을 덮는지 확인용)
+	Optional<SyncRun> findFirstBySyncTypeAndShardKeyAndTotalCountIsNotNullOrderByIdDesc(SyncRun.SyncType syncType,
+			String shardKey);
+
+	// 가장 최근에 시작한 실행 (다른 노드의 완료 감지 기준점)
+	Optional<SyncRun> findFirstByOrderByIdDesc();
+
+	// 기준점 이후에 시작한 실행 (다른 노드의 완료 감지용, id 순)
+	List<SyncRun> findByIdGreaterThanOrderByIdAsc(Long id);
+
+	List<SyncRun> findByStatus(SyncRun.Status status);
+
+	// 가장 최근에 끝난 실행 (스냅샷 세대 확인용)
+	Optional<SyncRun> findFirstByStatusOrderByFinishedAtDesc(SyncRun.Status status);
+
+	Optional<SyncRun> findFirstBySyncTypeAndStatusOrderByFinishedAtDesc(SyncRun.SyncType syncType,
+			SyncRun.Status status);
+}
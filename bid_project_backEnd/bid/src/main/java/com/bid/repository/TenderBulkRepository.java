@@ -0,0 +1,368 @@
+package com.bid.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.bid.dto.response.TenderResponseDTO;
+import com.bid.entity.TenderPhase;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 온비드 동기화 전용 tenders 테이블 벌크 쓰기 (JPA 대신 JDBC 배치 사용).
+ * 건별 findByCltrMnmtNo + save 대신 cltrMnmtNo 유니크 인덱스 기준 INSERT ... ON DUPLICATE KEY UPDATE를
+ * chunk 단위 배치로 보냅니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TenderBulkRepository {
+
+	// 업데이트 시에는 기존 saveOrUpdateTenders와 동일하게 온비드에서 온 필드만 덮어씁니다.
+	// (사용자 입찰가는 highest_bid_price에 따로 있으므로 min_bid_price는 항상 온비드 값)
+	// 빠른/우선 갱신/샤드별 전체 동기화는 서로 다른 락이라 동시에 돌 수 있으므로 세대 번호는 줄어들지 않게 씀
+	// (먼저 시작한 세션이 나중에 쓰면서 세대를 낮추면 DEACTIVATE_OLDER_SQL이 살아 있는 공고를 비활성화함)
+	private static final String MAX_GENERATION_VALUES = "GREATEST(COALESCE(sync_generation, 0), VALUES(sync_generation))";
+
+	private static final String UPSERT_SQL = "INSERT INTO tenders (cltr_mnmt_no, tender_id, pbct_no, cltr_hstr_no, "
+			+ "tender_title, organization, bid_number, goods_name, min_bid_price, apsl_ases_avg_amt, "
+			+ "announcement_date, deadline, initial_open_price_from, initial_open_price_to, last_synced_at, "
+			+ "content_hash, sync_generation, page_digest, sync_shard, "
+			+ "pbct_cdtn_no, cltr_no, scrn_grp_cd, ctgr_full_nm, ldnm_adrs, nmrd_adrs, ldnm_pnu, dpsl_mtd_cd, "
+			+ "bid_mtd_nm, fee_rate, pbct_cltr_stat_nm, uscbd_cnt, iqry_cnt, manf, mdl, nrgt, grbx, endpc, "
+			+ "vhcl_mlge, fuel, scrt_nm, tpbz, itm_nm, mmb_rgt_nm, cltr_img_files, phase, list_order, active) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, "
+			+ "?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, TRUE) "
+			+ "ON DUPLICATE KEY UPDATE tender_id = VALUES(tender_id), pbct_no = VALUES(pbct_no), "
+			+ "cltr_hstr_no = VALUES(cltr_hstr_no), tender_title = VALUES(tender_title), "
+			+ "organization = VALUES(organization), bid_number = VALUES(bid_number), goods_name = VALUES(goods_name), "
+			+ "min_bid_price = VALUES(min_bid_price), "
+			+ "apsl_ases_avg_amt = VALUES(apsl_ases_avg_amt), "
+			+ "announcement_date = VALUES(announcement_date), deadline = VALUES(deadline), "
+			+ "last_synced_at = VALUES(last_synced_at), content_hash = VALUES(content_hash), "
+			+ "sync_generation = " + MAX_GENERATION_VALUES + ", page_digest = COALESCE(VALUES(page_digest), page_digest), "
+			+ "sync_shard = COALESCE(VALUES(sync_shard), sync_shard), "
+			+ "pbct_cdtn_no = VALUES(pbct_cdtn_no), cltr_no = VALUES(cltr_no), scrn_grp_cd = VALUES(scrn_grp_cd), "
+			+ "ctgr_full_nm = VALUES(ctgr_full_nm), ldnm_adrs = VALUES(ldnm_adrs), nmrd_adrs = VALUES(nmrd_adrs), "
+			+ "ldnm_pnu = VALUES(ldnm_pnu), dpsl_mtd_cd = VALUES(dpsl_mtd_cd), bid_mtd_nm = VALUES(bid_mtd_nm), "
+			+ "fee_rate = VALUES(fee_rate), pbct_cltr_stat_nm = VALUES(pbct_cltr_stat_nm), "
+			+ "uscbd_cnt = VALUES(uscbd_cnt), iqry_cnt = VALUES(iqry_cnt), manf = VALUES(manf), mdl = VALUES(mdl), "
+			+ "nrgt = VALUES(nrgt), grbx = VALUES(grbx), endpc = VALUES(endpc), vhcl_mlge = VALUES(vhcl_mlge), "
+			+ "fuel = VALUES(fuel), scrt_nm = VALUES(scrt_nm), tpbz = VALUES(tpbz), itm_nm = VALUES(itm_nm), "
+			+ "mmb_rgt_nm = VALUES(mmb_rgt_nm), cltr_img_files = VALUES(cltr_img_files), "
+			+ "phase = VALUES(phase), list_order = VALUES(list_order), active = TRUE";
+
+	// 내용이 그대로인 행은 세대 번호(와 페이지 지문/샤드)만 갱신 (chunk 당 한 문장)
+	private static final String MARK_SEEN_SQL = "UPDATE tenders "
+			+ "SET sync_generation = GREATEST(COALESCE(sync_generation, 0), :generation), "
+			+ "page_digest = COALESCE(:pageDigest, page_digest), sync_shard = COALESCE(:syncShard, sync_shard) "
+			+ "WHERE cltr_mnmt_no IN (:cltrMnmtNos)";
+
+	// 응답이 지난번과 같은 페이지는 그 페이지에서 왔던 활성 행의 세대 번호만 갱신
+	private static final String MARK_PAGE_SEEN_SQL = "UPDATE tenders "
+			+ "SET sync_generation = GREATEST(COALESCE(sync_generation, 0), ?) "
+			+ "WHERE page_digest = ? AND active = TRUE";
+
+	// 샤드에서 이번 세대에 확인되지 않은 활성 행을 한 번에 비활성화 (set-based)
+	private static final String DEACTIVATE_OLDER_SQL = "UPDATE tenders SET active = FALSE "
+			+ "WHERE active = TRUE AND sync_shard = ? AND (sync_generation IS NULL OR sync_generation < ?)";
+
+	// 비활성화 대상 키 조회 (변경 이벤트용, 같은 트랜잭션에서 아래 UPDATE 직전에 실행)
+	private static final String FIND_OLDER_SQL = "SELECT cltr_mnmt_no FROM tenders "
+			+ "WHERE active = TRUE AND sync_shard = ? AND (sync_generation IS NULL OR sync_generation < ?)";
+
+	private static final String FIND_ACTIVE_SQL = "SELECT cltr_mnmt_no FROM tenders "
+			+ "WHERE active = TRUE AND cltr_mnmt_no IN (:cltrMnmtNos)";
+
+	private static final String FIND_ORPHANS_SQL = "SELECT cltr_mnmt_no FROM tenders "
+			+ "WHERE active = TRUE AND (sync_shard IS NULL OR sync_shard NOT IN (:shardKeys)) "
+			+ "AND (sync_generation IS NULL OR sync_generation < :generationFloor)";
+
+	// 온비드에서 더 이상 조회되지 않는 것으로 확인된 행을 바로 비활성화
+	// (세대 번호도 올려서 다른 노드가 이 세대의 행을 다시 읽을 때 비활성화도 함께 보이게 함)
+	private static final String DEACTIVATE_SQL = "UPDATE tenders SET active = FALSE, "
+			+ "sync_generation = GREATEST(COALESCE(sync_generation, 0), :generation) "
+			+ "WHERE active = TRUE AND cltr_mnmt_no IN (:cltrMnmtNos)";
+
+	// 현재 샤드 구성에 속하지 않는 행(샤드 도입 전 행, 설정에서 빠진 샤드) 중 모든 샤드가 한 번씩 지나간 뒤에도
+	// 확인되지 않은 활성 행을 비활성화
+	private static final String DEACTIVATE_ORPHANS_SQL = "UPDATE tenders SET active = FALSE "
+			+ "WHERE active = TRUE AND (sync_shard IS NULL OR sync_shard NOT IN (:shardKeys)) "
+			+ "AND (sync_generation IS NULL OR sync_generation < :generationFloor)";
+
+	// 진행 단계/정렬 키를 공고일/마감일로 다시 계산 (TenderPhase.of/listOrder와 같은 규칙, epoch 초는 타임존과 무관하게 계산)
+	private static final String RECOMPUTE_PHASE_SQL = "UPDATE tenders SET phase = CASE "
+			+ "WHEN announcement_date IS NULL OR deadline IS NULL THEN 'UNKNOWN' "
+			+ "WHEN announcement_date > :now THEN 'UPCOMING' WHEN deadline < :now THEN 'CLOSED' ELSE 'OPEN' END, "
+			+ "list_order = CASE WHEN announcement_date IS NULL THEN " + TenderPhase.UNDATED_ORDER + " "
+			+ "WHEN announcement_date > :now THEN " + TenderPhase.UPCOMING_ORDER_BASE
+			+ " + TIMESTAMPDIFF(SECOND, '1970-01-01 00:00:00', announcement_date) "
+			+ "ELSE -TIMESTAMPDIFF(SECOND, '1970-01-01 00:00:00', announcement_date) END ";
+
+	// 공고일이 지나 시작된 예정 공고 (정렬 키 구간으로 찾으므로 idx_active_list_order 범위 조회)
+	private static final String START_DUE_SQL = RECOMPUTE_PHASE_SQL
+			+ "WHERE active = TRUE AND list_order >= :upcomingFrom AND list_order <= :upcomingDue";
+
+	// 마감일이 지난 진행 중 공고 (정렬 키는 그대로)
+	private static final String CLOSE_DUE_SQL = RECOMPUTE_PHASE_SQL
+			+ "WHERE phase = 'OPEN' AND deadline < :now";
+
+	// 컬럼 추가 전부터 있던 행 (list_order로 시작하는 인덱스를 못 쓰는 전체 조회라서 시작 후 한 번만 실행)
+	private static final String BACKFILL_PHASE_SQL = RECOMPUTE_PHASE_SQL
+			+ "WHERE phase IS NULL OR list_order IS NULL";
+
+	// 공고별 가장 최근 가격 이력 (바뀐 행의 키만 넘기므로 이력 조회는 변경 건수에 비례)
+	private static final String LATEST_PRICES_SQL = "SELECT cltr_mnmt_no, min_bid_price, apsl_ases_avg_amt FROM ("
+			+ "SELECT cltr_mnmt_no, min_bid_price, apsl_ases_avg_amt, ROW_NUMBER() OVER ("
+			+ "PARTITION BY cltr_mnmt_no ORDER BY observed_at DESC, id DESC) AS rn "
+			+ "FROM tender_price_history WHERE cltr_mnmt_no IN (:cltrMnmtNos)) latest WHERE rn = 1";
+
+	private static final String INSERT_PRICE_HISTORY_SQL = "INSERT INTO tender_price_history (cltr_mnmt_no, "
+			+ "observed_at, sync_generation, pbct_no, cltr_hstr_no, min_bid_price, apsl_ases_avg_amt) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+	// 가격 이력에서 비교하는 값
+	public record TrackedPrices(Long minBidPrice, Long apslAsesAvgAmt) {
+	}
+
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	/**
+	 * tenders를 chunkSize 단위 JDBC 배치로 upsert 합니다. 트랜잭션은 호출하는 쪽에서 관리합니다.
+	 *
+	 * @return 처리(전송)한 행 수
+	 */
+	public int upsertAll(List<TenderResponseDTO> tenders, long generation, String syncShard, int chunkSize) {
+		if (tenders.isEmpty()) {
+			return 0;
+		}
+		LocalDateTime now = LocalDateTime.now();
+		Timestamp syncedAt = Timestamp.valueOf(now);
+
+		jdbcTemplate.batchUpdate(UPSERT_SQL, tenders, chunkSize, (ps, dto) -> {
+			ps.setString(1, dto.getCltrMnmtNo());
+			setLong(ps, 2, dto.getTenderId());
+			setLong(ps, 3, dto.getPbctNo());
+			ps.setString(4, dto.getCltrHstrNo());
+			ps.setString(5, dto.getTenderTitle());
+			ps.setString(6, dto.getOrganization());
+			ps.setString(7, dto.getBidNumber());
+			ps.setString(8, dto.getGoodsName());
+			setLong(ps, 9, dto.getMinBidPrice());
+			setLong(ps, 10, dto.getApslAsesAvgAmt());
+			setDateTime(ps, 11, dto.getAnnouncementDate());
+			setDateTime(ps, 12, dto.getDeadline());
+			setLong(ps, 13, dto.getOpenPriceFrom());
+			setLong(ps, 14, dto.getOpenPriceTo());
+			ps.setTimestamp(15, syncedAt);
+			ps.setString(16, dto.getContentHash());
+			ps.setLong(17, generation);
+			ps.setString(18, dto.getPageDigest());
+			ps.setString(19, syncShard);
+			setLong(ps, 20, dto.getPbctCdtnNo());
+			setLong(ps, 21, dto.getCltrNo());
+			ps.setString(22, dto.getScrnGrpCd());
+			ps.setString(23, dto.getCtgrFullNm());
+			ps.setString(24, dto.getLdnmAdrs());
+			ps.setString(25, dto.getNmrdAdrs());
+			ps.setString(26, dto.getLdnmPnu());
+			ps.setString(27, dto.getDpslMtdCd());
+			ps.setString(28, dto.getBidMtdNm());
+			ps.setString(29, dto.getFeeRate());
+			ps.setString(30, dto.getPbctCltrStatNm());
+			setLong(ps, 31, dto.getUscbdCnt());
+			setLong(ps, 32, dto.getIqryCnt());
+			ps.setString(33, dto.getManf());
+			ps.setString(34, dto.getMdl());
+			ps.setString(35, dto.getNrgt());
+			ps.setString(36, dto.getGrbx());
+			ps.setString(37, dto.getEndpc());
+			ps.setString(38, dto.getVhclMlge());
+			ps.setString(39, dto.getFuel());
+			ps.setString(40, dto.getScrtNm());
+			ps.setString(41, dto.getTpbz());
+			ps.setString(42, dto.getItmNm());
+			ps.setString(43, dto.getMmbRgtNm());
+			ps.setString(44, dto.getCltrImgFiles());
+			ps.setString(45, TenderPhase.of(dto.getAnnouncementDate(), dto.getDeadline(), now).name());
+			ps.setLong(46, TenderPhase.listOrder(dto.getAnnouncementDate(), now));
+		});
+		return tenders.size();
+	}
+
+	/**
+	 * 시간이 지나 단계가 바뀐 행(예정 -> 시작, 진행 -> 마감)의 phase/list_order를 갱신합니다.
+	 *
+	 * @return 갱신한 행 수
+	 */
+	public int advancePhases(LocalDateTime now) {
+		MapSqlParameterSource params = phaseParams(now);
+		return namedParameterJdbcTemplate.update(START_DUE_SQL, params)
+				+ namedParameterJdbcTemplate.update(CLOSE_DUE_SQL, params);
+	}
+
+	/**
+	 * 아직 단계가 없는 행(컬럼 추가 전부터 있던 행)의 phase/list_order를 채웁니다. 전체 조회라서 시작 후 한 번만 호출합니다.
+	 *
+	 * @return 갱신한 행 수
+	 */
+	public int backfillPhases(LocalDateTime now) {
+		return namedParameterJdbcTemplate.update(BACKFILL_PHASE_SQL, phaseParams(now));
+	}
+
+	private static MapSqlParameterSource phaseParams(LocalDateTime now) {
+		return new MapSqlParameterSource("now", Timestamp.valueOf(now))
+				.addValue("upcomingFrom", TenderPhase.UPCOMING_ORDER_BASE)
+				.addValue("upcomingDue", TenderPhase.UPCOMING_ORDER_BASE + now.toEpochSecond(ZoneOffset.UTC));
+	}
+
+	/**
+	 * 공고별 마지막으로 기록된 가격. 이력이 없는 공고는 결과에 없습니다.
+	 */
+	public Map<String, TrackedPrices> findLatestPrices(Collection<String> cltrMnmtNos) {
+		Map<String, TrackedPrices> latest = new HashMap<>();
+		if (cltrMnmtNos.isEmpty()) {
+			return latest;
+		}
+		namedParameterJdbcTemplate.query(LATEST_PRICES_SQL, new MapSqlParameterSource("cltrMnmtNos", cltrMnmtNos),
+				(RowCallbackHandler) rs -> latest.put(rs.getString("cltr_mnmt_no"), new TrackedPrices(
+						getLong(rs, "min_bid_price"), getLong(rs, "apsl_ases_avg_amt"))));
+		return latest;
+	}
+
+	/**
+	 * 가격 이력을 추가합니다 (온비드에서 받은 가격 그대로).
+	 */
+	public void insertPriceHistory(List<TenderResponseDTO> tenders, long generation, int chunkSize) {
+		if (tenders.isEmpty()) {
+			return;
+		}
+		Timestamp observedAt = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(INSERT_PRICE_HISTORY_SQL, tenders, chunkSize, (ps, dto) -> {
+			ps.setString(1, dto.getCltrMnmtNo());
+			ps.setTimestamp(2, observedAt);
+			ps.setLong(3, generation);
+			setLong(ps, 4, dto.getPbctNo());
+			ps.setString(5, dto.getCltrHstrNo());
+			setLong(ps, 6, dto.getMinBidPrice());
+			setLong(ps, 7, dto.getApslAsesAvgAmt());
+		});
+	}
+
+	/**
+	 * 변경 없이 다시 확인된 행들의 세대 번호만 갱신합니다. pageDigest/syncShard가 null이면 기존 값을 유지합니다.
+	 */
+	public int markSeen(List<String> cltrMnmtNos, long generation, String pageDigest, String syncShard) {
+		if (cltrMnmtNos.isEmpty()) {
+			return 0;
+		}
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("generation", generation)
+				.addValue("pageDigest", pageDigest)
+				.addValue("syncShard", syncShard)
+				.addValue("cltrMnmtNos", cltrMnmtNos);
+		return namedParameterJdbcTemplate.update(MARK_SEEN_SQL, params);
+	}
+
+	/**
+	 * pageDigest 페이지에서 마지막으로 가져온 활성 행들의 세대 번호를 갱신합니다.
+	 *
+	 * @return 조건에 맞은 행 수 (MariaDB 드라이버 기본값 기준 found rows)
+	 */
+	public int markPageSeen(String pageDigest, long generation) {
+		return jdbcTemplate.update(MARK_PAGE_SEEN_SQL, generation, pageDigest);
+	}
+
+	/**
+	 * syncShard 샤드에서 generation보다 이전 세대에 마지막으로 확인된 활성 행을 비활성화합니다.
+	 *
+	 * @return 비활성화된 행 수
+	 */
+	public int deactivateOlderThan(String syncShard, long generation) {
+		return jdbcTemplate.update(DEACTIVATE_OLDER_SQL, syncShard, generation);
+	}
+
+	// deactivateOlderThan이 비활성화할 키
+	public List<String> findActiveOlderThan(String syncShard, long generation) {
+		return jdbcTemplate.queryForList(FIND_OLDER_SQL, String.class, syncShard, generation);
+	}
+
+	// deactivate가 비활성화할 키 (지정한 키 중 활성인 것)
+	public List<String> findActive(Collection<String> cltrMnmtNos) {
+		if (cltrMnmtNos.isEmpty()) {
+			return List.of();
+		}
+		return namedParameterJdbcTemplate.queryForList(FIND_ACTIVE_SQL,
+				new MapSqlParameterSource("cltrMnmtNos", cltrMnmtNos), String.class);
+	}
+
+	// deactivateOrphans가 비활성화할 키
+	public List<String> findOrphans(Collection<String> shardKeys, long generationFloor) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("shardKeys", shardKeys)
+				.addValue("generationFloor", generationFloor);
+		return namedParameterJdbcTemplate.queryForList(FIND_ORPHANS_SQL, params, String.class);
+	}
+
+	/**
+	 * 지정한 활성 행을 비활성화합니다.
+	 *
+	 * @param generation 비활성화한 동기화 세대 (sync_runs.id)
+	 * @return 비활성화된 행 수
+	 */
+	public int deactivate(Collection<String> cltrMnmtNos, long generation) {
+		if (cltrMnmtNos.isEmpty()) {
+			return 0;
+		}
+		return namedParameterJdbcTemplate.update(DEACTIVATE_SQL,
+				new MapSqlParameterSource("cltrMnmtNos", cltrMnmtNos).addValue("generation", generation));
+	}
+
+	/**
+	 * shardKeys 어디에도 속하지 않고 generationFloor 이전 세대에 마지막으로 확인된 활성 행을 비활성화합니다.
+	 *
+	 * @return 비활성화된 행 수
+	 */
+	public int deactivateOrphans(Collection<String> shardKeys, long generationFloor) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("shardKeys", shardKeys)
+				.addValue("generationFloor", generationFloor);
+		return namedParameterJdbcTemplate.update(DEACTIVATE_ORPHANS_SQL, params);
+	}
+
+	private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+		if (value == null) {
+			ps.setNull(index, Types.BIGINT);
+		} else {
+			ps.setLong(index, value);
+		}
+	}
+
+	private static Long getLong(ResultSet rs, String column) throws SQLException {
+		long value = rs.getLong(column);
+		return rs.wasNull() ? null : value;
+	}
+
+	private static void setDateTime(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+		if (value == null) {
+			ps.setNull(index, Types.TIMESTAMP);
+		} else {
+			ps.setTimestamp(index, Timestamp.valueOf(value));
+		}
+	}
+}
@@ -0,0 +1,17 @@
+package com.bid.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.bid.entity.TenderPriceHistory;
+
+@Repository
+public interface TenderPriceHistoryRepository extends JpaRepository<TenderPriceHistory, Long> {
+
+	// 공고 하나의 기간 조회 (idx_price_history_tender_time 범위 스캔 한 번)
+	List<TenderPriceHistory> findByCltrMnmtNoAndObservedAtBetweenOrderByObservedAtAsc(String cltrMnmtNo,
+			LocalDateTime from, LocalDateTime to);
+}
@@ -1,20 +1,25 @@
 package com.bid.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.bid.dto.TenderSyncState;
 import com.bid.entity.Tender;
 
 @Repository
 public interface TenderRepository extends JpaRepository<Tender, Long> {
+
+    // readiness 확인용: 응답할 수 있는 데이터가 있는지
+    boolean existsByActiveTrue();
 	
 	List<Tender> findByDeadlineAfter(LocalDateTime date); // 특정 날짜 이후 마감인 입찰 조회
 
@@ -22,15 +27,54 @@ public interface TenderRepository extends JpaRepository<Tender, Long> {
 
 	// cltrMnmtNo로 Tender를 찾는 메서드
     Optional<Tender> findByCltrMnmtNo(String cltrMnmtNo);
+
+    // 변경 이벤트 diff용: 이번 chunk에서 쓰기 전 값
+    List<Tender> findByCltrMnmtNoIn(Collection<String> cltrMnmtNos);
+
+    // 다른 노드의 우선 갱신이 쓰거나 비활성화한 행 (읽기 모델 변경분용, idx_sync_generation)
+    List<Tender> findBySyncGeneration(Long syncGeneration);
+    
+    // 동기화 비교용: 엔티티 대신 키/지문/활성 여부만 조회
+    @Query("SELECT t.cltrMnmtNo AS cltrMnmtNo, t.contentHash AS contentHash, t.active AS active FROM Tender t "
+    		+ "WHERE t.cltrMnmtNo IS NOT NULL")
+    List<TenderSyncState> findAllSyncStates();
+
+    // 샤드 동기화 비교용: 해당 샤드에서 마지막으로 가져온 행만 조회
+    @Query("SELECT t.cltrMnmtNo AS cltrMnmtNo, t.contentHash AS contentHash, t.active AS active FROM Tender t "
+    		+ "WHERE t.cltrMnmtNo IS NOT NULL AND t.syncShard = :syncShard")
+    List<TenderSyncState> findSyncStatesByShard(@Param("syncShard") String syncShard);
+
+    // 우선 갱신 비교용: 지정한 키의 행만 조회
+    @Query("SELECT t.cltrMnmtNo AS cltrMnmtNo, t.contentHash AS contentHash, t.active AS active FROM Tender t "
+    		+ "WHERE t.cltrMnmtNo IN :cltrMnmtNos")
+    List<TenderSyncState> findSyncStatesByCltrMnmtNoIn(@Param("cltrMnmtNos") Collection<String> cltrMnmtNos);
+
+    // 우선 갱신 대상: 곧 마감되는 활성 공고 (마감 임박 순)
+    @Query("SELECT t.cltrMnmtNo FROM Tender t WHERE t.active = true AND t.deadline BETWEEN :from AND :to "
+    		+ "ORDER BY t.deadline ASC")
+    List<String> findCltrMnmtNosClosingBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+    		Pageable pageable);
     
     // active 상태인 Tender들을 페이지네이션하여 조회
-    Page<Tender> findByActiveTrue(Pageable pageable);
+    // Slice라서 count 쿼리 없이 한 건 더 읽어 다음 페이지 여부만 확인 (건수는 countByActiveTrue + TenderCountCache)
+    Slice<Tender> findByActiveTrue(Pageable pageable);
+
+    long countByActiveTrue();
+
+    // 커서(keyset) 페이지네이션: 목록 순서(listOrder, cltrMnmtNo)에서 커서보다 뒤인 활성 공고 (idx_active_list_order 범위 조회)
+    // List로 받으므로 count 쿼리 없음, 페이지 크기는 Pageable(0, n)으로 지정
+    @Query("SELECT t FROM Tender t WHERE t.active = true "
+    		+ "AND (t.listOrder > :listOrder OR (t.listOrder = :listOrder AND t.cltrMnmtNo > :cltrMnmtNo)) "
+    		+ "ORDER BY t.listOrder ASC, t.cltrMnmtNo ASC")
+    List<Tender> findActiveAfter(@Param("listOrder") long listOrder, @Param("cltrMnmtNo") String cltrMnmtNo,
+    		Pageable pageable);
     
     Optional<Tender> findByTenderId(Long tenderId);
     
- // ✅ 상세 검색을 위한 쿼리 메서드 (다양한 조합이 가능하도록)
-    // @Query 어노테이션을 사용하여 동적 쿼리를 작성합니다.
-    @Query("SELECT t FROM Tender t WHERE t.active = true " +
+    // ✅ 상세 검색 조건 (searchTendersByCriteria / countTendersByCriteria / searchTendersAfter가 함께 쓰는 WHERE 절)
+    // 세 쿼리의 조건이 어긋나지 않도록 한 곳에만 두고, 각 @Query는 이 상수에 자기 SELECT/정렬만 붙입니다.
+    // TenderReadModel.SearchFilter와 TenderCountCache의 키도 이 조건과 같은 의미여야 합니다.
+    String SEARCH_CRITERIA = "t.active = true " +
            "AND (:cltrNm IS NULL OR LOWER(t.tenderTitle) LIKE LOWER(CONCAT('%', :cltrNm, '%'))) " + // 물건명 (부분 일치, 대소문자 무시)
            "AND (:dpslMtdNm IS NULL OR t.organization = :dpslMtdNm) " + // 처분방식명 (정확히 일치)
            // 시도, 시군구, 읍면동은 일단 tenderTitle(물건명)에서 함께 검색하는 방식으로 단순화 (주소 필드가 없으므로)
@@ -41,8 +85,11 @@ public interface TenderRepository extends JpaRepository<Tender, Long> {
            "AND (:minGoodsPrice IS NULL OR t.goodsName LIKE CONCAT('%총면적%', :minGoodsPrice, '%')) " + // 감정가 (goodsName에서 파싱 필요)
            "AND (:maxGoodsPrice IS NULL OR t.goodsName LIKE CONCAT('%총면적%', :maxGoodsPrice, '%')) " + // 감정가
            "AND (:pbctBegnDtm IS NULL OR t.announcementDate >= :pbctBegnDtm) " + // 공고 시작일 범위
-           "AND (:pbctClsDtm IS NULL OR t.deadline <= :pbctClsDtm) ") // 공고 마감일 범위
-    Page<Tender> searchTendersByCriteria(
+           "AND (:pbctClsDtm IS NULL OR t.deadline <= :pbctClsDtm) "; // 공고 마감일 범위
+
+    // ✅ 상세 검색을 위한 쿼리 메서드 (다양한 조합이 가능하도록)
+    @Query("SELECT t FROM Tender t WHERE " + SEARCH_CRITERIA)
+    Slice<Tender> searchTendersByCriteria( // Slice: count 쿼리 없음 (건수는 countTendersByCriteria)
             @Param("cltrNm") String cltrNm,
             @Param("dpslMtdNm") String dpslMtdNm, // DTO에서는 dpslMtdCd였지만 엔티티에서는 organization에 저장됩니다.
             @Param("sido") String sido,
@@ -53,4 +100,35 @@ public interface TenderRepository extends JpaRepository<Tender, Long> {
             @Param("pbctBegnDtm") LocalDateTime pbctBegnDtm,
             @Param("pbctClsDtm") LocalDateTime pbctClsDtm,
             Pageable pageable);
+
+    // ✅ 상세 검색 건수 (TenderCountCache에 없을 때만 호출)
+    @Query("SELECT COUNT(t) FROM Tender t WHERE " + SEARCH_CRITERIA)
+    long countTendersByCriteria(
+            @Param("cltrNm") String cltrNm,
+            @Param("dpslMtdNm") String dpslMtdNm,
+            @Param("sido") String sido,
+            @Param("sgk") String sgk,
+            @Param("emd") String emd,
+            @Param("minGoodsPrice") Long minGoodsPrice,
+            @Param("maxGoodsPrice") Long maxGoodsPrice,
+            @Param("pbctBegnDtm") LocalDateTime pbctBegnDtm,
+            @Param("pbctClsDtm") LocalDateTime pbctClsDtm);
+
+    // ✅ 상세 검색의 커서(keyset) 버전 (count 쿼리 없음)
+    @Query("SELECT t FROM Tender t WHERE " + SEARCH_CRITERIA +
+           "AND (t.listOrder > :listOrder OR (t.listOrder = :listOrder AND t.cltrMnmtNo > :cltrMnmtNo)) " +
+           "ORDER BY t.listOrder ASC, t.cltrMnmtNo ASC")
+    List<Tender> searchTendersAfter(
+            @Param("cltrNm") String cltrNm,
+            @Param("dpslMtdNm") String dpslMtdNm,
+            @Param("sido") String sido,
+            @Param("sgk") String sgk,
+            @Param("emd") String emd,
+            @Param("minGoodsPrice") Long minGoodsPrice,
+            @Param("maxGoodsPrice") Long maxGoodsPrice,
+            @Param("pbctBegnDtm") LocalDateTime pbctBegnDtm,
+            @Param("pbctClsDtm") LocalDateTime pbctClsDtm,
+            @Param("listOrder") long listOrder,
+            @Param("cltrMnmtNo") String cltrMnmtNo,
+            Pageable pageable);
 }
@@ -0,0 +1,112 @@
+package com.bid.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 외부 API 동시 호출 수를 AIMD(Additive Increase / Multiplicative Decrease)로 조절하는 limiter.
+ * <ul>
+ * <li>응답이 지연 기준(latencyThreshold)보다 빠르게 성공하면 limit을 1/limit 씩 올립니다 (= 한 윈도우에 +1).</li>
+ * <li>성공했지만 지연 기준을 넘으면 limit에 latencyBackoffRatio를 곱해 조금 줄입니다.</li>
+ * <li>한도 초과(throttle)/오류/타임아웃이면 limit에 dropBackoffRatio를 곱해 크게 줄입니다.</li>
+ * </ul>
+ * ReentrantLock 기반이라 virtual thread에서 대기해도 carrier thread를 잡아두지 않습니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+	public enum Outcome {
+		SUCCESS, // 정상 응답
+		DROPPED, // throttle/오류/타임아웃 - 과부하 신호로 간주
+		IGNORED // 우리 쪽 사유(파이프라인 중단 등)로 실패 - limit에 반영하지 않음
+	}
+
+	private static final double LATENCY_BACKOFF_RATIO = 0.9;
+	private static final double DROP_BACKOFF_RATIO = 0.5;
+
+	private final int minLimit;
+	private final int maxLimit;
+	private final long latencyThresholdNanos;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition slotAvailable = lock.newCondition();
+
+	private double limit;
+	private int inFlight;
+
+	public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long latencyThresholdMs) {
+		if (minLimit < 1 || maxLimit < minLimit) {
+			throw new IllegalArgumentException("Invalid concurrency bounds: min=" + minLimit + ", max=" + maxLimit);
+		}
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMs);
+		this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+	}
+
+	/**
+	 * 호출 슬롯이 날 때까지 대기합니다. 반드시 release로 반납해야 합니다.
+	 */
+	public void acquire() throws InterruptedException {
+		lock.lockInterruptibly();
+		try {
+			while (inFlight >= (int) limit) {
+				slotAvailable.await();
+			}
+			inFlight++;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void release(Outcome outcome, long latencyNanos) {
+		lock.lock();
+		try {
+			inFlight--;
+			switch (outcome) {
+				case SUCCESS -> {
+					if (latencyNanos > latencyThresholdNanos) {
+						limit = Math.max(minLimit, limit * LATENCY_BACKOFF_RATIO);
+					} else {
+						limit = Math.min(maxLimit, limit + 1.0 / limit);
+					}
+				}
+				case DROPPED -> limit = Math.max(minLimit, limit * DROP_BACKOFF_RATIO);
+				case IGNORED -> { }
+			}
+			slotAvailable.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 슬롯을 반납한 뒤에 알게 된 과부하 신호 (받아 둔 바디를 파싱하다 나온 한도 초과 코드 등). DROPPED와 같이 limit을 줄입니다.
+	 */
+	public void onDropped() {
+		lock.lock();
+		try {
+			limit = Math.max(minLimit, limit * DROP_BACKOFF_RATIO);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int getLimit() {
+		lock.lock();
+		try {
+			return (int) limit;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int getInFlight() {
+		lock.lock();
+		try {
+			return inFlight;
+		} finally {
+			lock.unlock();
+		}
+	}
+}
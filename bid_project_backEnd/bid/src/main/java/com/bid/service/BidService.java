@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -14,6 +15,7 @@ import com.bid.dto.response.BidResponseDTO;
 import com.bid.entity.Bid;
 import com.bid.entity.Tender;
 import com.bid.entity.User;
+import com.bid.event.TenderBidPlacedEvent;
 import com.bid.repository.BidRepository;
 import com.bid.repository.TenderRepository;
 import com.bid.repository.UserRepository;
@@ -28,6 +30,7 @@ public class BidService {
 	private final TenderRepository tenderRepository;
 	private final UserRepository userRepository;
 	private final BidRepository bidRepository;
+	private final ApplicationEventPublisher eventPublisher;
 	
 	@Transactional
 	public BidResponseDTO placeBid(BidRequestDTO bidRequestDTO) {
@@ -39,10 +42,11 @@ public class BidService {
 		User user = userRepository.findById(currentUserId)
 				.orElseThrow(() -> new IllegalArgumentException("인증된 사용자 정보를 찾을 수 없습니다."));
 	
-		Long currentMinBidPrice = tender.getMinBidPrice();
+		// 온비드 최저 입찰가(minBidPrice)가 아닌 이 서비스의 입찰 중 최고가와 비교
+		Long currentHighestBidPrice = tender.getHighestBidPrice();
 		Long userBidPrice = bidRequestDTO.getBidPrice();
 		
-		if(currentMinBidPrice == null || currentMinBidPrice == 0L) {
+		if(currentHighestBidPrice == null || currentHighestBidPrice == 0L) {
 			if(userBidPrice <= 0) {
 				throw new IllegalArgumentException("입찰 가격은 0보다 커야 합니다.");
 			}
@@ -50,12 +54,12 @@ public class BidService {
 				throw new IllegalArgumentException("입찰 가격은 공고의 최초 최저 입찰가(" + tender.getInitialOpenPriceFrom() + ")보다 낮을 수 없습니다.");
 			}
 		} else {
-			if (userBidPrice <= currentMinBidPrice) {
-				throw new IllegalArgumentException("입찰 가격은 현재 최저 입찰가(" + currentMinBidPrice + ")보다 높아야 합니다.");
+			if (userBidPrice <= currentHighestBidPrice) {
+				throw new IllegalArgumentException("입찰 가격은 현재 최고 입찰가(" + currentHighestBidPrice + ")보다 높아야 합니다.");
 			}
 		}
 		
-		tender.setMinBidPrice(userBidPrice);
+		tender.setHighestBidPrice(userBidPrice);
 		
 		Bid bid = Bid.builder()
 				.tender(tender)
@@ -79,6 +83,9 @@ public class BidService {
 			}
 		}
 		
+		// 메모리 조회 모델(TenderReadModel)이 커밋 후에 최고 입찰가를 반영
+		eventPublisher.publishEvent(new TenderBidPlacedEvent(tender.getCltrMnmtNo(), userBidPrice));
+
 		return BidResponseDTO.builder()
 				.bidId(savedBid.getBidId())
 				.tenderId(savedBid.getTender().getTenderId())
@@ -86,7 +93,7 @@ public class BidService {
 				.bidPrice(savedBid.getBidPrice())
 				.bidTime(savedBid.getBidTime())
 				.message("입찰이 성공적으로 등록 되었습니다.")
-				.updatedMinBidPrice(tender.getMinBidPrice())
+				.updatedMinBidPrice(tender.getHighestBidPrice()) // 다음 입찰이 넘어야 하는 값
 				.build();
 	}
 	
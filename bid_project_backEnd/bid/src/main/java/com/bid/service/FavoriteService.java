@@ -29,6 +29,7 @@ public class FavoriteService {
 	private final FavoriteRepository favoriteRepository;
     private final UserRepository userRepository;
     private final TenderRepository tenderRepository;
+    private final TenderDetailCache tenderDetailCache;
     
  // 즐겨찾기 추가
     @Transactional
@@ -38,12 +39,12 @@ public class FavoriteService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
         log.info("FavoriteService - User found: {}", user.getUsername());
         
-        Tender tender = tenderRepository.findByCltrMnmtNo(cltrMnmtNo)
+        Tender tender = findTenderReference(cltrMnmtNo)
         		.orElseThrow(() -> {
                     log.error("FavoriteService - Tender not found for cltrMnmtNo: {}", cltrMnmtNo); // ✅ 로그
                     return new ResourceNotFoundException("Tender not found with cltrMnmtNo: " + cltrMnmtNo);
                 });
-        log.info("FavoriteService - Tender found: {}", tender.getTenderTitle());
+        log.info("FavoriteService - Tender found: {}", cltrMnmtNo);
         if (favoriteRepository.findByUserAndTender(user, tender).isPresent()) {
         	log.warn("FavoriteService - Favorite already exists for user {} and tender {}", userId, cltrMnmtNo);
         	return false; // 이미 즐겨찾기 됨
@@ -63,7 +64,7 @@ public class FavoriteService {
     public boolean removeFavorite(Long userId, String cltrMnmtNo) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-        Tender tender = tenderRepository.findByCltrMnmtNo(cltrMnmtNo)
+        Tender tender = findTenderReference(cltrMnmtNo)
                 .orElseThrow(() -> new ResourceNotFoundException("Tender not found with id: " + cltrMnmtNo));
 
         Optional<Favorite> favoriteOpt = favoriteRepository.findByUserAndTender(user, tender);
@@ -78,7 +79,7 @@ public class FavoriteService {
     public boolean isFavorite(Long userId, String cltrMnmtNo) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-        Tender tender = tenderRepository.findByCltrMnmtNo(cltrMnmtNo)
+        Tender tender = findTenderReference(cltrMnmtNo)
                 .orElseThrow(() -> new ResourceNotFoundException("Tender not found with id: " + cltrMnmtNo));
         return favoriteRepository.findByUserAndTender(user, tender).isPresent();
     }
@@ -92,4 +93,10 @@ public class FavoriteService {
                 .map(TenderResponseDTO::fromEntity)
                 .collect(Collectors.toList());
     }
+
+    // 즐겨찾기는 공고의 기본키만 필요하므로 상세 캐시로 id를 찾고 DB 조회 없이 참조(프록시)만 만듦
+    private Optional<Tender> findTenderReference(String cltrMnmtNo) {
+        return tenderDetailCache.findId(cltrMnmtNo)
+                .map(tenderRepository::getReferenceById);
+    }
 }
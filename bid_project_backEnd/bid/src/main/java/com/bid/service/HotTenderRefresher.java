@@ -0,0 +1,140 @@
+package com.bid.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.bid.dto.response.TenderResponseDTO;
+import com.bid.entity.SyncRun;
+import com.bid.repository.FavoriteRepository;
+import com.bid.repository.TenderRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 우선 갱신(hot tier): 곧 마감되는 공고와 즐겨찾기가 많은 공고만 물건관리번호(CLTR_MNMT_NO)로 따로 조회해서
+ * 샤드 전체 동기화(cold tier, 샤드별 refresh-minutes)보다 짧은 주기로 갱신합니다.
+ * 조회 결과는 전체 동기화와 같은 지문 비교/upsert 경로(TenderSyncWriter)로 씁니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HotTenderRefresher {
+
+	static final String HOT_REFRESH_LOCK = SyncCoordinator.ONBID_SYNC_LOCK + ":HOT";
+	private static final String CLTR_MNMT_NO_FILTER = "CLTR_MNMT_NO";
+	private static final int HOT_NUM_OF_ROWS = 10; // 물건관리번호 하나에 해당하는 물건은 보통 1건
+
+	private final OnbidPageFetcher onbidPageFetcher;
+	private final TenderSyncWriter tenderSyncWriter;
+	private final SyncCoordinator syncCoordinator;
+	private final TenderRepository tenderRepository;
+	private final FavoriteRepository favoriteRepository;
+	private final SyncMetrics syncMetrics;
+
+	private final AtomicBoolean running = new AtomicBoolean(false);
+
+	@Value("${onbid.refresh.hot.enabled:true}")
+	private boolean enabled;
+
+	@Value("${onbid.refresh.hot.deadline-window-hours:24}")
+	private long deadlineWindowHours; // 이 시간 안에 마감되는 공고를 우선 갱신
+
+	@Value("${onbid.refresh.hot.max-closing:40}")
+	private int maxClosing;
+
+	@Value("${onbid.refresh.hot.max-favorited:20}")
+	private int maxFavorited;
+
+	@Async("onbidApiExecutor")
+	@Scheduled(fixedDelayString = "${onbid.refresh.hot.interval-ms:300000}",
+			initialDelayString = "${onbid.refresh.hot.interval-ms:300000}")
+	public void refreshHotTendersScheduled() {
+		if (!enabled || !running.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			syncCoordinator.runAsLeader(HOT_REFRESH_LOCK, "HOT refresh", this::refreshHotTenders);
+		} catch (Exception e) {
+			log.error("Hot tender refresh failed: {}", e.getMessage(), e);
+		} finally {
+			running.set(false);
+		}
+	}
+
+	private void refreshHotTenders() {
+		List<String> hotCltrMnmtNos = selectHotTenders();
+		if (hotCltrMnmtNos.isEmpty()) {
+			log.debug("No hot tenders to refresh.");
+			return;
+		}
+		log.info("Refreshing {} hot tenders...", hotCltrMnmtNos.size());
+		TenderSyncWriter.SyncSession session = tenderSyncWriter.openTargetedSession(SyncRun.SyncType.HOT,
+				hotCltrMnmtNos);
+
+		// fetcher 스레드에서는 모으기만 하고, 쓰기는 현재 스레드에서 한 번에 합니다 (세션 건수는 단일 스레드 전제).
+		List<TenderResponseDTO> fetched = Collections.synchronizedList(new ArrayList<>());
+		Map<String, CompletableFuture<OnbidPageFetcher.PageResult>> futures = new LinkedHashMap<>();
+		for (String cltrMnmtNo : hotCltrMnmtNos) {
+			OnbidShard target = OnbidShard.of(Map.of(CLTR_MNMT_NO_FILTER, cltrMnmtNo));
+			futures.put(cltrMnmtNo, onbidPageFetcher.fetchPageAsync(target, 1, HOT_NUM_OF_ROWS, null, null,
+					chunk -> chunk.stream()
+							.filter(dto -> cltrMnmtNo.equals(dto.getCltrMnmtNo())) // 필터와 정확히 일치하는 물건만
+							.forEach(fetched::add)));
+		}
+
+		boolean allOk = true;
+		List<String> missing = new ArrayList<>();
+		for (Map.Entry<String, CompletableFuture<OnbidPageFetcher.PageResult>> entry : futures.entrySet()) {
+			OnbidPageFetcher.PageResult result = entry.getValue().join();
+			if (!result.completed()) {
+				allOk = false;
+			} else if (result.itemCount() == 0) {
+				// 응답 자체가 비어 있을 때만 사라진 것으로 봅니다. 필터가 무시되어 다른 물건만 온 경우는 건드리지 않습니다.
+				missing.add(entry.getKey());
+			}
+		}
+
+		try {
+			syncMetrics.timeChunkWrite(SyncRun.SyncType.HOT,
+					() -> tenderSyncWriter.writeChunk(session, List.copyOf(fetched)));
+			int deactivated = tenderSyncWriter.deactivateTenders(session, missing);
+			log.info("Hot refresh saved/updated {} tenders, deactivated {}.", session.getProcessedCount(), deactivated);
+		} catch (RuntimeException e) {
+			tenderSyncWriter.finishSession(session, SyncRun.Status.FAILED);
+			throw e;
+		}
+		tenderSyncWriter.finishSession(session, allOk ? SyncRun.Status.COMPLETED : SyncRun.Status.FAILED);
+		if (allOk) {
+			syncCoordinator.announceCompleted(session.getGeneration(), SyncRun.SyncType.HOT, null);
+		}
+	}
+
+	// 마감 임박 공고 + 즐겨찾기 상위 공고 (중복 제거, 마감 임박 우선)
+	private List<String> selectHotTenders() {
+		LocalDateTime now = LocalDateTime.now();
+		Set<String> hot = new LinkedHashSet<>();
+		if (maxClosing > 0) {
+			hot.addAll(tenderRepository.findCltrMnmtNosClosingBetween(now, now.plusHours(deadlineWindowHours),
+					PageRequest.of(0, maxClosing)));
+		}
+		if (maxFavorited > 0) {
+			hot.addAll(favoriteRepository.findMostFavoritedCltrMnmtNos(now, PageRequest.of(0, maxFavorited)));
+		}
+		return List.copyOf(hot);
+	}
+}
@@ -1,15 +1,26 @@
 package com.bid.service;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
 
+import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -17,7 +28,13 @@ import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 import org.xml.sax.InputSource;
 
+import com.bid.dto.OnbidItem;
 import com.bid.dto.response.TenderResponseDTO;
+import com.bid.exception.OnbidApiException;
+import com.bid.exception.OnbidIncompleteResponseException;
+import com.bid.exception.OnbidRateLimitException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -29,7 +46,20 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class OnbidApiParser {
 
-	private static final DateTimeFormatter ONBID_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+	// ✅ <item> 하위 트리를 OnbidItem으로 바인딩하는 XmlMapper (설정 후 thread-safe)
+	private static final XmlMapper XML_MAPPER = createXmlMapper();
+
+	// ✅ XMLInputFactory는 생성 비용이 크고 설정 후에는 thread-safe 하므로 하나만 만들어 재사용
+	// (XmlMapper가 바인딩할 수 있도록 XmlMapper와 같은 StAX 구현을 사용)
+	private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+	// 파서 모드: STAX(기본, 스트리밍 단일 패스) / DOM(기존 방식, 비교용)
+	public enum ParserMode {
+		DOM, STAX
+	}
+
+	@Value("${onbid.api.parser-mode:STAX}")
+	private ParserMode parserMode = ParserMode.STAX;
 
 	@Getter
     @Setter
@@ -39,65 +69,126 @@ public class OnbidApiParser {
         private List<TenderResponseDTO> tenders;
         private int totalCount;
     }
-	
+
+	/**
+	 * 응답 스트림을 설정된 모드(onbid.api.parser-mode)로 파싱해 목록으로 반환합니다.
+	 */
+	public TenderListResult parse(InputStream body) {
+		List<TenderResponseDTO> dtoList = new ArrayList<>();
+		int totalCount = parse(body, dtoList::add);
+		return new TenderListResult(dtoList, totalCount);
+	}
+
+	/**
+	 * 응답 스트림을 설정된 모드로 파싱하고, 각 item이 완성될 때마다 itemConsumer로 넘깁니다.
+	 * DOM 모드는 문서를 모두 읽은 뒤 순서대로 넘기므로 결과는 같고 메모리 사용량만 다릅니다.
+	 *
+	 * @return 응답 바디의 totalCount
+	 * @throws OnbidIncompleteResponseException 응답이 잘렸거나 XML이 올바르지 않은 경우 (일부 item만 넘어갔을 수 있음)
+	 * @throws OnbidRateLimitException         호출 한도 초과 결과 코드
+	 * @throws OnbidApiException               그 밖의 오류 결과 코드 (서비스 키 오류 등, 다시 보내도 같음)
+	 */
+	public int parse(InputStream body, Consumer<TenderResponseDTO> itemConsumer) {
+		if (parserMode == ParserMode.DOM) {
+			TenderListResult result;
+			try {
+				result = parseDom(new InputSource(body));
+			} catch (OnbidApiException e) {
+				throw e; // 결과 코드 오류는 그대로 (재시도 여부가 다름)
+			} catch (Exception e) {
+				throw new OnbidIncompleteResponseException("XML 파싱 중 오류 발생: " + e.getMessage(), e);
+			}
+			result.getTenders().forEach(itemConsumer);
+			return result.getTotalCount();
+		}
+		return parseXmlStream(body, itemConsumer);
+	}
+
 	public TenderListResult parseXmlToTenderDtosAndCount(String xmlString) {
-        List<TenderResponseDTO> dtoList = new ArrayList();
+		try {
+			return parseDom(new InputSource(new StringReader(xmlString)));
+		} catch (Exception e) {
+			log.error("XML 파싱 중 오류 발생: {}", e.getMessage(), e);
+			return new TenderListResult(new ArrayList<>(), 0);
+		}
+	}
+
+	// ✅ StAX(XMLStreamReader) 기반 단일 패스 파서: DOM을 만들지 않고 <item>을 만날 때마다 그 하위 트리만
+	// XmlMapper로 OnbidItem에 바인딩해서 DTO로 내보냅니다 (응답 전체를 객체로 만들지 않음).
+	// 스트림이 중간에 끊기면 OnbidIncompleteResponseException을 던집니다 (이미 넘긴 item은 그대로 유효).
+	public int parseXmlStream(InputStream body, Consumer<TenderResponseDTO> itemConsumer) {
+		int totalCount = 0;
+		XMLStreamReader reader = null;
+
+		try {
+			reader = XML_INPUT_FACTORY.createXMLStreamReader(body);
+
+			while (reader.hasNext()) {
+				if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+					continue;
+				}
+				String name = reader.getLocalName();
+				if ("item".equals(name)) {
+					// 바인딩이 끝나면 reader는 </item>에 멈추므로 다음 item부터 이어서 읽습니다.
+					// readerFor(...).readValues()의 MappingIterator는 쓰지 않습니다: 문서 중간의 reader로 만들면
+					// 형제 <item>들이 값의 연속이 아니라 <items> 객체의 같은 이름 필드로 읽혀서 item 단위로 바인딩되지 않습니다.
+					// item마다 readValue를 불러도 OnbidItem 역직렬화기는 매퍼에 캐시되어 있어 새로 만드는 것은 얇은 파서 래퍼뿐입니다.
+					itemConsumer.accept(toDto(XML_MAPPER.readValue(reader, OnbidItem.class)));
+				} else if ("totalCount".equals(name)) {
+					totalCount = parseTotalCount(reader.getElementText());
+				} else if ("resultCode".equals(name) || "returnReasonCode".equals(name)) {
+					checkResultCode(reader.getElementText());
+				}
+			}
+		} catch (XMLStreamException e) {
+			throw new OnbidIncompleteResponseException("XML 스트림 파싱 중 오류 발생: " + e.getMessage(), e);
+		} catch (IOException e) {
+			throw new OnbidIncompleteResponseException("XML item 바인딩 중 오류 발생: " + e.getMessage(), e);
+		} finally {
+			if (reader != null) {
+				try {
+					reader.close();
+				} catch (XMLStreamException e) {
+					log.debug("XMLStreamReader 종료 중 오류: {}", e.getMessage());
+				}
+			}
+		}
+		return totalCount;
+	}
+
+	private TenderListResult parseDom(InputSource inputSource) throws Exception {
+        List<TenderResponseDTO> dtoList = new ArrayList<>();
         int totalCount = 0;
 
-        try {
-            DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-            Document doc = dBuilder.parse(new InputSource(new StringReader(xmlString)));
-            doc.getDocumentElement().normalize();
-
-            NodeList bodyNodes = doc.getElementsByTagName("body");
-            if (bodyNodes.getLength() > 0) {
-                Element bodyElement = (Element) bodyNodes.item(0);
-                String totalCountStr = getTagValue("totalCount", bodyElement);
-
-                if (totalCountStr != null && !totalCountStr.isEmpty()) {
-                    try { totalCount = Integer.parseInt(totalCountStr); }
-                    catch (NumberFormatException e) { log.warn("TotalCount 값 '{}'이 유효한 숫자가 아닙니다.", totalCountStr); }
-                } else { log.warn("XML 응답 바디에서 'totalCount' 태그를 찾을 수 없거나 비어 있습니다."); }
-            } else { log.warn("XML 응답에서 'body' 태그를 찾을 수 없습니다."); }
-
-            NodeList itemList = doc.getElementsByTagName("item");
-
-            for (int i = 0; i < itemList.getLength(); i++) {
-                Node itemNode = itemList.item(i);
-                if (itemNode.getNodeType() == Node.ELEMENT_NODE) {
-                    Element element = (Element) itemNode;
-
-                    String plnmNoStr = getTagValue("PLNM_NO", element);
-                    String pbctNoStr = getTagValue("PBCT_NO", element);
-                    String cltrHstrNoStr = getTagValue("CLTR_HSTR_NO", element);
-                    String cltrMnmtNoStr = getTagValue("CLTR_MNMT_NO", element);
-                    String cltrNm = getTagValue("CLTR_NM", element);
-                    String dpslMtdNm = getTagValue("DPSL_MTD_NM", element);
-                    String bidMnmtNo = getTagValue("BID_MNMT_NO", element);
-                    String pbctBegnDtm = getTagValue("PBCT_BEGN_DTM", element);
-                    String pbctClsDtm = getTagValue("PBCT_CLS_DTM", element);
-                    String goodsName = getTagValue("GOODS_NM", element);
-
-                    Long plnmNo = (plnmNoStr != null && !plnmNoStr.isEmpty()) ? Long.parseLong(plnmNoStr) : null;
-                    Long pbctNo = (pbctNoStr != null && !pbctNoStr.isEmpty()) ? Long.parseLong(pbctNoStr) : null;
-
-                    dtoList.add(TenderResponseDTO.builder()
-                            .tenderId(plnmNo)
-                            .pbctNo(pbctNo)
-                            .cltrHstrNo(cltrHstrNoStr)
-                            .cltrMnmtNo(cltrMnmtNoStr)
-                            .tenderTitle(cltrNm)
-                            .organization(dpslMtdNm)
-                            .bidNumber(bidMnmtNo)
-                            .goodsName(goodsName)
-                            .announcementDate(parseDateTime(pbctBegnDtm))
-                            .deadline(parseDateTime(pbctClsDtm))
-                            .build());
+        DocumentBuilder dBuilder = newDocumentBuilder();
+        Document doc = dBuilder.parse(inputSource);
+        doc.getDocumentElement().normalize();
+
+        checkResultCode(getTagValue("resultCode", doc.getDocumentElement()));
+        checkResultCode(getTagValue("returnReasonCode", doc.getDocumentElement()));
+
+        NodeList bodyNodes = doc.getElementsByTagName("body");
+        if (bodyNodes.getLength() > 0) {
+            Element bodyElement = (Element) bodyNodes.item(0);
+            totalCount = parseTotalCount(getTagValue("totalCount", bodyElement));
+        } else { log.warn("XML 응답에서 'body' 태그를 찾을 수 없습니다."); }
+
+        NodeList itemList = doc.getElementsByTagName("item");
+
+        for (int i = 0; i < itemList.getLength(); i++) {
+            Node itemNode = itemList.item(i);
+            if (itemNode.getNodeType() == Node.ELEMENT_NODE) {
+                Element element = (Element) itemNode;
+
+                // 비교용 모드이므로 하위 요소를 모아 스트리밍 모드와 같은 OnbidItem 바인딩을 거칩니다.
+                Map<String, String> fields = new HashMap<>();
+                for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+                    if (child.getNodeType() == Node.ELEMENT_NODE) {
+                        fields.put(child.getNodeName(), child.getTextContent());
+                    }
                 }
+                dtoList.add(toDto(XML_MAPPER.convertValue(fields, OnbidItem.class)));
             }
-        } catch (Exception e) {
-            log.error("XML 파싱 중 오류 발생: {}", e.getMessage(), e);
         }
         return new TenderListResult(dtoList, totalCount);
     }
@@ -113,15 +204,122 @@ public class OnbidApiParser {
         return null;
     }
 
-    private LocalDateTime parseDateTime(String dateTimeString) {
+    // 헤더의 resultCode(정상 "00") 또는 공공데이터포털 공통 에러의 returnReasonCode를 확인합니다.
+    private void checkResultCode(String code) {
+        if (code == null || code.isBlank()) {
+            return;
+        }
+        String trimmed = code.trim();
+        if ("00".equals(trimmed) || "0".equals(trimmed) || "000".equals(trimmed)) {
+            return;
+        }
+        if ("22".equals(trimmed) || "23".equals(trimmed)) { // LIMITED_NUMBER_OF_SERVICE_REQUESTS_(PER_SECOND_)EXCEEDS_ERROR
+            throw new OnbidRateLimitException("온비드 API 호출 한도 초과 응답 (code " + trimmed + ")");
+        }
+        throw new OnbidApiException("온비드 API 오류 응답 (code " + trimmed + ")");
+    }
+
+    private int parseTotalCount(String totalCountStr) {
+        if (totalCountStr == null || totalCountStr.isEmpty()) {
+            log.warn("XML 응답 바디에서 'totalCount' 태그를 찾을 수 없거나 비어 있습니다.");
+            return 0;
+        }
+        try {
+            return Integer.parseInt(totalCountStr.trim());
+        } catch (NumberFormatException e) {
+            log.warn("TotalCount 값 '{}'이 유효한 숫자가 아닙니다.", totalCountStr);
+            return 0;
+        }
+    }
+
+    private static LocalDateTime parseDateTime(String dateTimeString) {
         if (dateTimeString == null || dateTimeString.isEmpty()) {
             return null;
         }
-        try {
-            return LocalDateTime.parse(dateTimeString, ONBID_DATE_TIME_FORMATTER);
-        } catch (DateTimeParseException e) {
-            log.warn("Failed to parse date-time string: '{}'. Error: {}", dateTimeString, e.getMessage());
+        // 고정 길이 직접 파싱 (형식이 틀려도 예외를 만들지 않음)
+        LocalDateTime parsed = OnbidValueDecoder.parseCompactDateTime(dateTimeString);
+        if (parsed == null) {
+            log.warn("Failed to parse date-time string: '{}'.", dateTimeString);
+        }
+        return parsed;
+    }
+
+    // StAX 쪽(createXmlInputFactory)과 같이 DTD/외부 엔티티(XXE)를 막은 DOM 파서 (팩토리는 thread-safe가 아니므로 호출마다 생성)
+    private static DocumentBuilder newDocumentBuilder() throws ParserConfigurationException {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        factory.setXIncludeAware(false);
+        factory.setExpandEntityReferences(false);
+        return factory.newDocumentBuilder();
+    }
+
+    // 숫자 필드에 숫자가 아닌 값이 오면 item 전체를 버리지 않고 그 필드만 null로 둡니다 (예외 없이).
+    private static Long parseLong(String value) {
+        if (value == null || value.isBlank()) {
             return null;
         }
+        Long parsed = OnbidValueDecoder.parseLong(value);
+        if (parsed == null) {
+            log.warn("숫자 값 '{}'을 파싱할 수 없습니다.", value);
+        }
+        return parsed;
+    }
+
+    private static XmlMapper createXmlMapper() {
+        return XmlMapper.builder()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES) // 온비드가 필드를 추가해도 무시
+                .build();
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XML_MAPPER.getFactory().getXMLInputFactory();
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true); // 텍스트 조각을 하나로 합쳐서 전달
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false); // 외부 엔티티(XXE) 차단
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    // OnbidItem -> 동기화용 DTO. 값 종류가 적은 범주형 문자열은 풀의 인스턴스로 바꿔서 넘깁니다.
+    private static TenderResponseDTO toDto(OnbidItem item) {
+        return TenderResponseDTO.builder()
+                .tenderId(parseLong(item.getPLNM_NO()))
+                .pbctNo(parseLong(item.getPBCT_NO()))
+                .cltrHstrNo(Objects.toString(parseLong(item.getCLTR_HSTR_NO()), null)) // 숫자로 정규화 (앞의 0 제거)
+                .cltrMnmtNo(item.getCLTR_MNMT_NO())
+                .tenderTitle(item.getCLTR_NM())
+                .organization(OnbidValueDecoder.category(item.getDPSL_MTD_NM()))
+                .bidNumber(item.getBID_MNMT_NO())
+                .goodsName(item.getGOODS_NM())
+                .minBidPrice(parseLong(item.getMIN_BID_PRC()))
+                .apslAsesAvgAmt(parseLong(item.getAPSL_ASES_AVG_AMT()))
+                .announcementDate(parseDateTime(item.getPBCT_BEGN_DTM()))
+                .deadline(parseDateTime(item.getPBCT_CLS_DTM()))
+                .pbctCdtnNo(parseLong(item.getPBCT_CDTN_NO()))
+                .cltrNo(parseLong(item.getCLTR_NO()))
+                .scrnGrpCd(OnbidValueDecoder.category(item.getSCRN_GRP_CD()))
+                .ctgrFullNm(OnbidValueDecoder.category(item.getCTGR_FULL_NM()))
+                .ldnmAdrs(item.getLDNM_ADRS())
+                .nmrdAdrs(item.getNMRD_ADRS())
+                .ldnmPnu(item.getLDNM_PNU())
+                .dpslMtdCd(OnbidValueDecoder.category(item.getDPSL_MTD_CD()))
+                .bidMtdNm(OnbidValueDecoder.category(item.getBID_MTD_NM()))
+                .feeRate(OnbidValueDecoder.category(item.getFEE_RATE()))
+                .pbctCltrStatNm(OnbidValueDecoder.category(item.getPBCT_CLTR_STAT_NM()))
+                .uscbdCnt(parseLong(item.getUSCBD_CNT()))
+                .iqryCnt(parseLong(item.getIQRY_CNT()))
+                .manf(OnbidValueDecoder.category(item.getMANF()))
+                .mdl(item.getMDL())
+                .nrgt(item.getNRGT())
+                .grbx(OnbidValueDecoder.category(item.getGRBX()))
+                .endpc(item.getENDPC())
+                .vhclMlge(item.getVHCL_MLGE())
+                .fuel(OnbidValueDecoder.category(item.getFUEL()))
+                .scrtNm(item.getSCRT_NM())
+                .tpbz(item.getTPBZ())
+                .itmNm(item.getITM_NM())
+                .mmbRgtNm(item.getMMB_RGT_NM())
+                .cltrImgFiles(item.getCLTR_IMG_FILES())
+                .build();
     }
 }
@@ -0,0 +1,513 @@
+package com.bid.service;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.bid.dto.response.TenderResponseDTO;
+import com.bid.entity.OnbidPageDigest;
+import com.bid.exception.OnbidApiException;
+import com.bid.exception.OnbidIncompleteResponseException;
+import com.bid.exception.OnbidRateLimitException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 온비드 페이지 조회 스케줄러.
+ * 페이지마다 virtual thread 하나를 쓰고, 실제 동시 호출 수는 AdaptiveConcurrencyLimiter가
+ * 온비드 응답 지연/오류/한도 초과 응답을 보고 조절합니다.
+ */
+@Component
+@Slf4j
+public class OnbidPageFetcher {
+
+	private final RestTemplate restTemplate;
+	private final OnbidApiParser onbidApiParser;
+	private final ExecutorService onbidFetchExecutor;
+	private final AdaptiveConcurrencyLimiter limiter;
+	private final SyncMetrics syncMetrics;
+	private final ScheduledThreadPoolExecutor deadlineScheduler; // 요청별 전체 제한 시간 감시용
+	private final Semaphore pageSlots; // 받기 시작해서 writer 큐에 다 넘길 때까지의 페이지 수 (임시 파일 수 상한)
+	private final int maxOutstandingPages;
+
+	@Value("${onbid.api.base-url}")
+	private String onbidApiBaseUrl;
+
+	@Value("${onbid.api.service-key}")
+	private String onbidApiServiceKey;
+
+	@Value("${onbid.sync.batch-size:1000}")
+	private int syncBatchSize; // 파서 -> writer로 넘기는 chunk 크기
+
+	@Value("${onbid.fetch.max-retries:3}")
+	private int maxRetries;
+
+	@Value("${onbid.fetch.retry-backoff-ms:1000}")
+	private long retryBackoffMs;
+
+	@Value("${onbid.http.request-deadline-ms:300000}")
+	private long requestDeadlineMs; // 요청 시작부터 바디를 다 읽을 때까지의 제한 시간
+
+	public OnbidPageFetcher(@Qualifier("onbidRestTemplate") RestTemplate restTemplate, OnbidApiParser onbidApiParser,
+			@Qualifier("onbidFetchExecutor") ExecutorService onbidFetchExecutor, MeterRegistry meterRegistry,
+			SyncMetrics syncMetrics,
+			@Value("${onbid.fetch.initial-concurrency:4}") int initialConcurrency,
+			@Value("${onbid.fetch.min-concurrency:1}") int minConcurrency,
+			@Value("${onbid.fetch.max-concurrency:16}") int maxConcurrency,
+			@Value("${onbid.fetch.latency-threshold-ms:20000}") long latencyThresholdMs,
+			@Value("${onbid.fetch.max-outstanding-pages:32}") int maxOutstandingPages) {
+		this.restTemplate = restTemplate;
+		this.onbidApiParser = onbidApiParser;
+		this.onbidFetchExecutor = onbidFetchExecutor;
+		this.syncMetrics = syncMetrics;
+		this.limiter = new AdaptiveConcurrencyLimiter(initialConcurrency, minConcurrency, maxConcurrency,
+				latencyThresholdMs);
+		this.deadlineScheduler = new ScheduledThreadPoolExecutor(1,
+				Thread.ofPlatform().name("OnbidDeadline").daemon(true).factory());
+		this.deadlineScheduler.setRemoveOnCancelPolicy(true);
+		// limiter가 최대 동시성까지 올라갈 수 있도록 최소 maxConcurrency
+		this.maxOutstandingPages = Math.max(maxOutstandingPages, maxConcurrency);
+		this.pageSlots = new Semaphore(this.maxOutstandingPages);
+
+		Gauge.builder("onbid.fetch.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+				.description("Current adaptive in-flight request limit for Onbid API calls")
+				.register(meterRegistry);
+		Gauge.builder("onbid.fetch.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+				.description("Onbid API calls currently in flight")
+				.register(meterRegistry);
+		Gauge.builder("onbid.fetch.outstanding-pages", pageSlots,
+				slots -> this.maxOutstandingPages - slots.availablePermits())
+				.description("Pages being fetched, spooled or parsed (held until handed to the writer queue)")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 전체 동기화 한 페이지의 처리 결과. bodyDigest/etag/lastModified는 다음 실행에서 비교하기 위해 저장합니다.
+	 *
+	 * @param skipped 응답이 지난번과 같아 파싱 없이 이전 결과를 재사용했는지 여부
+	 */
+	public record PageResult(boolean completed, boolean skipped, int itemCount, String bodyDigest, String etag,
+			String lastModified) {
+
+		static final PageResult FAILED = new PageResult(false, false, 0, null, null, null);
+	}
+
+	/**
+	 * virtual thread에서 fetchPage를 실행합니다. 동시 호출 수는 limiter가, 받아 둔 페이지 수는 pageSlots가 제한합니다.
+	 */
+	public CompletableFuture<PageResult> fetchPageAsync(OnbidShard shard, int page, int numOfRows,
+			OnbidPageDigest previous, ToIntFunction<String> unchangedPageStamper,
+			Consumer<List<TenderResponseDTO>> chunkSink) {
+		return CompletableFuture.supplyAsync(
+				() -> fetchPage(shard, page, numOfRows, previous, unchangedPageStamper, chunkSink),
+				onbidFetchExecutor);
+	}
+
+	/**
+	 * 필터 없이, 지문 비교 없이 한 페이지를 받습니다 (빠른 동기화용).
+	 *
+	 * @return 페이지를 끝까지 정상 처리했으면 true
+	 */
+	public boolean fetchPage(int page, int numOfRows, Consumer<List<TenderResponseDTO>> chunkSink) {
+		return fetchPage(OnbidShard.ALL, page, numOfRows, null, null, chunkSink).completed();
+	}
+
+	/**
+	 * shard 필터로 한 페이지를 받아 syncBatchSize 단위 chunk로 chunkSink에 넘깁니다.
+	 * 응답 바디는 힙 대신 임시 파일로 받으면서 SHA-256 지문을 계산하고, 다 받으면 연결과 limiter 슬롯을 먼저 반납합니다.
+	 * 파싱과 chunkSink(writer 큐) 전달은 그 뒤에 하므로 writer가 밀려도 온비드 연결을 잡고 있지 않습니다.
+	 * 대신 받기 전에 pageSlots를 얻고 chunk를 모두 넘긴 뒤 반납하므로, writer가 밀리면 새 페이지를 받지 않고 기다립니다
+	 * (임시 파일은 최대 maxOutstandingPages개). 지난번(previous)과 같으면
+	 * unchangedPageStamper로 그 페이지의 기존 행만 확인 처리한 뒤 파싱을 생략합니다.
+	 * 지난번 응답에 ETag/Last-Modified가 있었다면 조건부 요청을 보내고, 304면 바디도 받지 않습니다.
+	 * 재시도 시 이미 넘긴 항목이 다시 넘어갈 수 있으므로 chunkSink는 중복에 안전해야 합니다.
+	 *
+	 * @param previous             지난번 이 페이지의 지문 (없으면 null - 항상 파싱)
+	 * @param unchangedPageStamper 페이지 지문을 받아 그 페이지에서 왔던 행을 확인 처리하고 처리한 행 수를 반환
+	 */
+	public PageResult fetchPage(OnbidShard shard, int page, int numOfRows, OnbidPageDigest previous,
+			ToIntFunction<String> unchangedPageStamper, Consumer<List<TenderResponseDTO>> chunkSink) {
+		log.debug(">>>> Started fetching page {} of shard {} at {}", page, shard.key(), LocalDateTime.now());
+		URI uri = buildPageUri(shard, page, numOfRows);
+		log.debug("Fetching Onbid API data for single page {}: {}", page, uri);
+		boolean trackDigest = unchangedPageStamper != null;
+
+		boolean slotAcquired = false;
+		try {
+			pageSlots.acquire();
+			slotAcquired = true;
+			PageResult result = withRetries("page " + page, () -> readPage(
+					execute(uri, conditionalHeaders(previous), response -> spool(response, page, previous != null)),
+					page, previous, unchangedPageStamper, trackDigest, chunkSink));
+			if (result == null) { // 304였지만 이전 결과를 재사용할 수 없음 -> 조건 없이 다시 요청
+				result = withRetries("page " + page, () -> readPage(
+						execute(uri, new HttpHeaders(), response -> spool(response, page, false)),
+						page, null, null, trackDigest, chunkSink));
+			}
+			log.debug("<<<< Finished fetching page {} at {}{}", page, LocalDateTime.now(),
+					result.skipped() ? " (unchanged, skipped parsing)" : "");
+			return result;
+		} catch (CancellationException e) {
+			log.info("Fetching page {} cancelled: {}", page, e.getMessage());
+			return PageResult.FAILED;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.info("Fetching page {} interrupted.", page);
+			return PageResult.FAILED;
+		} catch (Exception e) {
+			log.error("Error fetching Onbid API data from page {}: {}", page, e.getMessage(), e);
+			syncMetrics.countPage("failed");
+			return PageResult.FAILED;
+		} finally {
+			if (slotAcquired) {
+				pageSlots.release();
+			}
+		}
+	}
+
+	// totalCount만 필요하므로 1건짜리 페이지로 조회합니다. 실패 시 -1
+	public int fetchTotalCount(OnbidShard shard) {
+		URI uri = buildPageUri(shard, 1, 1);
+		try {
+			return withRetries("totalCount of shard " + shard.key(), () -> {
+				try (SpooledBody spooled = execute(uri, new HttpHeaders(), response -> spool(response, 1, false));
+						InputStream body = spooled.open()) {
+					return parseSpooled(body, dto -> {
+					});
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return -1;
+		} catch (Exception e) {
+			log.error("Error fetching totalCount of shard {} from Onbid API: {}", shard.key(), e.getMessage(), e);
+			return -1;
+		}
+	}
+
+	/**
+	 * 페이지 지문 캐시의 키. serviceKey와 pageNo를 뺀 요청 파라미터가 같아야 같은 페이지로 봅니다.
+	 */
+	public String querySignature(OnbidShard shard, int numOfRows) {
+		UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(onbidApiBaseUrl)
+				.queryParam("numOfRows", numOfRows);
+		shard.filters().forEach((name, value) -> builder.queryParam(name, value));
+		// 매핑 필드 구성이 바뀌면 지난 지문을 재사용하지 않도록 지문 버전도 포함
+		return TenderFingerprint.sha256Hex(builder.build().toUriString() + "#v" + TenderFingerprint.VERSION);
+	}
+
+	public int getCurrentConcurrencyLimit() {
+		return limiter.getLimit();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		deadlineScheduler.shutdownNow();
+	}
+
+	private <T> T withRetries(String label, Supplier<T> call) throws InterruptedException {
+		for (int attempt = 0;; attempt++) {
+			try {
+				return call.get();
+			} catch (RuntimeException e) {
+				if (!isRetryable(e) || attempt >= maxRetries) {
+					throw e;
+				}
+				long backoffMs = retryBackoffMs << attempt;
+				log.warn("Onbid API call for {} failed ({}). Retrying in {}ms ({}/{})", label, e.getMessage(),
+						backoffMs, attempt + 1, maxRetries);
+				Thread.sleep(backoffMs); // virtual thread이므로 대기 비용이 거의 없음
+			}
+		}
+	}
+
+	/**
+	 * 받아 둔 응답 한 건을 처리합니다 (연결과 limiter 슬롯은 이미 반납됨). 304면 지난번 결과 재사용을 시도하고(불가하면 null),
+	 * 아니면 지문이 지난번과 다를 때만 파싱합니다. 임시 파일은 처리 후 지웁니다.
+	 */
+	private PageResult readPage(SpooledBody spooled, int page, OnbidPageDigest previous,
+			ToIntFunction<String> unchangedPageStamper, boolean trackDigest,
+			Consumer<List<TenderResponseDTO>> chunkSink) {
+		try (spooled) {
+			if (spooled.notModified()) {
+				if (!reusePrevious(page, previous, unchangedPageStamper)) {
+					return null;
+				}
+				syncMetrics.countPage("not_modified");
+				return new PageResult(true, true, previous.getItemCount(), previous.getBodyDigest(),
+						previous.getEtag(), previous.getLastModified());
+			}
+			if (previous != null && spooled.bodyDigest().equals(previous.getBodyDigest())
+					&& reusePrevious(page, previous, unchangedPageStamper)) {
+				syncMetrics.countPage("skipped");
+				return new PageResult(true, true, previous.getItemCount(), spooled.bodyDigest(), spooled.etag(),
+						spooled.lastModified());
+			}
+
+			ChunkBuffer buffer = new ChunkBuffer(syncBatchSize, trackDigest ? spooled.bodyDigest() : null, chunkSink);
+			long parseStarted = System.nanoTime();
+			try (InputStream body = spooled.open()) {
+				parseSpooled(body, buffer);
+			}
+			buffer.flush();
+			syncMetrics.recordParse(System.nanoTime() - parseStarted - buffer.sinkNanos);
+			syncMetrics.countPage("parsed");
+			return new PageResult(true, false, buffer.count, spooled.bodyDigest(), spooled.etag(),
+					spooled.lastModified());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e); // 임시 파일 읽기 실패 (재시도 대상 아님)
+		}
+	}
+
+	/**
+	 * 응답 추출기: 바디를 임시 파일로 받으면서 SHA-256 지문을 계산합니다. 여기서는 파싱하지 않습니다.
+	 *
+	 * @param conditional 조건부 요청이었는지 (304면 바디 없이 NOT_MODIFIED)
+	 */
+	private SpooledBody spool(ClientHttpResponse response, int page, boolean conditional) throws IOException {
+		if (conditional && response.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+			return SpooledBody.NOT_MODIFIED;
+		}
+		requireOk(response);
+		String etag = response.getHeaders().getETag();
+		String lastModified = response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED);
+
+		Path spoolFile = Files.createTempFile("onbid-page-" + page + "-", ".xml");
+		try {
+			MessageDigest sha256 = newSha256();
+			try (InputStream body = new DigestInputStream(response.getBody(), sha256)) {
+				syncMetrics.recordBytes(Files.copy(body, spoolFile, StandardCopyOption.REPLACE_EXISTING));
+			}
+			return new SpooledBody(spoolFile, HexFormat.of().formatHex(sha256.digest()), etag, lastModified);
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(spoolFile);
+			throw e;
+		}
+	}
+
+	// 바디 안의 한도 초과 코드나 잘린 XML은 슬롯을 반납한 뒤에 알게 되므로 limiter에 따로 알림
+	private int parseSpooled(InputStream body, Consumer<TenderResponseDTO> itemConsumer) {
+		try {
+			return onbidApiParser.parse(body, itemConsumer);
+		} catch (RuntimeException e) {
+			if (isRetryable(e)) {
+				limiter.onDropped();
+			}
+			throw e;
+		}
+	}
+
+	// 지난번 이 페이지에서 왔던 행이 모두 그대로 남아 있을 때만 재사용 (일부가 다른 페이지로 옮겨 갔으면 다시 파싱)
+	private boolean reusePrevious(int page, OnbidPageDigest previous, ToIntFunction<String> unchangedPageStamper) {
+		int stamped = unchangedPageStamper.applyAsInt(previous.getBodyDigest());
+		if (stamped >= previous.getItemCount()) {
+			return true;
+		}
+		log.info("Page {} is unchanged but only {}/{} of its rows still reference it. Re-parsing.", page, stamped,
+				previous.getItemCount());
+		return false;
+	}
+
+	private static HttpHeaders conditionalHeaders(OnbidPageDigest previous) {
+		HttpHeaders headers = new HttpHeaders();
+		if (previous != null) {
+			if (previous.getEtag() != null) {
+				headers.setIfNoneMatch(previous.getEtag());
+			}
+			if (previous.getLastModified() != null) {
+				headers.set(HttpHeaders.IF_MODIFIED_SINCE, previous.getLastModified());
+			}
+		}
+		return headers;
+	}
+
+	private static void requireOk(ClientHttpResponse response) throws IOException {
+		if (!response.getStatusCode().is2xxSuccessful()) {
+			throw new OnbidApiException("Unexpected HTTP Status from Onbid API: " + response.getStatusCode());
+		}
+	}
+
+	private static MessageDigest newSha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+		}
+	}
+
+	/**
+	 * limiter 슬롯을 잡고 한 번 호출합니다. 슬롯과 연결은 responseHandler가 끝나면 반납되므로 handler는 바디를 받기만 합니다.
+	 * 지연 시간은 응답 헤더 수신까지(TTFB)로 측정합니다.
+	 * 연결/헤더 대기는 HTTP 클라이언트 타임아웃이, 바디 수신까지의 전체 시간은 requestDeadlineMs가 제한합니다.
+	 */
+	private <T> T execute(URI uri, HttpHeaders requestHeaders, ResponseExtractor<T> responseHandler) {
+		try {
+			limiter.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CancellationException("Interrupted while waiting for an Onbid request slot.");
+		}
+		long startNanos = System.nanoTime();
+		AtomicLong latencyNanos = new AtomicLong(-1);
+		AdaptiveConcurrencyLimiter.Outcome outcome = AdaptiveConcurrencyLimiter.Outcome.IGNORED;
+		try {
+			T result = restTemplate.execute(uri, HttpMethod.GET, request -> request.getHeaders().addAll(requestHeaders),
+					response -> {
+						latencyNanos.set(System.nanoTime() - startNanos);
+						// 제한 시간이 지나면 응답을 닫아서 바디를 읽던 스레드가 IOException으로 빠져나오게 합니다.
+						AtomicBoolean deadlineExceeded = new AtomicBoolean(false);
+						long remainingMs = requestDeadlineMs
+								- TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+						ScheduledFuture<?> deadline = deadlineScheduler.schedule(() -> {
+							deadlineExceeded.set(true);
+							log.warn("Onbid API request exceeded {}ms deadline. Aborting: {}", requestDeadlineMs, uri);
+							response.close();
+						}, Math.max(remainingMs, 0), TimeUnit.MILLISECONDS);
+						try {
+							return responseHandler.extractData(response);
+						} catch (IOException | RuntimeException e) {
+							if (deadlineExceeded.get()) {
+								throw new OnbidIncompleteResponseException(
+										"Onbid API request exceeded " + requestDeadlineMs + "ms deadline", e);
+							}
+							throw e;
+						} finally {
+							deadline.cancel(false);
+						}
+					});
+			outcome = AdaptiveConcurrencyLimiter.Outcome.SUCCESS;
+			return result;
+		} catch (RuntimeException e) {
+			outcome = isRetryable(e) ? AdaptiveConcurrencyLimiter.Outcome.DROPPED
+					: AdaptiveConcurrencyLimiter.Outcome.IGNORED;
+			throw e;
+		} finally {
+			long latency = latencyNanos.get() >= 0 ? latencyNanos.get() : System.nanoTime() - startNanos;
+			limiter.release(outcome, latency);
+			syncMetrics.recordFetch(outcome, latency);
+		}
+	}
+
+	// 다시 보내면 나을 수 있는 온비드 쪽 과부하/오류 (재시도 대상이고 limiter를 줄이는 신호).
+	// 서비스 키 오류, 잘못된 파라미터 등 그 밖의 결과 코드와 4xx는 다시 보내도 같으므로 바로 실패시킵니다.
+	private static boolean isRetryable(RuntimeException e) {
+		return e instanceof OnbidRateLimitException // 한도 초과 결과 코드
+				|| e instanceof OnbidIncompleteResponseException // 잘린 응답/깨진 XML/제한 시간 초과
+				|| e instanceof ResourceAccessException // 연결 실패/타임아웃/읽기 오류
+				|| e instanceof HttpServerErrorException // 5xx
+				|| e instanceof HttpClientErrorException.TooManyRequests;
+	}
+
+	private URI buildPageUri(OnbidShard shard, int page, int numOfRows) {
+		UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(onbidApiBaseUrl)
+				.queryParam("serviceKey", onbidApiServiceKey).queryParam("pageNo", page)
+				.queryParam("numOfRows", numOfRows);
+		shard.filters().forEach((name, value) -> builder.queryParam(name, value)); // 샤드 필터 (DPSL_MTD_CD, CTGR_HIRK_ID, SIDO 등)
+		return builder.encode().build().toUri();
+	}
+
+	// 임시 파일로 받은 응답 바디 (file이 null이면 304). close하면 파일을 지움
+	private record SpooledBody(Path file, String bodyDigest, String etag, String lastModified)
+			implements AutoCloseable {
+
+		static final SpooledBody NOT_MODIFIED = new SpooledBody(null, null, null, null);
+
+		boolean notModified() {
+			return file == null;
+		}
+
+		InputStream open() throws IOException {
+			if (file == null) {
+				throw new OnbidApiException("Unexpected HTTP Status from Onbid API: 304 NOT_MODIFIED");
+			}
+			return new BufferedInputStream(Files.newInputStream(file));
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (file != null) {
+				Files.deleteIfExists(file);
+			}
+		}
+	}
+
+	// 파서가 넘겨주는 item을 chunkSize 만큼 모아서 다음 단계로 넘기는 버퍼
+	private static final class ChunkBuffer implements Consumer<TenderResponseDTO> {
+
+		private final int chunkSize;
+		private final String pageDigest; // 각 항목에 남길 페이지 지문 (지문을 추적하지 않으면 null)
+		private final Consumer<List<TenderResponseDTO>> chunkSink;
+		private List<TenderResponseDTO> current;
+		private int count;
+		private long sinkNanos; // 다음 단계(writer 큐)에서 기다린 시간 - 파싱 시간에서 뺌
+
+		ChunkBuffer(int chunkSize, String pageDigest, Consumer<List<TenderResponseDTO>> chunkSink) {
+			this.chunkSize = chunkSize;
+			this.pageDigest = pageDigest;
+			this.chunkSink = chunkSink;
+			this.current = new ArrayList<>(chunkSize);
+		}
+
+		@Override
+		public void accept(TenderResponseDTO dto) {
+			dto.setPageDigest(pageDigest);
+			current.add(dto);
+			count++;
+			if (current.size() >= chunkSize) {
+				flush();
+			}
+		}
+
+		void flush() {
+			if (!current.isEmpty()) {
+				long started = System.nanoTime();
+				chunkSink.accept(current);
+				sinkNanos += System.nanoTime() - started;
+				current = new ArrayList<>(chunkSize);
+			}
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package com.bid.service;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 전체 동기화의 단위(샤드). 온비드 조회 필터 파라미터 조합으로 정의되며,
+ * 샤드마다 따로 페이지 조회/재시도/재개/비활성화를 하고 갱신 주기도 따로 가질 수 있습니다.
+ *
+ * @param key     필터를 이름순으로 이어 붙인 문자열 (예: DPSL_MTD_CD=0001). 필터가 없으면 ALL
+ * @param filters 요청에 그대로 붙는 쿼리 파라미터
+ */
+public record OnbidShard(String key, Map<String, String> filters) {
+
+	public static final OnbidShard ALL = new OnbidShard("ALL", Map.of());
+
+	public static OnbidShard of(Map<String, String> filters) {
+		if (filters.isEmpty()) {
+			return ALL;
+		}
+		Map<String, String> sorted = new TreeMap<>(filters);
+		String key = sorted.entrySet().stream()
+				.map(filter -> filter.getKey() + "=" + filter.getValue())
+				.collect(Collectors.joining("&"));
+		return new OnbidShard(key, Collections.unmodifiableMap(sorted));
+	}
+}
@@ -0,0 +1,49 @@
+package com.bid.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Component;
+
+import com.bid.config.OnbidShardProperties;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * onbid.sync.shard.dimensions 설정(필터 파라미터별 값 목록)의 모든 조합으로 전체 동기화를 샤드로 나눕니다.
+ * 예) DPSL_MTD_CD=0001,0002 와 SIDO=서울특별시,부산광역시 -> 4개 샤드.
+ * 샤드들이 전체 목록을 빠짐없이 덮는지는 OnbidSyncService가 totalCount 합계로 확인합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OnbidShardPlanner {
+
+	private final OnbidShardProperties properties;
+
+	public List<OnbidShard> plan() {
+		List<Map<String, String>> combinations = new ArrayList<>();
+		combinations.add(new HashMap<>());
+		for (Map.Entry<String, List<String>> dimension : new TreeMap<>(properties.getDimensions()).entrySet()) {
+			if (dimension.getValue() == null || dimension.getValue().isEmpty()) {
+				continue;
+			}
+			List<Map<String, String>> expanded = new ArrayList<>();
+			for (Map<String, String> combination : combinations) {
+				for (String value : dimension.getValue()) {
+					Map<String, String> filters = new HashMap<>(combination);
+					filters.put(dimension.getKey(), value.trim());
+					expanded.add(filters);
+				}
+			}
+			combinations = expanded;
+		}
+		return combinations.stream().map(OnbidShard::of).toList();
+	}
+
+	public long refreshMinutes(OnbidShard shard) {
+		return properties.getRefreshMinutes().getOrDefault(shard.key(), properties.getDefaultRefreshMinutes());
+	}
+}
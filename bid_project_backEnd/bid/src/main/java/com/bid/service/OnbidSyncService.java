@@ -1,317 +1,356 @@
 package com.bid.service;
 
-import java.net.URI;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
-import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionTemplate;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
 import com.bid.dto.response.TenderResponseDTO;
-import com.bid.entity.Tender;
-import com.bid.repository.TenderRepository;
+import com.bid.entity.OnbidPageDigest;
+import com.bid.entity.SyncRun;
+import com.bid.entity.SyncRunPage;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class OnbidSyncService implements ApplicationRunner {
 
-	private final RestTemplate restTemplate;
-	private final TenderRepository tenderRepository;
-	private final OnbidApiParser onbidApiParser;
-	private final TransactionTemplate transactionTemplate;
-	private final Executor onbidApiExecutor;
-
-	public OnbidSyncService(RestTemplate restTemplate, TenderRepository tenderRepository, OnbidApiParser onbidApiParser,
-			TransactionTemplate transactionTemplate, @Qualifier("onbidApiExecutor") Executor onbidApiExecutor) {
-		this.restTemplate = restTemplate;
-		this.tenderRepository = tenderRepository;
-		this.onbidApiParser = onbidApiParser;
-		this.transactionTemplate = transactionTemplate;
-		this.onbidApiExecutor = onbidApiExecutor;
-	}
+	private final OnbidPageFetcher onbidPageFetcher;
+	private final TenderSyncWriter tenderSyncWriter;
+	private final SyncCoordinator syncCoordinator;
+	private final OnbidShardPlanner onbidShardPlanner;
+	private final SyncMetrics syncMetrics;
+	private final SyncProgressTracker syncProgressTracker;
+
+	@Value("${onbid.sync.pipeline-queue-capacity:4}")
+	private int pipelineQueueCapacity; // 파서와 writer 사이 대기 chunk 수 (가득 차면 fetcher가 대기)
 
-	@Value("${onbid.api.base-url}")
-	private String onbidApiBaseUrl;
+	@Value("${onbid.sync.run-on-startup:true}")
+	private boolean runOnStartup; // false면 시작 시 동기화 없이 주기 작업만 실행 (벤치마크 등에서 직접 호출)
 
-	@Value("${onbid.api.service-key}")
-	private String onbidApiServiceKey;
+	@Value("${onbid.sync.min-interval-minutes:50}")
+	private long minSyncIntervalMinutes; // 이 시간 안에 전체 동기화가 끝난 적이 있으면 빠른 동기화를 건너뜀
 
 	private static final int MAX_ONBID_API_NUM_OF_ROWS = 99; // API 한 번 호출 시 가져올 최대 건수
+	private static final int FULL_SYNC_NUM_OF_ROWS = 10000; // 전체 동기화 시 페이지당 건수
 	private static final int INITIAL_FAST_SYNC_PAGES = 2;
+	private static final double SHARD_COVERAGE_RATIO = 0.99; // 샤드 합계가 전체의 99% 미만이면 덮지 못한다고 판단
+
+	/**
+	 * fetcher -> writer 로 넘기는 단위. pageResult가 null이면 데이터 chunk, 아니면 해당 페이지의 최종 결과입니다.
+	 * 한 페이지의 chunk들은 같은 fetcher 스레드가 순서대로 넣으므로, 결과 표식은 항상 그 페이지의 chunk 뒤에 옵니다.
+	 */
+	private record PageChunk(int pageNo, List<TenderResponseDTO> tenders, OnbidPageFetcher.PageResult pageResult) {
+	}
+
+	// 모든 페이지 fetch가 끝났음을 writer에게 알리는 표식 (identity 비교)
+	private static final PageChunk END_OF_PAGES = new PageChunk(-1, List.of(), null);
 
-	// ✅ 동기화 상태 추적 (로딩 중 사용자에게 알리기 위함)
-	private boolean isSyncing = false;
+	public enum SyncState { IDLE, FAST_SYNC, FULL_SYNC }
+
+	private static final String FAST_SYNC_SLOT = "FAST";
+
+	// ✅ 동기화 상태 추적 (로딩 중 사용자에게 알리기 위함). 실행 중인 슬롯(FAST 또는 샤드 키) -> 상태이며,
+	// 슬롯 점유는 putIfAbsent로만 해서 같은 슬롯의 동기화가 한 노드에서 두 번 돌지 않게 합니다.
+	private final ConcurrentMap<String, SyncState> activeSyncs = new ConcurrentHashMap<>();
 
 	public boolean isSyncing() {
-		return isSyncing;
+		return !activeSyncs.isEmpty();
+	}
+
+	public SyncState getSyncState() {
+		if (activeSyncs.containsValue(SyncState.FULL_SYNC)) {
+			return SyncState.FULL_SYNC;
+		}
+		return activeSyncs.isEmpty() ? SyncState.IDLE : SyncState.FAST_SYNC;
 	}
 
+	/**
+	 * 시작 시 동기화는 별도 스레드에서 돌리고 바로 반환합니다. 그동안 API는 DB에 있는 기존 데이터로 응답하며,
+	 * 데이터가 준비되었는지는 readiness(TenderDataHealthIndicator)로 알립니다.
+	 */
 	@Override
 	public void run(ApplicationArguments args) throws Exception {
-		log.info("Application started. Initiating initial Onbid Tender synchronization...");
-		// ✅ 첫 동기화는 빠르게 필수 데이터만 가져옵니다.
-		performFastSync();
-		log.info("Initial fast Onbid Tender synchronization completed. Full sync will run in background.");
-
-		// ✅ 나머지 전체 동기화는 별도의 비동기 스레드에서 실행
-		performFullSyncInBackground();
+		if (!runOnStartup) {
+			log.info("Application started. Initial Onbid Tender synchronization is disabled.");
+			return;
+		}
+		log.info("Application started. Initiating initial Onbid Tender synchronization in background...");
+		Thread.ofVirtual().name("OnbidInitialSync").start(() -> {
+			try {
+				// ✅ 첫 동기화는 빠르게 필수 데이터만 가져옵니다.
+				performFastSync();
+				log.info("Initial fast Onbid Tender synchronization completed. Full sync will run in background.");
+			} catch (Exception e) {
+				log.error("Initial fast Onbid Tender synchronization failed: {}", e.getMessage(), e);
+			}
+			// ✅ 나머지 전체 동기화는 샤드별 별도 스레드에서 실행
+			performFullSyncInBackground();
+		});
 	}
 
-	@Scheduled(fixedRate = 3600000, initialDelay = 3600000)
+	// 샤드마다 갱신 주기(onbid.sync.shard.*refresh-minutes)가 지났는지 확인해서 필요한 샤드만 동기화합니다.
+	@Scheduled(fixedDelayString = "${onbid.sync.shard.check-interval-ms:60000}",
+			initialDelayString = "${onbid.sync.shard.check-interval-ms:60000}")
 	public void syncOnbidTendersScheduled() { // 메서드 이름 변경 (run()과 충돌 방지)
-		log.info("Starting scheduled Onbid Tender synchronization at {}", LocalDateTime.now());
-		if (!isSyncing) { // 현재 동기화 중이 아니라면
-			isSyncing = true;
-			performFullSyncInBackground(); // 스케줄된 동기화도 비동기로
-		} else {
-			log.info("Skipping scheduled sync, another sync is already in progress.");
-		}
+		performFullSyncInBackground(); // 진행 중이거나 주기가 안 된 샤드는 내부에서 건너뜀
+	}
+
+	void performFastSync() {
+		runExclusively(FAST_SYNC_SLOT, SyncState.FAST_SYNC, SyncCoordinator.ONBID_SYNC_LOCK, () -> {
+			if (syncCoordinator.completedWithin(SyncRun.SyncType.FULL, minSyncIntervalMinutes)) {
+				log.info("A full sync completed within {} minutes. Skipping fast sync.", minSyncIntervalMinutes);
+				return;
+			}
+			runFastSync();
+		});
 	}
 
-	private void performFastSync() {
+	private void runFastSync() {
 		log.info("Starting fast sync for initial {} pages...", INITIAL_FAST_SYNC_PAGES);
-		List<TenderResponseDTO> fastSyncTenders = fetchOnbidDataPages(1, INITIAL_FAST_SYNC_PAGES);
+		TenderSyncWriter.SyncSession session = tenderSyncWriter.openSession(SyncRun.SyncType.FAST);
 
-		transactionTemplate.execute(status -> { // 트랜잭션 관리
-			return saveOrUpdateTenders(fastSyncTenders);
-		});
-		log.info("Fast sync saved/updated {} tenders.", fastSyncTenders.size());
+		// 빠른 동기화는 일부 페이지만 보므로 비활성화 처리는 하지 않습니다.
+		boolean allPagesOk = true;
+		syncProgressTracker.start(session, INITIAL_FAST_SYNC_PAGES, INITIAL_FAST_SYNC_PAGES);
+		try {
+			for (int page = 1; page <= INITIAL_FAST_SYNC_PAGES; page++) {
+				allPagesOk &= onbidPageFetcher.fetchPage(page, MAX_ONBID_API_NUM_OF_ROWS,
+						chunk -> syncMetrics.timeChunkWrite(SyncRun.SyncType.FAST,
+								() -> tenderSyncWriter.writeChunk(session, chunk)));
+				syncProgressTracker.pageDone(session);
+			}
+		} finally {
+			syncProgressTracker.finish(session);
+		}
+		log.info("Fast sync saved/updated {} tenders.", session.getProcessedCount());
+		tenderSyncWriter.finishSession(session, allPagesOk ? SyncRun.Status.COMPLETED : SyncRun.Status.FAILED);
+		if (allPagesOk) {
+			syncCoordinator.announceCompleted(session.getGeneration(), SyncRun.SyncType.FAST, null);
+		}
 	}
 
+	/**
+	 * 갱신 주기가 지난 샤드마다 virtual thread 하나에서 전체 동기화 파이프라인을 돌립니다.
+	 * 샤드는 각자 lease/재개/비활성화를 하므로 한 샤드가 실패해도 다른 샤드에는 영향이 없습니다.
+	 */
 	@Async("onbidApiExecutor")
-	@Transactional(readOnly = false) // @Async와 @Transactional을 함께 사용 시 주의: 새로운 트랜잭션에서 실행됨
 	public void performFullSyncInBackground() {
-		if (isSyncing) {
-			log.info("Full sync is already in progress. Skipping new request.");
+		List<OnbidShard> plannedShards = onbidShardPlanner.plan();
+		List<OnbidShard> dueShards = dueShards(plannedShards);
+		if (dueShards.isEmpty()) {
 			return;
 		}
-		isSyncing = true;
-		log.info("Starting full sync in background...");
-		long fullSyncStartTime = System.currentTimeMillis();
-
-		int totalCount = 0;
-		int totalPages = 1;
-
-		UriComponentsBuilder initialUriBuilder = UriComponentsBuilder.fromUriString(onbidApiBaseUrl)
-				.queryParam("serviceKey", onbidApiServiceKey).queryParam("pageNo", 1)
-				.queryParam("numOfRows", 10000);
-
-		try {
-			ResponseEntity<String> initialResponseEntity = restTemplate
-					.getForEntity(initialUriBuilder.encode().build().toUri(), String.class);
-			if (initialResponseEntity.getStatusCode().is2xxSuccessful() && initialResponseEntity.getBody() != null) {
-				String xmlResponse = initialResponseEntity.getBody();
-			    log.info(">>>> Raw XML Response from Onbid API (initial): {}", xmlResponse);
-				
-				OnbidApiParser.TenderListResult initialParsedResult = onbidApiParser
-						.parseXmlToTenderDtosAndCount(initialResponseEntity.getBody());
-				totalCount = initialParsedResult.getTotalCount();
-				totalPages = (int) Math.ceil((double) totalCount / 10000);
-				log.info("Onbid API Total Count: {}. Calculated Total Pages: {} (based on {} rows/page)", totalCount,
-						totalPages, 10000);
-			} else {
-				log.error("Failed to get initial totalCount from Onbid API. HTTP Status: {}",
-						initialResponseEntity.getStatusCode());
-				isSyncing = false;
-				return;
-			}
-		} catch (Exception e) {
-			log.error("Error fetching initial totalCount from Onbid API: {}", e.getMessage(), e);
-			isSyncing = false;
-			return;
+		if (plannedShards.size() > 1 && !shardsCoverCatalog(plannedShards)) {
+			plannedShards = List.of(OnbidShard.ALL);
+			dueShards = dueShards(plannedShards);
 		}
+		log.info("Starting full sync for {} due shard(s) at {}: {}", dueShards.size(), LocalDateTime.now(),
+				dueShards.stream().map(OnbidShard::key).toList());
 
-		List<CompletableFuture<List<TenderResponseDTO>>> futures = IntStream.rangeClosed(1, totalPages)
-				.<CompletableFuture<List<TenderResponseDTO>>>mapToObj((int pageNum) -> {
-					return CompletableFuture.<List<TenderResponseDTO>>supplyAsync(
-							() -> fetchOnbidDataForSinglePage(pageNum), (Executor) onbidApiExecutor);
-				}).collect(Collectors.toList());
-
-		List<TenderResponseDTO> allUniqueTendersFromApi = new ArrayList<>();
-		Set<String> processedCltrMnmtNos = new HashSet<>();
+		List<OnbidShard> shards = plannedShards;
+		for (OnbidShard shard : dueShards) {
+			Thread.ofVirtual().name("OnbidShardSync-" + shard.key()).start(() -> syncShard(shard, shards));
+		}
+	}
 
-		CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+	private List<OnbidShard> dueShards(List<OnbidShard> shards) {
+		return shards.stream()
+				.filter(shard -> !activeSyncs.containsKey(shard.key()))
+				.filter(shard -> !syncCoordinator.shardCompletedWithin(shard, onbidShardPlanner.refreshMinutes(shard)))
+				.toList();
+	}
 
-		for (CompletableFuture<List<TenderResponseDTO>> future : futures) {
-			try {
-				List<TenderResponseDTO> pageTenders = future.get();
-				for (TenderResponseDTO dto : pageTenders) {
-					if (dto.getCltrMnmtNo() != null && !processedCltrMnmtNos.contains(dto.getCltrMnmtNo())) {
-						allUniqueTendersFromApi.add(dto);
-						processedCltrMnmtNos.add(dto.getCltrMnmtNo());
-					}
-				}
-			} catch (Exception e) {
-				log.error("Error getting result from CompletableFuture: {}", e.getMessage(), e);
-			}
+	/**
+	 * 샤드들이 전체 목록을 덮는지 마지막으로 기록된 샤드별 totalCount 합계로 확인합니다.
+	 * 덮지 못하면(설정에 빠진 필터 값이 있으면) 빠진 항목이 비활성화되지 않도록 이번에는 전체를 한 샤드로 받습니다.
+	 */
+	private boolean shardsCoverCatalog(List<OnbidShard> shards) {
+		OptionalLong shardTotal = tenderSyncWriter.lastKnownTotalCount(shards);
+		if (shardTotal.isEmpty()) {
+			return true; // 아직 한 번도 돌지 않은 샤드가 있으면 판단 보류
 		}
+		int catalogTotal = onbidPageFetcher.fetchTotalCount(OnbidShard.ALL);
+		if (catalogTotal < 0 || shardTotal.getAsLong() >= catalogTotal * SHARD_COVERAGE_RATIO) {
+			return true;
+		}
+		log.warn("Shards {} cover only {} of {} Onbid items. Falling back to an unsharded full sync.",
+				shards.stream().map(OnbidShard::key).toList(), shardTotal.getAsLong(), catalogTotal);
+		return false;
+	}
 
-		log.info("Finished fetching all {} unique tenders from Onbid API (parallel). Starting DB sync.",
-				allUniqueTendersFromApi.size());
-
-		transactionTemplate.execute(status -> {
-			return saveOrUpdateTenders(allUniqueTendersFromApi);
+	private void syncShard(OnbidShard shard, List<OnbidShard> plannedShards) {
+		runExclusively(shard.key(), SyncState.FULL_SYNC, SyncCoordinator.shardLockName(shard), () -> {
+			// lease를 기다리는 사이 다른 노드가 끝냈을 수 있으므로 다시 확인
+			if (syncCoordinator.shardCompletedWithin(shard, onbidShardPlanner.refreshMinutes(shard))) {
+				log.info("Shard {} was refreshed recently by another node. Skipping.", shard.key());
+				return;
+			}
+			if (runFullSyncPipeline(shard)) {
+				tenderSyncWriter.deactivateOrphans(plannedShards);
+			}
 		});
+	}
 
-		long fullSyncEndTime = System.currentTimeMillis();
-		log.info("Full Onbid Tender synchronization finished in {}ms (parallel).",
-				(fullSyncEndTime - fullSyncStartTime));
-		isSyncing = false;
+	/**
+	 * 이 노드에서 같은 슬롯의 동기화가 돌고 있지 않고, 클러스터 lease(lockName)도 잡았을 때만 task를 실행합니다.
+	 */
+	private void runExclusively(String slot, SyncState state, String lockName, Runnable task) {
+		if (activeSyncs.putIfAbsent(slot, state) != null) {
+			log.info("{} for {} is already in progress on this node. Skipping.", state, slot);
+			return;
+		}
+		try {
+			syncCoordinator.runAsLeader(lockName, state + " " + slot, task);
+		} finally {
+			activeSyncs.remove(slot);
+		}
 	}
 
-	private List<TenderResponseDTO> fetchOnbidDataForSinglePage(int page) {
-		log.info(">>>> Started fetching page {} at {}", page, LocalDateTime.now());
-		
-		List<TenderResponseDTO> pageTenders = new ArrayList<>();
-		UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString(onbidApiBaseUrl)
-				.queryParam("serviceKey", onbidApiServiceKey).queryParam("pageNo", page)
-				.queryParam("numOfRows", 10000);
+	/**
+	 * fetch -> parse -> persist 파이프라인.
+	 * 페이지 fetcher(OnbidPageFetcher, virtual thread)가 응답을 스트리밍 파싱하면서 chunk를 bounded queue에 넣고,
+	 * 현재 스레드(writer)가 chunk가 도착하는 대로 chunk 단위 트랜잭션으로 커밋합니다.
+	 * queue가 가득 차면 fetcher가 응답 읽기를 멈추므로 힙 사용량은 전체 건수와 무관하게 일정합니다.
+	 * 페이지의 chunk가 모두 커밋되면 sync_run_pages에 DONE을 남기므로, 중간에 프로세스가 재시작되어도
+	 * 다음 실행은 남은 페이지만 받아서 같은 세대로 이어갑니다.
+	 *
+	 * @return 샤드의 모든 페이지를 정상 처리하고 비활성화까지 마쳤으면 true
+	 */
+	private boolean runFullSyncPipeline(OnbidShard shard) {
+		log.info("Starting full sync of shard {} in background...", shard.key());
+		long fullSyncStartTime = System.currentTimeMillis();
 
-		URI uri = uriBuilder.encode().build().toUri();
-		log.debug("Fetching Onbid API data for single page {}: {}", page, uri);
+		int totalCount = onbidPageFetcher.fetchTotalCount(shard);
+		if (totalCount < 0) {
+			return false;
+		}
+		int totalPages = (int) Math.ceil((double) totalCount / FULL_SYNC_NUM_OF_ROWS);
+		log.info("Onbid API Total Count of shard {}: {}. Calculated Total Pages: {} (based on {} rows/page)",
+				shard.key(), totalCount, totalPages, FULL_SYNC_NUM_OF_ROWS);
 
+		TenderSyncWriter.SyncSession session = tenderSyncWriter.openFullSession(shard, totalCount,
+				FULL_SYNC_NUM_OF_ROWS);
+		syncProgressTracker.start(session, totalPages, session.getPendingPages().size());
 		try {
-			ResponseEntity<String> responseEntity = restTemplate.getForEntity(uri, String.class);
-			if (responseEntity.getStatusCode().is2xxSuccessful() && responseEntity.getBody() != null) {
-				OnbidApiParser.TenderListResult parsedResult = onbidApiParser
-						.parseXmlToTenderDtosAndCount(responseEntity.getBody());
-				pageTenders.addAll(parsedResult.getTenders());
-			} else {
-				log.error("Failed to fetch Onbid API data from page {}. HTTP Status: {}", page,
-						responseEntity.getStatusCode());
-			}
-		} catch (Exception e) {
-			log.error("Error fetching Onbid API data from page {}: {}", page, e.getMessage(), e);
+			return runPipeline(shard, session, fullSyncStartTime);
+		} finally {
+			syncProgressTracker.finish(session);
 		}
-		log.info("<<<< Finished fetching page {} at {}", page, LocalDateTime.now());
-		
-		return pageTenders;		
 	}
 
-	private List<TenderResponseDTO> fetchOnbidDataPages(int startPage, int endPage) {
-		List<TenderResponseDTO> collectedTenders = new ArrayList<>();
-		Set<String> cltrMnmtNosInBatch = new HashSet<>();
+	// 세션을 연 뒤의 fetch -> parse -> persist 단계
+	private boolean runPipeline(OnbidShard shard, TenderSyncWriter.SyncSession session, long fullSyncStartTime) {
+		String querySignature = onbidPageFetcher.querySignature(shard, FULL_SYNC_NUM_OF_ROWS);
+		Map<Integer, OnbidPageDigest> previousDigests = tenderSyncWriter.loadPageDigests(querySignature);
+		BlockingQueue<PageChunk> chunkQueue = new ArrayBlockingQueue<>(pipelineQueueCapacity);
+		AtomicBoolean aborted = new AtomicBoolean(false);
+		AtomicInteger failedPages = new AtomicInteger(0);
+
+		// 남은 페이지를 한 번에 제출하지만 실제 동시 호출 수는 fetcher의 adaptive limiter가,
+		// 받아 둔(임시 파일) 페이지 수는 fetcher의 pageSlots가 정합니다. writer가 밀려 chunkQueue가 차면
+		// 파서가 멈추고 슬롯이 반납되지 않으므로 다음 페이지도 받지 않습니다.
+		List<CompletableFuture<Void>> fetchers = session.getPendingPages().stream()
+				.map(pageNum -> onbidPageFetcher
+						.fetchPageAsync(shard, pageNum, FULL_SYNC_NUM_OF_ROWS, previousDigests.get(pageNum),
+								pageDigest -> tenderSyncWriter.stampUnchangedPage(session, pageDigest),
+								chunk -> enqueue(chunkQueue, new PageChunk(pageNum, chunk, null), aborted))
+						.thenAccept(result -> {
+							if (!result.completed()) {
+								failedPages.incrementAndGet();
+							}
+							try {
+								enqueue(chunkQueue, new PageChunk(pageNum, List.of(), result), aborted);
+							} catch (CancellationException e) {
+								// writer가 이미 중단됨 - 페이지는 DONE이 아닌 상태로 남아 다음 실행에서 다시 받습니다.
+							}
+						}))
+				.collect(Collectors.toList());
+
+		CompletableFuture.allOf(fetchers.toArray(new CompletableFuture[0]))
+				.whenComplete((ignored, ex) -> enqueue(chunkQueue, END_OF_PAGES, aborted));
 
-		for (int page = startPage; page <= endPage; page++) {
-			UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString(onbidApiBaseUrl)
-					.queryParam("serviceKey", onbidApiServiceKey).queryParam("pageNo", page)
-					.queryParam("numOfRows", MAX_ONBID_API_NUM_OF_ROWS);
-
-			URI uri = uriBuilder.encode().build().toUri();
-			log.info("Fetching Onbid API data from page {}/{} ({} rows): {}", page, endPage, MAX_ONBID_API_NUM_OF_ROWS,
-					uri);
-
-			try {
-				ResponseEntity<String> responseEntity = restTemplate.getForEntity(uri, String.class);
-
-				if (responseEntity.getStatusCode().is2xxSuccessful() && responseEntity.getBody() != null) {
-					OnbidApiParser.TenderListResult parsedResult = onbidApiParser
-							.parseXmlToTenderDtosAndCount(responseEntity.getBody());
-					List<TenderResponseDTO> dtoList = parsedResult.getTenders();
-
-					for (TenderResponseDTO dto : dtoList) {
-						if (dto.getCltrMnmtNo() != null && !cltrMnmtNosInBatch.contains(dto.getCltrMnmtNo())) {
-							collectedTenders.add(dto);
-							cltrMnmtNosInBatch.add(dto.getCltrMnmtNo());
-						}
-					}
+		try {
+			while (true) {
+				PageChunk pageChunk = chunkQueue.take();
+				if (pageChunk == END_OF_PAGES) {
+					break;
+				}
+				OnbidPageFetcher.PageResult pageResult = pageChunk.pageResult();
+				if (pageResult == null) {
+					syncMetrics.timeChunkWrite(SyncRun.SyncType.FULL,
+							() -> tenderSyncWriter.writeChunk(session, pageChunk.tenders()));
+				} else if (pageResult.completed()) {
+					tenderSyncWriter.completePage(session, pageChunk.pageNo(), querySignature, pageResult);
+					syncProgressTracker.pageDone(session);
 				} else {
-					log.error("Failed to fetch Onbid API data from page {}. HTTP Status: {}", page,
-							responseEntity.getStatusCode());
+					tenderSyncWriter.markPage(session, pageChunk.pageNo(), SyncRunPage.Status.FAILED);
 				}
-			} catch (Exception e) {
-				log.error("Error fetching Onbid API data from page {}: {}", page, e.getMessage(), e);
 			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			aborted.set(true);
+			log.warn("Full sync of shard {} interrupted. {} tenders written before interruption.", shard.key(),
+					session.getProcessedCount());
+			tenderSyncWriter.finishSession(session, SyncRun.Status.FAILED);
+			return false;
+		} catch (RuntimeException e) {
+			aborted.set(true);
+			log.error("Full sync of shard {} aborted while writing to DB: {}", shard.key(), e.getMessage(), e);
+			tenderSyncWriter.finishSession(session, SyncRun.Status.FAILED);
+			return false;
 		}
-		return collectedTenders;
-	}
-
-	private int saveOrUpdateTenders(List<TenderResponseDTO> apiTenders) {
-		AtomicInteger newCount = new AtomicInteger(0);
-		AtomicInteger updatedCount = new AtomicInteger(0);
-
-		Set<String> cltrMnmtNosFromApi = apiTenders.stream().map(TenderResponseDTO::getCltrMnmtNo)
-				.filter(Objects::nonNull).collect(Collectors.toSet());
-
-		// 기존 DB 데이터와 비교하여 비활성화할 대상을 찾기 위함
-		List<Tender> existingAllTendersInDb = tenderRepository.findAll();
-		Set<String> existingCltrMnmtNosInDb = existingAllTendersInDb.stream().map(Tender::getCltrMnmtNo)
-				.filter(Objects::nonNull).collect(Collectors.toSet());
 
-		// 삽입/업데이트
-		for (TenderResponseDTO dto : apiTenders) {
-			if (dto.getCltrMnmtNo() == null || dto.getCltrMnmtNo().isEmpty()) {
-				log.warn("Skipping tender with null or empty cltrMnmtNo from API: {}", dto.getTenderTitle());
-				continue;
-			}
-
-			Optional<Tender> existingTenderOpt = tenderRepository.findByCltrMnmtNo(dto.getCltrMnmtNo());
-
-			if (existingTenderOpt.isPresent()) {
-				Tender existingTender = existingTenderOpt.get();
-				// 모든 필드 업데이트 (필요에 따라 더 세분화 가능)
-				existingTender.setTenderId(dto.getTenderId());
-				existingTender.setPbctNo(dto.getPbctNo());
-				existingTender.setCltrHstrNo(dto.getCltrHstrNo());
-				existingTender.setTenderTitle(dto.getTenderTitle());
-				existingTender.setOrganization(dto.getOrganization());
-				existingTender.setBidNumber(dto.getBidNumber());
-				existingTender.setGoodsName(dto.getGoodsName());
-				existingTender.setAnnouncementDate(dto.getAnnouncementDate());
-				existingTender.setDeadline(dto.getDeadline());
-				existingTender.setLastSyncedAt(LocalDateTime.now());
-				existingTender.setActive(true); // API에서 조회되었으므로 활성 상태
-
-				tenderRepository.save(existingTender);
-				updatedCount.incrementAndGet();
-			} else {
-				Tender newTender = Tender.fromDto(dto);
-				tenderRepository.save(newTender);
-				newCount.incrementAndGet();
-			}
+		// 일부 페이지라도 실패했다면 누락된 항목을 '사라진 것'으로 오인하지 않도록 비활성화를 건너뜁니다.
+		boolean completed = failedPages.get() == 0;
+		if (completed) {
+			tenderSyncWriter.deactivateMissing(session);
+			tenderSyncWriter.finishSession(session, SyncRun.Status.COMPLETED);
+			syncCoordinator.announceCompleted(session.getGeneration(), SyncRun.SyncType.FULL, shard.key());
+		} else {
+			log.warn("{} page(s) of shard {} failed during full sync. Skipping deactivation of missing tenders. "
+					+ "Failed pages will be retried by the next run.", failedPages.get(), shard.key());
+			tenderSyncWriter.finishSession(session, SyncRun.Status.FAILED);
 		}
 
-		// 비활성화 처리: API에서 더 이상 조회되지 않지만 DB에는 있는 항목
-		AtomicInteger deactivatedCount = new AtomicInteger(0);
-		Set<String> cltrMnmtNosToDeactivate = existingCltrMnmtNosInDb.stream()
-				.filter(mnmtNo -> !cltrMnmtNosFromApi.contains(mnmtNo)).collect(Collectors.toSet());
-
-		if (!cltrMnmtNosToDeactivate.isEmpty()) {
-			List<Tender> tendersToDeactivate = existingAllTendersInDb.stream()
-					.filter(t -> cltrMnmtNosToDeactivate.contains(t.getCltrMnmtNo())).collect(Collectors.toList());
-			tendersToDeactivate.forEach(t -> {
-				if (t.isActive()) { // 이미 비활성화된 것은 스킵
-					t.setActive(false);
-					deactivatedCount.incrementAndGet();
+		long fullSyncEndTime = System.currentTimeMillis();
+		log.info("Full sync of shard {} finished in {}ms (pipelined{}). {} tenders from {} page(s).", shard.key(),
+				(fullSyncEndTime - fullSyncStartTime), session.isResumed() ? ", resumed" : "",
+				session.getProcessedCount(), session.getPendingPages().size());
+		return completed;
+	}
+
+	// writer가 중단되면 fetcher가 영원히 대기하지 않도록 주기적으로 aborted를 확인합니다.
+	private void enqueue(BlockingQueue<PageChunk> chunkQueue, PageChunk chunk, AtomicBoolean aborted) {
+		try {
+			while (!chunkQueue.offer(chunk, 1, TimeUnit.SECONDS)) {
+				if (aborted.get()) {
+					throw new CancellationException("Full sync aborted. Dropping parsed chunk.");
 				}
-			});
-			tenderRepository.saveAll(tendersToDeactivate);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CancellationException("Interrupted while waiting for the sync writer.");
 		}
-
-		log.info("DB sync summary - New: {}, Updated: {}, Deactivated: {}", newCount.get(), updatedCount.get(),
-				deactivatedCount.get());
-		return apiTenders.size(); // 동기화 처리된 API 항목 수 반환 (주요 지표는 아님)
 	}
 }
@@ -0,0 +1,156 @@
+package com.bid.service;
+
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 온비드 item 값 디코딩 헬퍼. 항목마다 불리므로 예외와 중간 객체를 만들지 않습니다.
+ * <ul>
+ * <li>yyyyMMddHHmmss 고정 길이 날짜를 DateTimeFormatter 없이 직접 읽고, 형식이 틀리면 예외 대신 null</li>
+ * <li>정수 항목을 Long.parseLong 없이 직접 읽고, 형식이 틀리거나 범위를 넘으면 예외 대신 null</li>
+ * <li>처분방식/입찰방식/물건상태처럼 값 종류가 적은 문자열은 크기가 제한된 풀에서 같은 인스턴스를 재사용</li>
+ * </ul>
+ */
+public final class OnbidValueDecoder {
+
+	private static final int COMPACT_DATE_TIME_LENGTH = 14; // yyyyMMddHHmmss
+
+	// 범주형 문자열 풀. 값 종류가 많은 필드가 잘못 들어와도 힙을 계속 차지하지 않도록 크기를 제한합니다.
+	private static final BoundedStringPool CATEGORIES = new BoundedStringPool(4096, 128);
+
+	private OnbidValueDecoder() {
+	}
+
+	/**
+	 * yyyyMMddHHmmss 형식(앞뒤 공백 허용)을 읽습니다. 비어 있거나 형식/범위가 틀리면 null.
+	 */
+	public static LocalDateTime parseCompactDateTime(String value) {
+		if (value == null) {
+			return null;
+		}
+		int start = 0;
+		int end = value.length();
+		while (start < end && value.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && value.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		if (end - start != COMPACT_DATE_TIME_LENGTH) {
+			return null;
+		}
+		int year = digits(value, start, 4);
+		int month = digits(value, start + 4, 2);
+		int day = digits(value, start + 6, 2);
+		int hour = digits(value, start + 8, 2);
+		int minute = digits(value, start + 10, 2);
+		int second = digits(value, start + 12, 2);
+		if (year < 0 || month < 1 || month > 12 || day < 1 || hour < 0 || hour > 23 || minute < 0 || minute > 59
+				|| second < 0 || second > 59 || day > lengthOfMonth(year, month)) {
+			return null; // digits가 -1이면(숫자가 아니면) 여기서 걸러짐
+		}
+		return LocalDateTime.of(year, month, day, hour, minute, second);
+	}
+
+	/**
+	 * 10진 정수(앞뒤 공백, 앞의 부호 허용)를 읽습니다. 비어 있거나 숫자가 아닌 글자가 있거나 long 범위를 넘으면 null.
+	 */
+	public static Long parseLong(String value) {
+		if (value == null) {
+			return null;
+		}
+		int start = 0;
+		int end = value.length();
+		while (start < end && value.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && value.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		boolean negative = false;
+		if (start < end && (value.charAt(start) == '-' || value.charAt(start) == '+')) {
+			negative = value.charAt(start) == '-';
+			start++;
+		}
+		if (start == end) {
+			return null;
+		}
+		long result = 0; // 음수로 모아서 Long.MIN_VALUE까지 표현
+		for (int i = start; i < end; i++) {
+			int digit = value.charAt(i) - '0';
+			if (digit < 0 || digit > 9 || result < (Long.MIN_VALUE + digit) / 10) {
+				return null;
+			}
+			result = result * 10 - digit;
+		}
+		if (negative) {
+			return result;
+		}
+		return result == Long.MIN_VALUE ? null : -result;
+	}
+
+	/**
+	 * 범주형 문자열을 풀의 인스턴스로 바꿉니다. 풀이 가득 찼거나 너무 긴 값은 그대로 돌려줍니다.
+	 */
+	public static String category(String value) {
+		return CATEGORIES.intern(value);
+	}
+
+	// 숫자가 아닌 문자가 있으면 -1
+	private static int digits(String value, int offset, int length) {
+		int result = 0;
+		for (int i = offset; i < offset + length; i++) {
+			int digit = value.charAt(i) - '0';
+			if (digit < 0 || digit > 9) {
+				return -1;
+			}
+			result = result * 10 + digit;
+		}
+		return result;
+	}
+
+	private static int lengthOfMonth(int year, int month) {
+		return switch (month) {
+			case 2 -> Year.isLeap(year) ? 29 : 28;
+			case 4, 6, 9, 11 -> 30;
+			default -> 31;
+		};
+	}
+
+	/**
+	 * 최대 maxEntries개까지만 담는 문자열 풀 (String.intern과 달리 크기가 제한되고 JVM 전역 테이블을 쓰지 않음).
+	 * 가득 차면 새 값은 풀에 넣지 않고 그대로 돌려주므로, 먼저 들어온 자주 쓰이는 값들은 계속 공유됩니다.
+	 */
+	static final class BoundedStringPool {
+
+		private final ConcurrentMap<String, String> pool = new ConcurrentHashMap<>();
+		private final int maxEntries;
+		private final int maxLength;
+
+		BoundedStringPool(int maxEntries, int maxLength) {
+			this.maxEntries = maxEntries;
+			this.maxLength = maxLength;
+		}
+
+		String intern(String value) {
+			if (value == null || value.length() > maxLength) {
+				return value;
+			}
+			String pooled = pool.get(value);
+			if (pooled != null) {
+				return pooled;
+			}
+			if (pool.size() >= maxEntries) {
+				return value;
+			}
+			pooled = pool.putIfAbsent(value, value);
+			return pooled != null ? pooled : value;
+		}
+
+		int size() {
+			return pool.size();
+		}
+	}
+}
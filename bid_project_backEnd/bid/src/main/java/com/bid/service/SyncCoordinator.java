@@ -0,0 +1,230 @@
+package com.bid.service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bid.entity.SyncRun;
+import com.bid.event.TenderSyncCompletedEvent;
+import com.bid.repository.SyncLockRepository;
+import com.bid.repository.SyncRunRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 클러스터 안에서 온비드 동기화를 한 노드만 실행하도록 조정합니다.
+ * 동기화하는 동안 DB lease 락(sync_locks)을 잡고 주기적으로 연장하며, 연장에 실패하면(다른 노드가 가져갔거나
+ * DB에 닿지 못한 채 lease가 만료되면) 동기화 스레드를 interrupt 해서 중단시킵니다.
+ * 동기화하지 않은 노드는 sync_runs를 주기적으로 확인해서 다른 노드의 완료를 TenderSyncCompletedEvent로 전달합니다.
+ * 샤드/빠른/우선 갱신은 따로 끝나므로 한 주기 사이에 끝난 실행을 모두 id 순으로 알리고,
+ * 확인할 때 아직 끝나지 않았던 실행(진행 중, 재개될 수 있는 전체 동기화)은 나중에 완료되면 알립니다.
+ */
+@Component
+@Slf4j
+public class SyncCoordinator {
+
+	static final String ONBID_SYNC_LOCK = "onbid-sync";
+	private static final String SHARD_LOCK_PREFIX = ONBID_SYNC_LOCK + ":";
+
+	private final SyncLockRepository syncLockRepository;
+	private final SyncRunRepository syncRunRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ScheduledThreadPoolExecutor leaseRenewer;
+
+	@Getter
+	private final String nodeId;
+
+	// 마지막으로 확인한 sync_runs.id (null이면 아직 기준점 없음), 동기화: this
+	private Long lastSeenRunId;
+	// 확인할 때 끝나지 않았던 실행 (완료되거나, 같은 종류/샤드의 다음 실행이 시작되면 뺌), 동기화: this
+	private final Map<Long, SyncRun> unfinishedRuns = new TreeMap<>();
+	// 이 노드가 이미 알린 완료 실행 (sync_runs에서 다시 보더라도 다른 노드의 완료로 알리지 않음)
+	private final Set<Long> announcedLocally = ConcurrentHashMap.newKeySet();
+
+	@Value("${onbid.sync.lock.lease-seconds:120}")
+	private long leaseSeconds;
+
+	@Value("${onbid.sync.lock.renew-interval-ms:30000}")
+	private long renewIntervalMs;
+
+	public SyncCoordinator(SyncLockRepository syncLockRepository, SyncRunRepository syncRunRepository,
+			ApplicationEventPublisher eventPublisher) {
+		this.syncLockRepository = syncLockRepository;
+		this.syncRunRepository = syncRunRepository;
+		this.eventPublisher = eventPublisher;
+		this.nodeId = resolveHostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+		this.leaseRenewer = new ScheduledThreadPoolExecutor(1,
+				Thread.ofPlatform().name("SyncLeaseRenewer").daemon(true).factory());
+		this.leaseRenewer.setRemoveOnCancelPolicy(true);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		leaseRenewer.shutdownNow();
+	}
+
+	// 샤드별 lease 이름 (샤드마다 다른 노드가 동시에 맡을 수 있음)
+	public static String shardLockName(OnbidShard shard) {
+		return SHARD_LOCK_PREFIX + shard.key();
+	}
+
+	/**
+	 * lockName lease를 잡은 경우에만 현재 스레드에서 task를 실행합니다.
+	 *
+	 * @return lease를 잡지 못해 실행하지 않았으면 false
+	 */
+	public boolean runAsLeader(String lockName, String taskName, Runnable task) {
+		if (!syncLockRepository.tryAcquire(lockName, nodeId, leaseSeconds)) {
+			log.info("{} skipped. Another node holds the sync lease.", taskName);
+			return false;
+		}
+		log.info("Acquired sync lease as {} for {}.", nodeId, taskName);
+
+		Thread worker = Thread.currentThread();
+		AtomicBoolean leaseLost = new AtomicBoolean(false);
+		AtomicLong lastRenewedNanos = new AtomicLong(System.nanoTime());
+		ScheduledFuture<?> renewal = leaseRenewer.scheduleWithFixedDelay(() -> {
+			try {
+				if (syncLockRepository.renew(lockName, nodeId, leaseSeconds)) {
+					lastRenewedNanos.set(System.nanoTime());
+					return;
+				}
+			} catch (RuntimeException e) {
+				// 일시적인 DB 오류는 lease가 남아 있는 동안 다음 주기에 다시 시도합니다.
+				log.warn("Failed to renew sync lease: {}", e.getMessage());
+				if (System.nanoTime() - lastRenewedNanos.get() < TimeUnit.SECONDS.toNanos(leaseSeconds)) {
+					return;
+				}
+			}
+			if (leaseLost.compareAndSet(false, true)) {
+				log.error("Lost sync lease during {}. Interrupting the sync.", taskName);
+				worker.interrupt();
+			}
+		}, renewIntervalMs, renewIntervalMs, TimeUnit.MILLISECONDS);
+
+		try {
+			task.run();
+			return true;
+		} finally {
+			renewal.cancel(false);
+			syncLockRepository.release(lockName, nodeId);
+			if (leaseLost.get()) {
+				Thread.interrupted(); // 풀 스레드에 interrupt 상태가 남지 않도록 정리
+			}
+			log.info("Released sync lease for {}.", taskName);
+		}
+	}
+
+	/**
+	 * 다른 노드를 포함해 syncType 동기화가 within 분 안에 정상 완료된 적이 있는지 확인합니다.
+	 */
+	public boolean completedWithin(SyncRun.SyncType syncType, long minutes) {
+		return finishedAfter(syncRunRepository.findFirstBySyncTypeAndStatusOrderByFinishedAtDesc(syncType,
+				SyncRun.Status.COMPLETED), minutes);
+	}
+
+	// 다른 노드를 포함해 shard의 전체 동기화가 minutes 분 안에 정상 완료된 적이 있는지 확인합니다.
+	public boolean shardCompletedWithin(OnbidShard shard, long minutes) {
+		return finishedAfter(syncRunRepository.findFirstBySyncTypeAndShardKeyAndStatusOrderByFinishedAtDesc(
+				SyncRun.SyncType.FULL, shard.key(), SyncRun.Status.COMPLETED), minutes);
+	}
+
+	private static boolean finishedAfter(Optional<SyncRun> run, long minutes) {
+		LocalDateTime threshold = LocalDateTime.now().minusMinutes(minutes);
+		return run.map(completed -> completed.getFinishedAt() != null && completed.getFinishedAt().isAfter(threshold))
+				.orElse(false);
+	}
+
+	// 이 노드에서 실행한 동기화가 완료되었을 때 호출
+	public void announceCompleted(long generation, SyncRun.SyncType syncType, String shardKey) {
+		announcedLocally.add(generation);
+		eventPublisher.publishEvent(new TenderSyncCompletedEvent(generation, syncType, shardKey, true));
+	}
+
+	/**
+	 * 다른 노드가 끝낸 동기화를 감지해서 이 노드에도 TenderSyncCompletedEvent를 발행합니다.
+	 * 지난 확인 이후에 시작한 실행 중 완료된 것과, 지난번에 끝나지 않았다가 그 사이 완료된 것을 id 순으로 모두 알립니다.
+	 * 첫 확인 때는 기준점(마지막 실행 id, 진행 중인 실행)만 잡습니다.
+	 */
+	@Scheduled(fixedDelayString = "${onbid.sync.follower-poll-ms:60000}",
+			initialDelayString = "${onbid.sync.follower-poll-ms:60000}")
+	public synchronized void pollCompletedSyncs() {
+		if (lastSeenRunId == null) {
+			lastSeenRunId = syncRunRepository.findFirstByOrderByIdDesc().map(SyncRun::getId).orElse(0L);
+			syncRunRepository.findByStatus(SyncRun.Status.RUNNING)
+					.forEach(run -> unfinishedRuns.put(run.getId(), run));
+			announcedLocally.removeIf(id -> id <= lastSeenRunId && !unfinishedRuns.containsKey(id));
+			return;
+		}
+
+		List<SyncRun> completed = new ArrayList<>();
+		if (!unfinishedRuns.isEmpty()) {
+			Set<Long> found = new HashSet<>();
+			for (SyncRun run : syncRunRepository.findAllById(unfinishedRuns.keySet())) {
+				found.add(run.getId());
+				trackRun(run, completed);
+			}
+			unfinishedRuns.keySet().retainAll(found);
+		}
+		for (SyncRun run : syncRunRepository.findByIdGreaterThanOrderByIdAsc(lastSeenRunId)) {
+			lastSeenRunId = run.getId();
+			// 같은 종류/샤드의 다음 실행이 시작되었으면 이전 실행은 더 이상 이어지지 않음
+			unfinishedRuns.values().removeIf(older -> older.getSyncType() == run.getSyncType()
+					&& Objects.equals(older.getShardKey(), run.getShardKey()));
+			trackRun(run, completed);
+		}
+
+		completed.sort(Comparator.comparing(SyncRun::getId));
+		for (SyncRun run : completed) {
+			if (announcedLocally.remove(run.getId())) {
+				continue;
+			}
+			log.info("Detected {} sync (generation {}) completed by another node.", run.getSyncType(), run.getId());
+			eventPublisher.publishEvent(new TenderSyncCompletedEvent(run.getId(), run.getSyncType(),
+					run.getShardKey(), false));
+		}
+	}
+
+	// 완료된 실행은 알릴 목록에, 아직 끝나지 않았거나 재개될 수 있는 실행(실패한 전체 동기화)은 다음 확인 대상에 둠
+	private void trackRun(SyncRun run, List<SyncRun> completed) {
+		if (run.getStatus() == SyncRun.Status.COMPLETED) {
+			unfinishedRuns.remove(run.getId());
+			completed.add(run);
+		} else if (run.getStatus() == SyncRun.Status.RUNNING || run.getSyncType() == SyncRun.SyncType.FULL) {
+			unfinishedRuns.put(run.getId(), run);
+		} else {
+			unfinishedRuns.remove(run.getId());
+		}
+	}
+
+	private static String resolveHostName() {
+		try {
+			return InetAddress.getLocalHost().getHostName();
+		} catch (UnknownHostException e) {
+			return "unknown-host";
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package com.bid.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.bid.entity.SyncRun;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 동기화 파이프라인 단계별 Micrometer 메트릭 (/actuator/metrics/onbid.*).
+ * <ul>
+ * <li>onbid.fetch.latency: 요청부터 응답 헤더까지 (outcome=success/dropped/ignored)</li>
+ * <li>onbid.fetch.bytes: 페이지 응답 바디 크기</li>
+ * <li>onbid.fetch.pages: 페이지 처리 결과 (result=parsed/skipped/not_modified/failed)</li>
+ * <li>onbid.parse.duration: 페이지 하나의 파싱 시간 (writer 대기 시간 제외)</li>
+ * <li>onbid.sync.write.duration: chunk 하나의 DB 쓰기 시간 (커밋 포함)</li>
+ * <li>onbid.sync.rows: 행 처리 결과 (result=inserted/updated/unchanged/deactivated, type=FAST/FULL/HOT)</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class SyncMetrics {
+
+	private final MeterRegistry meterRegistry;
+
+	public void recordFetch(AdaptiveConcurrencyLimiter.Outcome outcome, long latencyNanos) {
+		Timer.builder("onbid.fetch.latency")
+				.description("Onbid API time to response headers")
+				.tag("outcome", outcome.name().toLowerCase())
+				.publishPercentileHistogram()
+				.register(meterRegistry)
+				.record(latencyNanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void recordBytes(long bytes) {
+		DistributionSummary.builder("onbid.fetch.bytes")
+				.description("Onbid page response body size")
+				.baseUnit("bytes")
+				.register(meterRegistry)
+				.record(bytes);
+	}
+
+	public void countPage(String result) {
+		Counter.builder("onbid.fetch.pages")
+				.description("Onbid pages by how they were handled")
+				.tag("result", result)
+				.register(meterRegistry)
+				.increment();
+	}
+
+	public void recordParse(long nanos) {
+		Timer.builder("onbid.parse.duration")
+				.description("Time spent parsing one Onbid page, excluding writer backpressure")
+				.register(meterRegistry)
+				.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	// chunk 쓰기는 @Transactional 메서드 바깥에서 재야 커밋 시간까지 포함됩니다.
+	public <T> T timeChunkWrite(SyncRun.SyncType syncType, Supplier<T> write) {
+		return Timer.builder("onbid.sync.write.duration")
+				.description("Time to write and commit one chunk of tenders")
+				.tag("type", syncType.name())
+				.register(meterRegistry)
+				.record(write);
+	}
+
+	public void countRows(SyncRun.SyncType syncType, String result, int rows) {
+		if (rows > 0) {
+			Counter.builder("onbid.sync.rows")
+					.description("Tender rows by sync outcome")
+					.tag("type", syncType.name())
+					.tag("result", result)
+					.register(meterRegistry)
+					.increment(rows);
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package com.bid.service;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 실행 중인 동기화의 진행 상황 (/actuator/syncprogress).
+ * 실행(run id = 동기화 세대)마다 끝난/남은 페이지 수와 예상 남은 시간을 돌려줍니다.
+ */
+@Component
+@Endpoint(id = "syncprogress")
+@RequiredArgsConstructor
+public class SyncProgressEndpoint {
+
+	private final SyncProgressTracker syncProgressTracker;
+	private final OnbidSyncService onbidSyncService;
+
+	@ReadOperation
+	public Map<String, Object> progress() {
+		List<SyncProgressTracker.SyncProgress> runs = syncProgressTracker.current();
+		return Map.of("syncState", onbidSyncService.getSyncState(), "runs", runs);
+	}
+}
@@ -0,0 +1,88 @@
+package com.bid.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+import com.bid.entity.SyncRun;
+
+/**
+ * 이 노드에서 실행 중인 동기화의 페이지 진행 상황 (SyncProgressEndpoint로 조회).
+ * ETA는 이번 실행에서 처리한 페이지의 평균 속도로 남은 페이지를 계산합니다 (재개 전 처리분은 속도에서 제외).
+ */
+@Component
+public class SyncProgressTracker {
+
+	/**
+	 * 실행 하나의 진행 상황.
+	 *
+	 * @param etaSeconds 남은 예상 시간 (이번 실행에서 아직 끝난 페이지가 없으면 null)
+	 */
+	public record SyncProgress(long runId, SyncRun.SyncType syncType, String shardKey, int totalPages,
+			int pagesDone, int pagesRemaining, LocalDateTime startedAt, long elapsedSeconds, Long etaSeconds) {
+	}
+
+	private static final class RunProgress {
+		private final long runId;
+		private final SyncRun.SyncType syncType;
+		private final String shardKey;
+		private final int totalPages;
+		private final int pagesDoneBefore; // 재개 전 실행에서 이미 끝난 페이지
+		private final LocalDateTime startedAt = LocalDateTime.now();
+		private final long startedNanos = System.nanoTime();
+		private final AtomicInteger pagesDone = new AtomicInteger();
+
+		private RunProgress(long runId, SyncRun.SyncType syncType, String shardKey, int totalPages,
+				int pendingPages) {
+			this.runId = runId;
+			this.syncType = syncType;
+			this.shardKey = shardKey;
+			this.totalPages = totalPages;
+			this.pagesDoneBefore = Math.max(0, totalPages - pendingPages);
+		}
+
+		private SyncProgress snapshot() {
+			int doneNow = pagesDone.get();
+			int remaining = Math.max(0, totalPages - pagesDoneBefore - doneNow);
+			long elapsedNanos = System.nanoTime() - startedNanos;
+			Long eta = doneNow == 0 ? null : Duration.ofNanos(elapsedNanos / doneNow * remaining).toSeconds();
+			return new SyncProgress(runId, syncType, shardKey, totalPages, pagesDoneBefore + doneNow, remaining,
+					startedAt, Duration.ofNanos(elapsedNanos).toSeconds(), eta);
+		}
+	}
+
+	private final ConcurrentMap<Long, RunProgress> runs = new ConcurrentHashMap<>();
+
+	/**
+	 * @param pendingPages 이번 실행에서 받을 페이지 수 (재개한 실행이면 totalPages보다 적음)
+	 */
+	public void start(TenderSyncWriter.SyncSession session, int totalPages, int pendingPages) {
+		runs.put(session.getGeneration(), new RunProgress(session.getGeneration(), session.getSyncType(),
+				session.getShardKey(), totalPages, pendingPages));
+	}
+
+	public void pageDone(TenderSyncWriter.SyncSession session) {
+		RunProgress progress = runs.get(session.getGeneration());
+		if (progress != null) {
+			progress.pagesDone.incrementAndGet();
+		}
+	}
+
+	public void finish(TenderSyncWriter.SyncSession session) {
+		runs.remove(session.getGeneration());
+	}
+
+	// 실행 중인 동기화 (먼저 시작한 순)
+	public List<SyncProgress> current() {
+		return runs.values().stream()
+				.map(RunProgress::snapshot)
+				.sorted(Comparator.comparing(SyncProgress::startedAt))
+				.toList();
+	}
+}
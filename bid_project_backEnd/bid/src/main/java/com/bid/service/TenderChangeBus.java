@@ -0,0 +1,165 @@
+package com.bid.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.bid.event.TenderChangeBatch;
+import com.bid.event.TenderChangeEvent;
+import com.bid.event.TenderChangeListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 동기화가 만든 공고 변경 이벤트(TenderCreated/TenderChanged/TenderDeactivated)를 구독자에게 전달하는 프로세스 내 비동기 버스.
+ * TenderSyncWriter가 발행한 TenderChangeBatch를 커밋 후에 크기가 제한된 큐에 넣고, 전달 스레드 하나가 최대 batchSize개씩
+ * (또는 maxDelayMs마다) 모아 모든 TenderChangeListener에 순서대로 전달합니다.
+ * 큐가 가득 차면 동기화 쪽이 offerTimeoutMs까지 기다리고(역압), 그래도 자리가 없으면 이벤트를 버리고 구독자에게 알립니다.
+ * 구독자가 없으면 TenderSyncWriter는 diff를 만들지 않습니다 (hasListeners).
+ */
+@Component
+@Slf4j
+public class TenderChangeBus {
+
+	private final ObjectProvider<TenderChangeListener> listenerProvider;
+	private final MeterRegistry meterRegistry;
+	private final BlockingQueue<TenderChangeEvent> queue;
+	private final AtomicLong dropped = new AtomicLong(); // 아직 구독자에게 알리지 않은 버린 이벤트 수
+	private final Counter droppedCounter;
+	private final Counter deliveredCounter;
+
+	private volatile List<TenderChangeListener> listeners; // 컨텍스트가 뜬 뒤 처음 필요할 때 찾음
+	private volatile Thread dispatcher;
+
+	@Value("${onbid.events.batch-size:500}")
+	private int batchSize;
+
+	@Value("${onbid.events.max-delay-ms:200}")
+	private long maxDelayMs; // 첫 이벤트가 들어온 뒤 묶음을 채우려고 기다리는 최대 시간
+
+	@Value("${onbid.events.offer-timeout-ms:1000}")
+	private long offerTimeoutMs;
+
+	public TenderChangeBus(ObjectProvider<TenderChangeListener> listenerProvider, MeterRegistry meterRegistry,
+			@Value("${onbid.events.queue-capacity:10000}") int queueCapacity) {
+		this.listenerProvider = listenerProvider;
+		this.meterRegistry = meterRegistry;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.droppedCounter = Counter.builder("onbid.events.dropped")
+				.description("Tender change events dropped because the bus buffer was full")
+				.register(meterRegistry);
+		this.deliveredCounter = Counter.builder("onbid.events.delivered")
+				.description("Tender change events delivered to listeners")
+				.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void start() {
+		Gauge.builder("onbid.events.queued", queue, BlockingQueue::size)
+				.description("Tender change events waiting for delivery")
+				.register(meterRegistry);
+		dispatcher = Thread.ofPlatform().name("TenderChangeDispatcher").daemon(true).start(this::dispatchLoop);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		Thread thread = dispatcher;
+		if (thread != null) {
+			thread.interrupt();
+		}
+	}
+
+	// 구독자가 있을 때만 변경 이벤트를 만들 가치가 있음
+	public boolean hasListeners() {
+		return !listeners().isEmpty();
+	}
+
+	private List<TenderChangeListener> listeners() {
+		List<TenderChangeListener> resolved = listeners;
+		if (resolved == null) {
+			resolved = listenerProvider.orderedStream().toList();
+			listeners = resolved;
+		}
+		return resolved;
+	}
+
+	// 롤백된 chunk의 이벤트는 전달하지 않음 (트랜잭션 밖에서 발행되면 바로 전달)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onBatch(TenderChangeBatch batch) {
+		boolean waiting = true; // 시간 초과 뒤에는 자리가 다시 날 때까지 기다리지 않고 바로 버림
+		for (TenderChangeEvent event : batch.events()) {
+			waiting = waiting ? offer(event) : queue.offer(event);
+			if (!waiting) {
+				dropped.incrementAndGet();
+				droppedCounter.increment();
+			}
+		}
+	}
+
+	private boolean offer(TenderChangeEvent event) {
+		try {
+			return queue.offer(event, offerTimeoutMs, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private void dispatchLoop() {
+		List<TenderChangeEvent> batch = new ArrayList<>(batchSize);
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				TenderChangeEvent first = queue.take();
+				batch.add(first);
+				long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+				while (batch.size() < batchSize) {
+					queue.drainTo(batch, batchSize - batch.size());
+					long remaining = deadline - System.nanoTime();
+					if (batch.size() >= batchSize || remaining <= 0) {
+						break;
+					}
+					TenderChangeEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+					if (next == null) {
+						break;
+					}
+					batch.add(next);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+			deliver(List.copyOf(batch));
+			batch.clear();
+		}
+	}
+
+	private void deliver(List<TenderChangeEvent> events) {
+		long droppedSinceLast = dropped.getAndSet(0);
+		for (TenderChangeListener listener : listeners()) {
+			try {
+				if (droppedSinceLast > 0) {
+					listener.onEventsDropped(droppedSinceLast);
+				}
+				listener.onTenderChanges(events);
+			} catch (RuntimeException e) {
+				log.error("Tender change listener {} failed: {}", listener.getClass().getSimpleName(), e.getMessage(),
+						e);
+			}
+		}
+		deliveredCounter.increment(events.size());
+	}
+}
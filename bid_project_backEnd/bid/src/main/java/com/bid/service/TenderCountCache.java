@@ -0,0 +1,216 @@
+package com.bid.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.bid.event.TenderSyncCompletedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공고 목록/검색 건수(PagedTenderResponse.totalCount) 캐시 (COUNT 쿼리 앞단, 크기 제한 LRU).
+ * 키는 정규화한 검색 조건이라 대소문자나 조건 순서만 다른 요청(sido/sgk/emd 등 물건명 조건)은 같은 값을 씁니다.
+ *
+ * 건수는 동기화가 끝날 때만 바뀐다고 보고 동기화 세대로 무효화합니다 (이 노드/다른 노드의 TenderSyncCompletedEvent).
+ * 무효화해도 값은 지우지 않고 이전 세대로 남겨서 추정(ESTIMATE) 요청에 씁니다.
+ * 세는 중에 세대가 바뀌면 그 결과는 이전 세대 값으로 저장됩니다.
+ *
+ * 메트릭: cache.gets (result=hit/miss), cache.evictions, cache.size (cache=tenderCount)
+ */
+@Component
+@Slf4j
+public class TenderCountCache {
+
+	private static final String CACHE_NAME = "tenderCount";
+
+	/**
+	 * 호출자가 요청하는 건수 종류.
+	 * <ul>
+	 * <li>EXACT: 정확한 건수 (현재 세대 캐시, 없으면 COUNT)</li>
+	 * <li>ESTIMATE: 캐시에 있는 값이면 이전 세대라도 사용, 없으면 "최소 이만큼" (COUNT 없음)</li>
+	 * <li>NONE: 건수 대신 hasNext만 (COUNT 없음)</li>
+	 * </ul>
+	 */
+	public enum Mode {
+		EXACT, ESTIMATE, NONE;
+
+		/**
+		 * @throws IllegalArgumentException 알 수 없는 값
+		 */
+		public static Mode from(String value) {
+			if (value == null || value.isBlank()) {
+				return EXACT;
+			}
+			try {
+				return valueOf(value.trim().toUpperCase(Locale.ROOT));
+			} catch (IllegalArgumentException e) {
+				throw new IllegalArgumentException("count는 exact, estimate, none 중 하나여야 합니다: " + value);
+			}
+		}
+	}
+
+	/**
+	 * 건수와 그 값이 정확한지 여부 (false면 이전 세대 값이거나 하한).
+	 */
+	public record Count(long value, boolean exact) {
+	}
+
+	// 검색 조건 정규화: 물건명 조건(cltrNm/sido/sgk/emd)과 감정가 조건은 모두 AND로 묶이므로 순서와 중복을 없앰
+	private record CountKey(List<String> titleTerms, String organization, List<Long> goodsPriceTerms,
+			LocalDateTime announcedFrom, LocalDateTime deadlineTo) {
+
+		private static final CountKey ALL = new CountKey(List.of(), null, List.of(), null, null);
+
+		static CountKey of(TenderReadModel.SearchFilter filter) {
+			if (filter == null) {
+				return ALL;
+			}
+			List<String> titleTerms = new ArrayList<>();
+			for (String term : new String[] { filter.cltrNm(), filter.sido(), filter.sgk(), filter.emd() }) {
+				if (term != null && !term.isEmpty()) { // LIKE '%%'는 조건이 없는 것과 같음
+					titleTerms.add(term.toLowerCase(Locale.ROOT));
+				}
+			}
+			List<Long> goodsPriceTerms = new ArrayList<>();
+			if (filter.minGoodsPrice() != null) {
+				goodsPriceTerms.add(filter.minGoodsPrice());
+			}
+			if (filter.maxGoodsPrice() != null) {
+				goodsPriceTerms.add(filter.maxGoodsPrice());
+			}
+			return new CountKey(titleTerms.stream().distinct().sorted().toList(), filter.organization(),
+					goodsPriceTerms.stream().distinct().sorted().toList(), filter.announcedFrom(), filter.deadlineTo());
+		}
+	}
+
+	private record CachedCount(long count, long generation, long computedAt) {
+	}
+
+	private final int maxSize;
+	private final long ttlMs;
+	private final long estimateMaxAgeMs;
+	private final Map<CountKey, CachedCount> entries; // 접근 순서, 동기화: this
+	private final AtomicLong generation = new AtomicLong();
+	private final Counter hits;
+	private final Counter misses;
+	private final Counter evictions;
+
+	public TenderCountCache(MeterRegistry meterRegistry,
+			@Value("${onbid.count-cache.max-size:1000}") int maxSize,
+			@Value("${onbid.count-cache.ttl-ms:600000}") long ttlMs,
+			@Value("${onbid.count-cache.estimate-max-age-ms:3600000}") long estimateMaxAgeMs) {
+		this.maxSize = maxSize;
+		this.ttlMs = ttlMs;
+		this.estimateMaxAgeMs = estimateMaxAgeMs;
+		this.hits = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit")
+				.description("Tender count cache lookups").register(meterRegistry);
+		this.misses = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss")
+				.description("Tender count cache lookups").register(meterRegistry);
+		this.evictions = Counter.builder("cache.evictions").tag("cache", CACHE_NAME)
+				.description("Tender count cache size evictions").register(meterRegistry);
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<CountKey, CachedCount> eldest) {
+				if (size() > TenderCountCache.this.maxSize) {
+					TenderCountCache.this.evictions.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+		Gauge.builder("cache.size", this, TenderCountCache::size).tag("cache", CACHE_NAME)
+				.description("Tender count cache entries").register(meterRegistry);
+	}
+
+	/**
+	 * 정확한 건수. 현재 세대에 센 값이 있으면 그대로, 없으면 counter(COUNT 쿼리)로 세어 저장합니다.
+	 *
+	 * @param filter null이면 전체 활성 공고
+	 */
+	public long exact(TenderReadModel.SearchFilter filter, LongSupplier counter) {
+		CountKey key = CountKey.of(filter);
+		long now = System.currentTimeMillis();
+		long stamp = generation.get();
+		synchronized (this) {
+			CachedCount cached = entries.get(key);
+			if (cached != null && cached.generation() == stamp && now - cached.computedAt() < ttlMs) {
+				hits.increment();
+				return cached.count();
+			}
+		}
+		misses.increment();
+		long count = counter.getAsLong();
+		store(key, count, stamp, now);
+		return count;
+	}
+
+	/**
+	 * 추정 건수 (COUNT 없음). 이전 세대 값도 estimateMaxAgeMs 안이면 돌려줍니다.
+	 *
+	 * @return 캐시에 없으면 empty
+	 */
+	public Optional<Count> estimate(TenderReadModel.SearchFilter filter) {
+		CountKey key = CountKey.of(filter);
+		long now = System.currentTimeMillis();
+		long stamp = generation.get();
+		CachedCount cached;
+		synchronized (this) {
+			cached = entries.get(key);
+		}
+		if (cached == null || now - cached.computedAt() >= estimateMaxAgeMs) {
+			misses.increment();
+			return Optional.empty();
+		}
+		hits.increment();
+		return Optional.of(new Count(cached.count(),
+				cached.generation() == stamp && now - cached.computedAt() < ttlMs));
+	}
+
+	/**
+	 * 페이지 조회만으로 건수를 알게 된 경우(마지막 페이지) 저장합니다.
+	 */
+	public void put(TenderReadModel.SearchFilter filter, long count) {
+		store(CountKey.of(filter), count, generation.get(), System.currentTimeMillis());
+	}
+
+	private synchronized void store(CountKey key, long count, long stamp, long computedAt) {
+		CachedCount existing = entries.get(key);
+		// 세는 동안 다른 요청이 더 새 세대 값을 넣었으면 유지
+		if (existing == null || existing.generation() <= stamp) {
+			entries.put(key, new CachedCount(count, stamp, computedAt));
+		}
+	}
+
+	/**
+	 * 모든 값을 이전 세대로 돌립니다 (정확한 건수가 필요하면 다시 셈, 추정에는 계속 사용).
+	 */
+	public void invalidateAll() {
+		generation.incrementAndGet();
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	// 활성 공고/검색 대상 컬럼은 동기화(전체/빠른/우선 갱신)만 바꾸므로 끝난 동기화마다 세대를 올림
+	@EventListener
+	public void onSyncCompleted(TenderSyncCompletedEvent event) {
+		invalidateAll();
+		log.debug("Invalidated tender counts after {} sync generation {} (local={}).", event.syncType(),
+				event.generation(), event.local());
+	}
+}
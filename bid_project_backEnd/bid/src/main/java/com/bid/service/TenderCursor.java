@@ -0,0 +1,39 @@
+package com.bid.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서(keyset) 페이지네이션 위치: 마지막으로 돌려준 공고의 목록 정렬 키(TenderPhase.listOrder)와 물건관리번호.
+ * 다음 페이지는 이 위치보다 뒤인 행부터 읽으므로 깊은 페이지도 첫 페이지와 비용이 같습니다 (OFFSET/count 없음).
+ * 클라이언트에는 내용을 해석하지 않는 문자열(Base64url)로 전달합니다.
+ */
+public record TenderCursor(long listOrder, String cltrMnmtNo) {
+
+	private static final String VERSION = "1";
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	public String encode() {
+		return ENCODER.encodeToString((VERSION + ":" + listOrder + ":" + cltrMnmtNo).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @return 비어 있으면 null (첫 페이지)
+	 * @throws IllegalArgumentException 이 서버가 만든 커서가 아닐 때
+	 */
+	public static TenderCursor decode(String token) {
+		if (token == null || token.isBlank()) {
+			return null;
+		}
+		try {
+			String[] parts = new String(DECODER.decode(token.trim()), StandardCharsets.UTF_8).split(":", 3);
+			if (parts.length == 3 && VERSION.equals(parts[0]) && !parts[2].isEmpty()) {
+				return new TenderCursor(Long.parseLong(parts[1]), parts[2]);
+			}
+		} catch (IllegalArgumentException e) { // Base64/숫자 형식 오류 (NumberFormatException 포함)
+			// 아래에서 같은 메시지로 던짐
+		}
+		throw new IllegalArgumentException("잘못된 커서입니다: " + token);
+	}
+}
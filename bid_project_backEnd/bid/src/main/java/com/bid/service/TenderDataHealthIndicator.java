@@ -0,0 +1,71 @@
+package com.bid.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import com.bid.entity.SyncRun;
+import com.bid.repository.SyncRunRepository;
+import com.bid.repository.TenderRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 입찰 공고 데이터의 준비 상태 (readiness 그룹에 포함, /actuator/health/readiness).
+ * 시작 시 동기화를 기다리지 않으므로, DB에 응답할 데이터가 하나도 없을 때만 OUT_OF_SERVICE로 트래픽을 막고
+ * 그 외에는 UP이며 마지막 동기화 시각과 오래되었는지(stale)를 함께 알려 줍니다.
+ */
+@Component("tenderData")
+@RequiredArgsConstructor
+public class TenderDataHealthIndicator implements HealthIndicator {
+
+	private final TenderRepository tenderRepository;
+	private final SyncRunRepository syncRunRepository;
+	private final OnbidSyncService onbidSyncService;
+	private final TenderSnapshotService tenderSnapshotService;
+
+	// 데이터가 한 번 확인되면 이후에는 존재 여부를 다시 조회하지 않음
+	private final AtomicBoolean hasData = new AtomicBoolean(false);
+
+	@Value("${onbid.readiness.stale-after-minutes:180}")
+	private long staleAfterMinutes; // 마지막 빠른/전체 동기화 완료 후 이 시간이 지나면 stale
+
+	@Override
+	public Health health() {
+		Optional<LocalDateTime> lastSyncedAt = Stream.of(SyncRun.SyncType.FULL, SyncRun.SyncType.FAST)
+				.map(type -> syncRunRepository.findFirstBySyncTypeAndStatusOrderByFinishedAtDesc(type,
+						SyncRun.Status.COMPLETED))
+				.flatMap(Optional::stream)
+				.map(SyncRun::getFinishedAt)
+				.filter(finishedAt -> finishedAt != null)
+				.max(Comparator.naturalOrder());
+
+		Health.Builder builder = hasData() ? Health.up() : Health.outOfService();
+		builder.withDetail("syncState", onbidSyncService.getSyncState());
+		tenderSnapshotService.current().ifPresent(snapshot -> builder.withDetail("snapshotGeneration",
+				snapshot.generation()));
+		if (lastSyncedAt.isEmpty()) {
+			return builder.withDetail("stale", true).build();
+		}
+		long ageMinutes = Duration.between(lastSyncedAt.get(), LocalDateTime.now()).toMinutes();
+		return builder.withDetail("lastSyncedAt", lastSyncedAt.get().toString())
+				.withDetail("ageMinutes", ageMinutes)
+				.withDetail("stale", ageMinutes > staleAfterMinutes)
+				.build();
+	}
+
+	private boolean hasData() {
+		if (!hasData.get() && tenderRepository.existsByActiveTrue()) {
+			hasData.set(true);
+		}
+		return hasData.get();
+	}
+}
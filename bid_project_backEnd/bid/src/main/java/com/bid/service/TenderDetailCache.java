@@ -0,0 +1,177 @@
+package com.bid.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.bid.dto.response.TenderResponseDTO;
+import com.bid.event.TenderBidPlacedEvent;
+import com.bid.event.TenderChangeEvent;
+import com.bid.event.TenderChangeListener;
+import com.bid.event.TenderSyncCompletedEvent;
+import com.bid.repository.TenderRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 물건관리번호 -> 공고 상세 DTO 캐시 (findByCltrMnmtNo 앞단, 크기 제한 LRU).
+ * 엔티티가 아닌 DTO를 담으므로 트랜잭션과 무관하게 재사용할 수 있고, 꺼낼 때마다 복사해서 상태를 현재 시각으로 다시 계산합니다.
+ *
+ * 무효화:
+ * <ul>
+ * <li>이 노드의 동기화가 바꾼 공고: TenderChangeListener로 받은 키만</li>
+ * <li>입찰: 커밋 후 TenderBidPlacedEvent의 키, 다른 노드의 입찰은 TenderSnapshotService.CaughtUp의 키</li>
+ * <li>변경 이벤트 유실, 다른 노드에서 끝난 동기화: 전체</li>
+ * <li>그 밖의 경로는 ttlMs가 지나면 다시 읽음</li>
+ * </ul>
+ * 조회 중에 무효화가 일어나면 읽어 온 값은 캐시에 넣지 않습니다 (무효화 이전 값이 다시 들어가는 것 방지).
+ *
+ * 메트릭: cache.gets (result=hit/miss), cache.evictions, cache.size (cache=tenderDetail)
+ */
+@Component
+@Slf4j
+public class TenderDetailCache implements TenderChangeListener {
+
+	private static final String CACHE_NAME = "tenderDetail";
+
+	private record CachedTender(TenderResponseDTO tender, Long id, long loadedAt) {
+	}
+
+	private final TenderRepository tenderRepository;
+	private final int maxSize;
+	private final long ttlMs;
+	private final Map<String, CachedTender> entries; // 접근 순서, 동기화: this
+	private final AtomicLong invalidations = new AtomicLong();
+	private final Counter hits;
+	private final Counter misses;
+	private final Counter evictions;
+
+	public TenderDetailCache(TenderRepository tenderRepository, MeterRegistry meterRegistry,
+			@Value("${onbid.detail-cache.max-size:10000}") int maxSize,
+			@Value("${onbid.detail-cache.ttl-ms:300000}") long ttlMs) {
+		this.tenderRepository = tenderRepository;
+		this.maxSize = maxSize;
+		this.ttlMs = ttlMs;
+		this.hits = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit")
+				.description("Tender detail cache lookups").register(meterRegistry);
+		this.misses = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss")
+				.description("Tender detail cache lookups").register(meterRegistry);
+		this.evictions = Counter.builder("cache.evictions").tag("cache", CACHE_NAME)
+				.description("Tender detail cache size evictions").register(meterRegistry);
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedTender> eldest) {
+				if (size() > TenderDetailCache.this.maxSize) {
+					TenderDetailCache.this.evictions.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+		Gauge.builder("cache.size", this, TenderDetailCache::size).tag("cache", CACHE_NAME)
+				.description("Tender detail cache entries").register(meterRegistry);
+	}
+
+	/**
+	 * 공고 상세 (없으면 DB에서 읽어 캐시). 돌려주는 DTO는 호출자가 바꿔도 되는 복사본입니다.
+	 */
+	public Optional<TenderResponseDTO> get(String cltrMnmtNo) {
+		return lookup(cltrMnmtNo).map(cached -> copyOf(cached.tender()));
+	}
+
+	/**
+	 * 공고의 기본키 (tenders.id). 연관관계만 필요한 곳에서 getReferenceById와 함께 씁니다.
+	 */
+	public Optional<Long> findId(String cltrMnmtNo) {
+		return lookup(cltrMnmtNo).map(CachedTender::id);
+	}
+
+	private Optional<CachedTender> lookup(String cltrMnmtNo) {
+		if (cltrMnmtNo == null) {
+			return Optional.empty();
+		}
+		long now = System.currentTimeMillis();
+		synchronized (this) {
+			CachedTender cached = entries.get(cltrMnmtNo);
+			if (cached != null && now - cached.loadedAt() < ttlMs) {
+				hits.increment();
+				return Optional.of(cached);
+			}
+		}
+		misses.increment();
+		long stamp = invalidations.get();
+		Optional<CachedTender> loaded = tenderRepository.findByCltrMnmtNo(cltrMnmtNo)
+				.map(tender -> new CachedTender(TenderResponseDTO.fromEntity(tender), tender.getId(), now));
+		loaded.ifPresent(cached -> {
+			synchronized (this) {
+				if (stamp == invalidations.get()) {
+					entries.put(cltrMnmtNo, cached);
+				}
+			}
+		});
+		return loaded;
+	}
+
+	public synchronized void invalidate(String cltrMnmtNo) {
+		invalidations.incrementAndGet();
+		entries.remove(cltrMnmtNo);
+	}
+
+	public synchronized void invalidateAll() {
+		invalidations.incrementAndGet();
+		entries.clear();
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	@Override
+	public synchronized void onTenderChanges(List<TenderChangeEvent> events) {
+		invalidations.incrementAndGet();
+		for (TenderChangeEvent event : events) {
+			entries.remove(event.cltrMnmtNo());
+		}
+	}
+
+	@Override
+	public void onEventsDropped(long droppedCount) {
+		invalidateAll();
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onBidPlaced(TenderBidPlacedEvent event) {
+		invalidate(event.cltrMnmtNo());
+	}
+
+	@EventListener
+	public void onCaughtUp(TenderSnapshotService.CaughtUp caughtUp) {
+		caughtUp.highestBidPrices().keySet().forEach(this::invalidate);
+	}
+
+	// 다른 노드의 동기화는 어떤 행이 바뀌었는지 알 수 없으므로 전체 무효화
+	@EventListener
+	public void onSyncCompleted(TenderSyncCompletedEvent event) {
+		if (!event.local()) {
+			invalidateAll();
+			log.debug("Cleared tender detail cache after remote sync generation {}.", event.generation());
+		}
+	}
+
+	private static TenderResponseDTO copyOf(TenderResponseDTO tender) {
+		return tender.toBuilder()
+				.status(TenderResponseDTO.statusOf(tender.getAnnouncementDate(), tender.getDeadline()))
+				.build();
+	}
+}
@@ -0,0 +1,119 @@
+package com.bid.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import com.bid.dto.response.TenderResponseDTO;
+import com.bid.event.TenderChanged;
+
+/**
+ * 온비드에서 받아온 Tender 필드(OnbidApiParser가 매핑하는 필드)에 대한 SHA-256 지문.
+ * 동기화 시 DB에 저장된 값과 비교해서 실제로 바뀐 행만 쓰기 위해 사용합니다.
+ * 조회수(IQRY_CNT)는 거의 매번 바뀌므로 지문에서 제외합니다 (다른 필드가 바뀔 때 함께 갱신).
+ */
+public final class TenderFingerprint {
+
+	private static final char FIELD_SEPARATOR = '\u001F';
+	private static final char NULL_MARKER = '\u0000';
+
+	// 지문에 들어가는 필드 구성이 바뀔 때 올립니다. 페이지 지문 비교 키(querySignature)에도 들어가므로
+	// 올리면 다음 동기화는 모든 페이지를 다시 파싱해서 새 필드를 채웁니다.
+	static final int VERSION = 2;
+
+	// 지문에 들어가는 필드 (순서도 지문의 일부이므로 바꾸면 VERSION을 올려야 함)
+	record Field(String name, Function<TenderResponseDTO, Object> getter) {
+	}
+
+	private static final List<Field> FIELDS = List.of(
+			field("cltrMnmtNo", TenderResponseDTO::getCltrMnmtNo),
+			field("tenderId", TenderResponseDTO::getTenderId),
+			field("pbctNo", TenderResponseDTO::getPbctNo),
+			field("cltrHstrNo", TenderResponseDTO::getCltrHstrNo),
+			field("tenderTitle", TenderResponseDTO::getTenderTitle),
+			field("organization", TenderResponseDTO::getOrganization),
+			field("bidNumber", TenderResponseDTO::getBidNumber),
+			field("goodsName", TenderResponseDTO::getGoodsName),
+			field("announcementDate", TenderResponseDTO::getAnnouncementDate),
+			field("deadline", TenderResponseDTO::getDeadline),
+			field("minBidPrice", TenderResponseDTO::getMinBidPrice),
+			field("apslAsesAvgAmt", TenderResponseDTO::getApslAsesAvgAmt),
+			field("pbctCdtnNo", TenderResponseDTO::getPbctCdtnNo),
+			field("cltrNo", TenderResponseDTO::getCltrNo),
+			field("scrnGrpCd", TenderResponseDTO::getScrnGrpCd),
+			field("ctgrFullNm", TenderResponseDTO::getCtgrFullNm),
+			field("ldnmAdrs", TenderResponseDTO::getLdnmAdrs),
+			field("nmrdAdrs", TenderResponseDTO::getNmrdAdrs),
+			field("ldnmPnu", TenderResponseDTO::getLdnmPnu),
+			field("dpslMtdCd", TenderResponseDTO::getDpslMtdCd),
+			field("bidMtdNm", TenderResponseDTO::getBidMtdNm),
+			field("feeRate", TenderResponseDTO::getFeeRate),
+			field("pbctCltrStatNm", TenderResponseDTO::getPbctCltrStatNm),
+			field("uscbdCnt", TenderResponseDTO::getUscbdCnt),
+			field("manf", TenderResponseDTO::getManf),
+			field("mdl", TenderResponseDTO::getMdl),
+			field("nrgt", TenderResponseDTO::getNrgt),
+			field("grbx", TenderResponseDTO::getGrbx),
+			field("endpc", TenderResponseDTO::getEndpc),
+			field("vhclMlge", TenderResponseDTO::getVhclMlge),
+			field("fuel", TenderResponseDTO::getFuel),
+			field("scrtNm", TenderResponseDTO::getScrtNm),
+			field("tpbz", TenderResponseDTO::getTpbz),
+			field("itmNm", TenderResponseDTO::getItmNm),
+			field("mmbRgtNm", TenderResponseDTO::getMmbRgtNm),
+			field("cltrImgFiles", TenderResponseDTO::getCltrImgFiles));
+
+	private TenderFingerprint() {
+	}
+
+	private static Field field(String name, Function<TenderResponseDTO, Object> getter) {
+		return new Field(name, getter);
+	}
+
+	public static String of(TenderResponseDTO dto) {
+		StringBuilder sb = new StringBuilder(256);
+		for (Field field : FIELDS) {
+			append(sb, field.getter().apply(dto));
+		}
+		return sha256Hex(sb.toString());
+	}
+
+	/**
+	 * 지문 필드 중 값이 다른 필드만 모읍니다 (필드 이름 -> 이전/이후 값). 동기화 변경 이벤트의 diff에 사용합니다.
+	 */
+	public static Map<String, TenderChanged.FieldChange> diff(TenderResponseDTO before, TenderResponseDTO after) {
+		Map<String, TenderChanged.FieldChange> changes = new LinkedHashMap<>();
+		for (Field field : FIELDS) {
+			Object oldValue = field.getter().apply(before);
+			Object newValue = field.getter().apply(after);
+			if (!Objects.equals(oldValue, newValue)) {
+				changes.put(field.name(), new TenderChanged.FieldChange(oldValue, newValue));
+			}
+		}
+		return changes;
+	}
+
+	private static void append(StringBuilder sb, Object value) {
+		if (value == null) {
+			sb.append(NULL_MARKER);
+		} else {
+			sb.append(value);
+		}
+		sb.append(FIELD_SEPARATOR);
+	}
+
+	static String sha256Hex(String value) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+		}
+	}
+}
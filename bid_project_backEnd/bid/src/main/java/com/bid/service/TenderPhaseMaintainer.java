@@ -0,0 +1,55 @@
+package com.bid.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.bid.repository.TenderBulkRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시간이 지나면서 바뀌는 공고 진행 단계(tenders.phase)와 목록 정렬 키(tenders.list_order)를 갱신합니다.
+ * 동기화는 쓸 때의 시각으로 계산하므로, 그 뒤에 공고일이나 마감일이 지난 행만 주기적으로 옮깁니다
+ * (예정 -> 진행/마감, 진행 -> 마감). 노드마다 첫 실행에서만 컬럼이 추가되기 전부터 있던 행도 채웁니다
+ * (동기화가 쓰는 행은 항상 단계가 있으므로 그 뒤로는 생기지 않음).
+ * 같은 시각이면 결과가 같은 UPDATE라서 여러 노드에서 동시에 돌아도 됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TenderPhaseMaintainer {
+
+	private final TenderBulkRepository tenderBulkRepository;
+
+	@Value("${onbid.phase.enabled:true}")
+	private boolean enabled;
+
+	private volatile boolean backfilled; // 단계가 없는 행을 채웠는지 (fixedDelay라 실행이 겹치지 않음)
+
+	@Scheduled(fixedDelayString = "${onbid.phase.refresh-interval-ms:60000}")
+	public void advancePhases() {
+		if (!enabled) {
+			return;
+		}
+		try {
+			LocalDateTime now = LocalDateTime.now();
+			if (!backfilled) { // 전체 조회라서 성공할 때까지 첫 실행에서만
+				int filled = tenderBulkRepository.backfillPhases(now);
+				backfilled = true;
+				if (filled > 0) {
+					log.info("Backfilled tender phase for {} rows.", filled);
+				}
+			}
+			int updated = tenderBulkRepository.advancePhases(now);
+			if (updated > 0) {
+				log.debug("Advanced tender phase for {} rows.", updated);
+			}
+		} catch (Exception e) {
+			log.error("Failed to advance tender phases: {}", e.getMessage(), e);
+		}
+	}
+}
@@ -0,0 +1,780 @@
+package com.bid.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.bid.dto.response.TenderResponseDTO;
+import com.bid.entity.TenderPhase;
+import com.bid.event.TenderBidPlacedEvent;
+import com.bid.event.TenderChangeEvent;
+import com.bid.event.TenderChangeListener;
+import com.bid.event.TenderChanged;
+import com.bid.event.TenderCreated;
+import com.bid.event.TenderDeactivated;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 활성 공고 목록/검색을 DB 없이 처리하는 메모리 조회 모델.
+ * 세대가 확인된 TenderSnapshot(mmap) 위에 검색과 정렬에 쓰는 컬럼만 힙 배열로 풀어 두고
+ * (물건관리번호, 소문자 제목, 처분방식, 공고일/마감일, 공고일 오름/내림차순 행 순서), 응답할 페이지의 행만 스냅샷에서 DTO로 디코딩합니다.
+ * 순서는 DB 목록(TenderPhase.listOrder)과 같고, 시작/예정 경계는 조회할 때의 시각으로 정합니다.
+ *
+ * 다음 스냅샷이 준비될 때까지의 동기화 변경(TenderChangeListener, 다른 노드의 것은 TenderSnapshotService.CaughtUp)은
+ * 정렬된 변경분(Delta)으로 들고 있다가 목록 위치 기준으로 스냅샷 순서와 합칩니다: 가려지는 스냅샷 행의 위치와 끼워 넣을 공고의 위치를 미리 계산해 두므로
+ * 전체 목록의 한 페이지는 O(log n + 페이지 크기)이고, 검색은 페이지를 채우면 멈춥니다 (건수는 count로 따로 세어 TenderCountCache에 둠).
+ * 변경분은 변경이 들어온 뒤 첫 조회 때 한 번 다시 만듭니다. 입찰로 오른 최고 입찰가(TenderBidPlacedEvent)는 응답할 행에만 덮어씁니다.
+ *
+ * 스냅샷이 아직 없거나 변경 이벤트를 놓친 동안에는 Optional.empty()를 돌려주고 TenderService가 DB로 조회합니다.
+ * 검색 조건은 TenderRepository.searchTendersByCriteria와 같은 의미입니다 (단, LIKE의 %, _도 일반 글자로 비교).
+ */
+@Component
+@ConditionalOnProperty(name = "onbid.read-model.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class TenderReadModel implements TenderChangeListener {
+
+	private static final long NULL_TIME = Long.MIN_VALUE; // 날짜 없음
+	private static final String GOODS_AREA_MARKER = "총면적";
+	private static final Comparator<String> KEY_ORDER = Comparator.nullsLast(Comparator.naturalOrder());
+
+	/**
+	 * 검색 조건 (null인 항목은 조건 없음).
+	 *
+	 * @param organization 처분방식 (organization과 정확히 일치)
+	 */
+	public record SearchFilter(String cltrNm, String organization, String sido, String sgk, String emd,
+			Long minGoodsPrice, Long maxGoodsPrice, LocalDateTime announcedFrom, LocalDateTime deadlineTo) {
+	}
+
+	/**
+	 * 조회한 페이지 (TenderPhase.listOrder 순서).
+	 *
+	 * @param totalCount 전체 목록이면 건수, 검색이면 null (페이지를 채우면 멈추므로 count로 따로 셈)
+	 * @param hasNext    다음 페이지가 있는지
+	 */
+	public record Result(List<TenderResponseDTO> tenders, Integer totalCount, boolean hasNext) {
+	}
+
+	/**
+	 * 커서 다음 한 페이지.
+	 *
+	 * @param nextCursor 다음 페이지 커서 (더 없으면 null)
+	 */
+	public record Window(List<TenderResponseDTO> tenders, TenderCursor nextCursor) {
+	}
+
+	// 스냅샷 이후 바뀐 공고 (tender가 null이면 비활성화됨)
+	private record Overlay(TenderResponseDTO tender, long appliedNanos) {
+	}
+
+	private record BidPrice(long highestBidPrice, long appliedNanos) {
+	}
+
+	private final ConcurrentMap<String, Overlay> changes = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, BidPrice> bidPrices = new ConcurrentHashMap<>();
+	private final AtomicLong changeVersion = new AtomicLong(); // changes에 넣은 뒤 올림
+
+	private volatile Delta delta; // 현재 색인 + 변경분 (changeVersion이 다르면 다음 조회 때 다시 만듦)
+	private volatile boolean stale; // 이벤트를 놓쳐서 다음 스냅샷까지 DB로 응답
+	private Long eventsDroppedAt; // System.nanoTime, 동기화: this
+
+	/**
+	 * 조건에 맞는 활성 공고 중 [offset, offset + limit) 구간. 준비되지 않았으면 empty (DB로 조회).
+	 * 전체 목록은 위치로 바로 찾아가고, 검색은 앞에서부터 조건에 맞는 행을 offset + limit + 1건까지만 봅니다.
+	 *
+	 * @param filter null이면 전체 활성 공고
+	 */
+	public Optional<Result> query(SearchFilter filter, long offset, int limit) {
+		Delta current = currentDelta();
+		if (current == null) {
+			return Optional.empty();
+		}
+		long now = epochOf(LocalDateTime.now());
+		View view = current.view(now);
+		List<TenderResponseDTO> page = new ArrayList<>(Math.min(limit, 1000));
+
+		if (filter == null) {
+			Walker walker = new Walker(current.index, view, now, (int) Math.min(offset, view.size));
+			while (page.size() < limit && walker.advance()) {
+				page.add(walker.toDto());
+			}
+			return Optional.of(new Result(page, view.size, offset + page.size() < view.size));
+		}
+
+		Criteria criteria = new Criteria(filter);
+		Walker walker = new Walker(current.index, view, now, 0);
+		long skipped = 0;
+		boolean hasNext = false;
+		while (walker.advance()) {
+			if (!walker.matches(criteria)) {
+				continue;
+			}
+			if (skipped < offset) {
+				skipped++;
+			} else if (page.size() < limit) {
+				page.add(walker.toDto());
+			} else {
+				hasNext = true;
+				break;
+			}
+		}
+		return Optional.of(new Result(page, null, hasNext));
+	}
+
+	/**
+	 * 조건에 맞는 활성 공고 중 커서보다 뒤인 limit건. 시작 위치를 이진 탐색으로 찾으므로 페이지 깊이와 무관합니다.
+	 *
+	 * @param after null이면 첫 페이지
+	 */
+	public Optional<Window> queryAfter(SearchFilter filter, TenderCursor after, int limit) {
+		Delta current = currentDelta();
+		if (current == null) {
+			return Optional.empty();
+		}
+		long now = epochOf(LocalDateTime.now());
+		View view = current.view(now);
+		Criteria criteria = filter == null ? null : new Criteria(filter);
+		Walker walker = new Walker(current.index, view, now, after == null ? 0 : view.countUpTo(after, now));
+		WindowCollector window = new WindowCollector(limit);
+		while (walker.advance()) {
+			if (criteria != null && !walker.matches(criteria)) {
+				continue;
+			}
+			if (!window.offer(walker.listOrder, walker.key, walker::toDto)) {
+				break;
+			}
+		}
+		return Optional.of(new Window(window.tenders, window.nextCursor()));
+	}
+
+	/**
+	 * 조건에 맞는 활성 공고 수. 전체 목록은 바로, 검색은 한 번 훑어서 셉니다 (TenderCountCache에 없을 때만 호출).
+	 *
+	 * @return 준비되지 않았으면 empty (DB로 셈)
+	 */
+	public OptionalLong count(SearchFilter filter) {
+		Delta current = currentDelta();
+		if (current == null) {
+			return OptionalLong.empty();
+		}
+		long now = epochOf(LocalDateTime.now());
+		View view = current.view(now);
+		if (filter == null) {
+			return OptionalLong.of(view.size);
+		}
+		Criteria criteria = new Criteria(filter);
+		Walker walker = new Walker(current.index, view, now, 0);
+		long count = 0;
+		while (walker.advance()) {
+			if (walker.matches(criteria)) {
+				count++;
+			}
+		}
+		return OptionalLong.of(count);
+	}
+
+	/**
+	 * 세대가 확인된 스냅샷으로 색인을 다시 만들고, 스냅샷에 이미 들어간 변경분을 지웁니다.
+	 */
+	@EventListener
+	public synchronized void onSnapshotReady(TenderSnapshotService.SnapshotReady ready) {
+		long started = System.currentTimeMillis();
+		Index index = new Index(ready.snapshot());
+		long queryStartedNanos = ready.queryStartedNanos();
+		if (queryStartedNanos != Long.MIN_VALUE) {
+			// 조회 시작 전에 적용된 변경은 커밋된 뒤 전달된 것이므로 스냅샷에 들어 있음
+			changes.values().removeIf(overlay -> overlay.appliedNanos() - queryStartedNanos < 0);
+			bidPrices.values().removeIf(bidPrice -> bidPrice.appliedNanos() - queryStartedNanos < 0);
+			if (eventsDroppedAt != null && eventsDroppedAt - queryStartedNanos < 0) {
+				eventsDroppedAt = null;
+			}
+		}
+		long version = changeVersion.get();
+		delta = new Delta(index, changes, version);
+		stale = eventsDroppedAt != null;
+		log.info("Tender read model indexed snapshot generation {} ({} rows, {} pending changes) in {} ms.{}",
+				ready.snapshot().generation(), ready.snapshot().size(), changes.size(),
+				System.currentTimeMillis() - started, stale ? " Serving from DB until the next snapshot." : "");
+	}
+
+	@Override
+	public void onTenderChanges(List<TenderChangeEvent> events) {
+		long now = System.nanoTime();
+		for (TenderChangeEvent event : events) {
+			if (event.cltrMnmtNo() == null) {
+				continue;
+			}
+			TenderResponseDTO tender = switch (event) {
+				case TenderCreated created -> created.tender();
+				case TenderChanged changed -> changed.tender();
+				case TenderDeactivated deactivated -> null;
+			};
+			changes.put(event.cltrMnmtNo(), new Overlay(tender, now));
+		}
+		changeVersion.incrementAndGet();
+	}
+
+	// 놓친 변경은 다시 만들 수 없으므로, 이 시점 이후에 조회한 스냅샷이 준비될 때까지 DB로 응답
+	@Override
+	public synchronized void onEventsDropped(long droppedCount) {
+		eventsDroppedAt = System.nanoTime();
+		stale = true;
+		log.warn("Tender read model missed {} change events, serving list/search from DB until the next snapshot.",
+				droppedCount);
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onBidPlaced(TenderBidPlacedEvent event) {
+		applyBidPrice(event.cltrMnmtNo(), event.highestBidPrice());
+	}
+
+	// 다른 노드의 우선 갱신/입찰 (DB에서 다시 읽은 값이므로 이 노드의 변경 이벤트와 같이 변경분으로 둠)
+	@EventListener
+	public void onCaughtUp(TenderSnapshotService.CaughtUp caughtUp) {
+		long now = System.nanoTime();
+		for (TenderResponseDTO tender : caughtUp.tenders()) {
+			changes.put(tender.getCltrMnmtNo(), new Overlay(Boolean.TRUE.equals(tender.getActive()) ? tender : null,
+					now));
+		}
+		if (!caughtUp.tenders().isEmpty()) {
+			changeVersion.incrementAndGet();
+		}
+		caughtUp.highestBidPrices().forEach(this::applyBidPrice);
+	}
+
+	private void applyBidPrice(String cltrMnmtNo, long highestBidPrice) {
+		BidPrice bidPrice = new BidPrice(highestBidPrice, System.nanoTime());
+		bidPrices.merge(cltrMnmtNo, bidPrice,
+				(before, after) -> before.highestBidPrice() > after.highestBidPrice() ? before : after);
+	}
+
+	// 조회에 쓸 색인 + 변경분 (준비되지 않았으면 null). 마지막으로 만든 뒤 변경이 들어왔으면 다시 만듦
+	private Delta currentDelta() {
+		Delta current = delta;
+		if (current == null || stale) {
+			return null;
+		}
+		return current.version == changeVersion.get() ? current : refreshDelta();
+	}
+
+	private synchronized Delta refreshDelta() {
+		Delta current = delta;
+		long version = changeVersion.get(); // changes보다 먼저 읽음 (이후 들어온 변경은 다음 조회에서 다시 반영)
+		if (current != null && current.version != version) {
+			current = new Delta(current.index, changes, version);
+			delta = current;
+		}
+		return current;
+	}
+
+	// 변경분 DTO는 이벤트와 공유하므로 복사한 뒤 현재 시각 기준 상태와 입찰가를 반영
+	private TenderResponseDTO copyOf(TenderResponseDTO tender) {
+		return withBidPrice(tender.toBuilder()
+				.status(TenderResponseDTO.statusOf(tender.getAnnouncementDate(), tender.getDeadline()))
+				.build());
+	}
+
+	private TenderResponseDTO withBidPrice(TenderResponseDTO tender) {
+		BidPrice bidPrice = tender.getCltrMnmtNo() == null ? null : bidPrices.get(tender.getCltrMnmtNo());
+		if (bidPrice != null && (tender.getHighestBidPrice() == null
+				|| tender.getHighestBidPrice() < bidPrice.highestBidPrice())) {
+			tender.setHighestBidPrice(bidPrice.highestBidPrice());
+		}
+		return tender;
+	}
+
+	// DB 목록과 같은 순서: list_order, 같으면 물건관리번호 순
+	private static int compareOrder(long listOrderA, String keyA, long listOrderB, String keyB) {
+		int cmp = Long.compare(listOrderA, listOrderB);
+		return cmp != 0 ? cmp : KEY_ORDER.compare(keyA, keyB);
+	}
+
+	private static long listOrderOf(long announcedAt, long now) {
+		return announcedAt == NULL_TIME ? TenderPhase.UNDATED_ORDER : TenderPhase.listOrder(announcedAt, now);
+	}
+
+	private static long listOrderOf(TenderResponseDTO tender, long now) {
+		return listOrderOf(epochOf(tender.getAnnouncementDate()), now);
+	}
+
+	// 공고일 내림차순 (없으면 마지막), 같으면 물건관리번호 순
+	private static int compareDescending(long announcedA, String keyA, long announcedB, String keyB) {
+		if (announcedA != announcedB) {
+			if (announcedA == NULL_TIME) {
+				return 1;
+			}
+			if (announcedB == NULL_TIME) {
+				return -1;
+			}
+			return Long.compare(announcedB, announcedA);
+		}
+		return KEY_ORDER.compare(keyA, keyB);
+	}
+
+	// 공고일 오름차순 (없으면 마지막), 같으면 물건관리번호 순
+	private static int compareAscending(long announcedA, String keyA, long announcedB, String keyB) {
+		if (announcedA != announcedB) {
+			if (announcedA == NULL_TIME) {
+				return 1;
+			}
+			if (announcedB == NULL_TIME) {
+				return -1;
+			}
+			return Long.compare(announcedA, announcedB);
+		}
+		return KEY_ORDER.compare(keyA, keyB);
+	}
+
+	// 스냅샷과 같은 인코딩 (UTC 기준 epoch 초)
+	private static long epochOf(LocalDateTime dateTime) {
+		return dateTime == null ? NULL_TIME : dateTime.toEpochSecond(ZoneOffset.UTC);
+	}
+
+	private static long epochOf(Long epochSeconds) {
+		return epochSeconds == null ? NULL_TIME : epochSeconds;
+	}
+
+	private static String lower(String value) {
+		return value == null ? null : value.toLowerCase(Locale.ROOT);
+	}
+
+	// 정렬된 배열에서 value보다 작은 원소 수
+	private static int countBelow(int[] sorted, int value) {
+		int low = 0;
+		int high = sorted.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (sorted[mid] < value) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	// 정렬된 배열에서 value 이하인 원소 수
+	private static int countAtOrBelow(long[] sorted, long value) {
+		int low = 0;
+		int high = sorted.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (sorted[mid] <= value) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	// 스냅샷 한 세대에 대한 검색/정렬용 컬럼 (불변)
+	private static final class Index {
+		private final TenderSnapshot snapshot;
+		private final String[] keys;
+		private final String[] titles; // 소문자
+		private final String[] organizations;
+		private final long[] announcedAt;
+		private final long[] deadlines;
+		private final int[] descending; // 공고일 내림차순 행 번호 (시작된 공고 구간)
+		private final int[] ascending; // 공고일 오름차순 행 번호 (예정 공고 구간)
+		private final int[] descendingPositions; // 행 번호 -> descending 안의 위치
+		private final int[] ascendingPositions; // 행 번호 -> ascending 안의 위치
+		private final int datedCount; // 공고일이 있는 행 수 (두 배열 모두 이 뒤는 공고일 없는 행)
+
+		private Index(TenderSnapshot snapshot) {
+			int size = snapshot.size();
+			String[] keys = new String[size];
+			String[] titles = new String[size];
+			String[] organizations = new String[size];
+			long[] announcedAt = new long[size];
+			long[] deadlines = new long[size];
+			for (int row = 0; row < size; row++) {
+				keys[row] = snapshot.getString(TenderSnapshot.Column.CLTR_MNMT_NO, row);
+				titles[row] = lower(snapshot.getString(TenderSnapshot.Column.TENDER_TITLE, row));
+				organizations[row] = snapshot.getCategory(TenderSnapshot.Column.ORGANIZATION, row);
+				announcedAt[row] = epochOf(snapshot.getLong(TenderSnapshot.Column.ANNOUNCEMENT_DATE, row));
+				deadlines[row] = epochOf(snapshot.getLong(TenderSnapshot.Column.DEADLINE, row));
+			}
+			this.snapshot = snapshot;
+			this.keys = keys;
+			this.titles = titles;
+			this.organizations = organizations;
+			this.announcedAt = announcedAt;
+			this.deadlines = deadlines;
+			this.descending = IntStream.range(0, size)
+					.boxed()
+					.sorted((a, b) -> compareDescending(announcedAt[a], keys[a], announcedAt[b], keys[b]))
+					.mapToInt(Integer::intValue)
+					.toArray();
+			this.ascending = IntStream.range(0, size)
+					.boxed()
+					.sorted((a, b) -> compareAscending(announcedAt[a], keys[a], announcedAt[b], keys[b]))
+					.mapToInt(Integer::intValue)
+					.toArray();
+			this.descendingPositions = inverse(descending);
+			this.ascendingPositions = inverse(ascending);
+			this.datedCount = (int) IntStream.range(0, size).filter(row -> announcedAt[row] != NULL_TIME).count();
+		}
+
+		// now 기준 목록 순서 (예정 공고 수는 내림차순 배열 앞부분을 이진 탐색)
+		private ListOrder listOrder(long now) {
+			int low = 0;
+			int high = datedCount;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (announcedAt[descending[mid]] > now) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return new ListOrder(this, low);
+		}
+
+		private static int[] inverse(int[] rows) {
+			int[] positions = new int[rows.length];
+			for (int position = 0; position < rows.length; position++) {
+				positions[rows[position]] = position;
+			}
+			return positions;
+		}
+	}
+
+	/**
+	 * 목록 위치 -> 행 번호: 시작된 공고(내림차순 배열의 upcomingCount 이후), 예정 공고(오름차순 배열의 끝부분),
+	 * 공고일 없는 행 순.
+	 */
+	private record ListOrder(Index index, int upcomingCount) {
+
+		private int rowAt(int position) {
+			int startedCount = index.datedCount - upcomingCount;
+			if (position < startedCount) {
+				return index.descending[upcomingCount + position];
+			} else if (position < index.datedCount) {
+				return index.ascending[position]; // 오름차순 배열에서 시작된 공고 뒤가 예정 공고
+			}
+			return index.descending[position];
+		}
+
+		// rowAt의 역
+		private int positionOf(int row) {
+			int descendingPosition = index.descendingPositions[row];
+			if (index.announcedAt[row] == NULL_TIME) {
+				return descendingPosition;
+			}
+			return descendingPosition < upcomingCount ? index.ascendingPositions[row]
+					: descendingPosition - upcomingCount;
+		}
+
+		// 목록 순서가 (listOrder, key)보다 앞인(inclusive면 같은 것 포함) 스냅샷 행 수 (위치 순서가 곧 목록 순서이므로 이진 탐색)
+		private int countBefore(long listOrder, String key, long now, boolean inclusive) {
+			int low = 0;
+			int high = index.keys.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				int row = rowAt(mid);
+				int cmp = compareOrder(listOrderOf(index.announcedAt[row], now), index.keys[row], listOrder, key);
+				if (cmp < 0 || (inclusive && cmp == 0)) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+	}
+
+	/**
+	 * 한 색인에 대한 스냅샷 이후 변경분 (불변). 변경된/비활성화된 공고의 스냅샷 행은 가리고, 활성 변경분은 목록에 끼워 넣습니다.
+	 */
+	private static final class Delta {
+		private final Index index;
+		private final long version;
+		private final int[] hiddenRows; // 변경분으로 가려지는 스냅샷 행
+		private final TenderResponseDTO[] inserted; // 활성 변경분
+		private final long[] insertedAnnouncements; // 변경분 공고일 (오름차순, 날짜 없음 제외)
+		private volatile View view; // 마지막으로 만든 병합 뷰
+
+		private Delta(Index index, Map<String, Overlay> changes, long version) {
+			List<Integer> hiddenRows = new ArrayList<>();
+			List<TenderResponseDTO> inserted = new ArrayList<>();
+			for (Map.Entry<String, Overlay> change : changes.entrySet()) {
+				OptionalInt row = index.snapshot.indexOf(change.getKey());
+				row.ifPresent(hiddenRows::add);
+				if (change.getValue().tender() != null) {
+					inserted.add(change.getValue().tender());
+				}
+			}
+			this.index = index;
+			this.version = version;
+			this.hiddenRows = hiddenRows.stream().mapToInt(Integer::intValue).toArray();
+			this.inserted = inserted.toArray(TenderResponseDTO[]::new);
+			this.insertedAnnouncements = inserted.stream()
+					.mapToLong(tender -> epochOf(tender.getAnnouncementDate()))
+					.filter(announcedAt -> announcedAt != NULL_TIME)
+					.sorted()
+					.toArray();
+		}
+
+		// now의 시작/예정 경계에 맞는 병합 뷰 (경계를 넘은 공고가 없으면 마지막 뷰를 그대로 씀)
+		private View view(long now) {
+			ListOrder listOrder = index.listOrder(now);
+			int insertedStarted = countAtOrBelow(insertedAnnouncements, now);
+			View current = view;
+			if (current == null || current.listOrder.upcomingCount() != listOrder.upcomingCount()
+					|| current.insertedStarted != insertedStarted) {
+				current = new View(this, listOrder, insertedStarted, now);
+				view = current;
+			}
+			return current;
+		}
+	}
+
+	/**
+	 * 변경분을 스냅샷 목록 순서에 합친 위치 정보. 병합 위치 m은 가려지지 않은 스냅샷 행과 끼워 넣은 공고를 목록 순서로 센 번호입니다.
+	 */
+	private static final class View {
+		private final ListOrder listOrder;
+		private final int insertedStarted; // 이 뷰를 만들 때 시작된 변경분 수 (경계 확인용)
+		private final int[] hiddenPositions; // 가려지는 스냅샷 행의 목록 위치 (오름차순)
+		private final TenderResponseDTO[] inserted; // 목록 순서
+		private final long[] insertedOrders;
+		private final int[] insertedPositions; // 끼워 넣은 공고의 병합 위치 (오름차순)
+		private final int size; // 병합된 목록 길이
+
+		private View(Delta delta, ListOrder listOrder, int insertedStarted, long now) {
+			this.listOrder = listOrder;
+			this.insertedStarted = insertedStarted;
+			this.hiddenPositions = Arrays.stream(delta.hiddenRows).map(listOrder::positionOf).sorted().toArray();
+			this.inserted = delta.inserted.clone();
+			Arrays.sort(inserted, (a, b) -> compareOrder(listOrderOf(a, now), a.getCltrMnmtNo(), listOrderOf(b, now),
+					b.getCltrMnmtNo()));
+			this.insertedOrders = new long[inserted.length];
+			this.insertedPositions = new int[inserted.length];
+			for (int i = 0; i < inserted.length; i++) {
+				insertedOrders[i] = listOrderOf(inserted[i], now);
+				int snapshotBefore = listOrder.countBefore(insertedOrders[i], inserted[i].getCltrMnmtNo(), now, false);
+				insertedPositions[i] = snapshotBefore - countBelow(hiddenPositions, snapshotBefore) + i;
+			}
+			this.size = delta.index.keys.length - hiddenPositions.length + inserted.length;
+		}
+
+		// 목록 순서가 커서 이하인 병합 목록 원소 수 (= 커서 다음 원소의 병합 위치)
+		private int countUpTo(TenderCursor after, long now) {
+			int snapshotUpTo = listOrder.countBefore(after.listOrder(), after.cltrMnmtNo(), now, true);
+			int low = 0;
+			int high = inserted.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (compareOrder(insertedOrders[mid], inserted[mid].getCltrMnmtNo(), after.listOrder(),
+						after.cltrMnmtNo()) <= 0) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return snapshotUpTo - countBelow(hiddenPositions, snapshotUpTo) + low;
+		}
+	}
+
+	/**
+	 * 병합 위치 start부터 목록 순서로 한 건씩 이동합니다. 시작 위치는 이진 탐색으로 찾고, 이후는 스냅샷 위치와 변경분을 번갈아 씁니다.
+	 */
+	private final class Walker {
+		private final Index index;
+		private final View view;
+		private final long now;
+		private int merged; // 다음 원소의 병합 위치
+		private int position; // 다음 스냅샷 목록 위치 후보
+		private int hidden; // hiddenPositions에서 position 이상인 첫 원소
+		private int next; // 다음 끼워 넣을 변경분
+
+		// 현재 원소: 스냅샷 행(row >= 0) 또는 변경분(tender)
+		private int row;
+		private TenderResponseDTO tender;
+		private long listOrder;
+		private String key;
+
+		private Walker(Index index, View view, long now, int start) {
+			this.index = index;
+			this.view = view;
+			this.now = now;
+			this.merged = start;
+			this.next = countBelow(view.insertedPositions, start);
+			// 앞에 있는 가려지지 않은 스냅샷 행 수 visible -> 스냅샷 위치 (hiddenPositions[j] - j는 감소하지 않음)
+			int visible = start - next;
+			int low = 0;
+			int high = view.hiddenPositions.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (view.hiddenPositions[mid] - mid <= visible) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			this.hidden = low;
+			this.position = visible + low;
+		}
+
+		// 다음 원소로 이동 (끝이면 false)
+		private boolean advance() {
+			if (merged >= view.size) {
+				return false;
+			}
+			if (next < view.inserted.length && view.insertedPositions[next] == merged) {
+				row = -1;
+				tender = view.inserted[next];
+				listOrder = view.insertedOrders[next];
+				key = tender.getCltrMnmtNo();
+				next++;
+			} else {
+				while (hidden < view.hiddenPositions.length && view.hiddenPositions[hidden] == position) {
+					position++;
+					hidden++;
+				}
+				row = view.listOrder.rowAt(position++);
+				tender = null;
+				listOrder = listOrderOf(index.announcedAt[row], now);
+				key = index.keys[row];
+			}
+			merged++;
+			return true;
+		}
+
+		private boolean matches(Criteria criteria) {
+			return row >= 0 ? criteria.matches(index, row) : criteria.matches(tender);
+		}
+
+		private TenderResponseDTO toDto() {
+			return row >= 0 ? withBidPrice(index.snapshot.toDto(row)) : copyOf(tender);
+		}
+	}
+
+	// SearchFilter를 비교하기 좋은 형태로 한 번만 변환
+	private static final class Criteria {
+		private final List<String> titleTerms; // 소문자, 모두 포함해야 함
+		private final String organization;
+		private final List<String> goodsTerms; // goodsName에서 "총면적" 뒤에 나와야 하는 값
+		private final Long announcedFrom;
+		private final Long deadlineTo;
+
+		private Criteria(SearchFilter filter) {
+			List<String> titleTerms = new ArrayList<>();
+			for (String term : new String[] { filter.cltrNm(), filter.sido(), filter.sgk(), filter.emd() }) {
+				if (term != null) {
+					titleTerms.add(lower(term));
+				}
+			}
+			List<String> goodsTerms = new ArrayList<>();
+			for (Long price : new Long[] { filter.minGoodsPrice(), filter.maxGoodsPrice() }) {
+				if (price != null) {
+					goodsTerms.add(String.valueOf(price));
+				}
+			}
+			this.titleTerms = titleTerms;
+			this.organization = filter.organization();
+			this.goodsTerms = goodsTerms;
+			this.announcedFrom = filter.announcedFrom() == null ? null : epochOf(filter.announcedFrom());
+			this.deadlineTo = filter.deadlineTo() == null ? null : epochOf(filter.deadlineTo());
+		}
+
+		private boolean matches(Index index, int row) {
+			// 힙 컬럼으로 먼저 거르고, goodsName은 남은 행만 스냅샷에서 읽음
+			return matchesTitle(index.titles[row])
+					&& (organization == null || organization.equals(index.organizations[row]))
+					&& matchesDates(index.announcedAt[row], index.deadlines[row])
+					&& (goodsTerms.isEmpty()
+							|| matchesGoods(index.snapshot.getString(TenderSnapshot.Column.GOODS_NAME, row)));
+		}
+
+		private boolean matches(TenderResponseDTO tender) {
+			return matchesTitle(lower(tender.getTenderTitle()))
+					&& (organization == null || organization.equals(tender.getOrganization()))
+					&& matchesDates(epochOf(tender.getAnnouncementDate()), epochOf(tender.getDeadline()))
+					&& (goodsTerms.isEmpty() || matchesGoods(tender.getGoodsName()));
+		}
+
+		private boolean matchesTitle(String title) {
+			for (String term : titleTerms) {
+				if (title == null || !title.contains(term)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		// SQL과 같이 날짜가 없는 행은 조건이 있으면 제외
+		private boolean matchesDates(long announcedAt, long deadline) {
+			return (announcedFrom == null || (announcedAt != NULL_TIME && announcedAt >= announcedFrom))
+					&& (deadlineTo == null || (deadline != NULL_TIME && deadline <= deadlineTo));
+		}
+
+		// LIKE '%총면적%<값>%'
+		private boolean matchesGoods(String goodsName) {
+			if (goodsName == null) {
+				return false;
+			}
+			int marker = goodsName.indexOf(GOODS_AREA_MARKER);
+			if (marker < 0) {
+				return false;
+			}
+			for (String term : goodsTerms) {
+				if (goodsName.indexOf(term, marker + GOODS_AREA_MARKER.length()) < 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	// limit건을 모으고, 한 건이 더 있으면 다음 커서를 만듦 (그 한 건은 디코딩하지 않음)
+	private static final class WindowCollector {
+		private final int limit;
+		private final List<TenderResponseDTO> tenders = new ArrayList<>();
+		private long lastOrder;
+		private String lastKey;
+		private boolean hasMore;
+
+		private WindowCollector(int limit) {
+			this.limit = limit;
+		}
+
+		// 더 받을 수 없으면 false
+		private boolean offer(long listOrder, String key, Supplier<TenderResponseDTO> tender) {
+			if (tenders.size() >= limit) {
+				hasMore = true;
+				return false;
+			}
+			tenders.add(tender.get());
+			lastOrder = listOrder;
+			lastKey = key;
+			return true;
+		}
+
+		private TenderCursor nextCursor() {
+			return hasMore && !tenders.isEmpty() ? new TenderCursor(lastOrder, lastKey) : null;
+		}
+	}
+}
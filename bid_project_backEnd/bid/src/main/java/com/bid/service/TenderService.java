@@ -1,49 +1,32 @@
 package com.bid.service;
 
-import java.io.StringReader;
-import java.net.URI;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Set;
-import java.util.UUID;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
-import com.bid.dto.OnbidItem;
+
 import com.bid.dto.response.PagedTenderResponse;
+import com.bid.dto.response.TenderPriceHistoryDTO;
 import com.bid.dto.response.TenderResponseDTO;
 import com.bid.entity.Tender;
+import com.bid.repository.TenderPriceHistoryRepository;
 import com.bid.repository.TenderRepository;
 
-import lombok.AllArgsConstructor;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
@@ -53,73 +36,157 @@ import lombok.extern.slf4j.Slf4j;
 public class TenderService {
 
 	private final TenderRepository tenderRepository;
+	private final TenderPriceHistoryRepository tenderPriceHistoryRepository;
+	private final TenderDetailCache tenderDetailCache;
+	private final TenderCountCache tenderCountCache;
+	private final ObjectProvider<TenderReadModel> tenderReadModelProvider; // onbid.read-model.enabled=false면 없음
 
-	@Value("${onbid.api.base-url}")
-	private String onbidApiBaseUrl;
-
-	@Value("${onbid.api.service-key}")
-	private String onbidApiServiceKey;
+	// ✅ 시작된 공고(공고일 <= 지금) 최신순 -> 예정 공고 가까운 순 -> 공고일 없음 (TenderPhase.listOrder, idx_active_list_order)
+	private static final Sort LIST_ORDER = Sort.by(Sort.Order.asc("listOrder"), Sort.Order.asc("cltrMnmtNo"));
 
-	private static final DateTimeFormatter ONBID_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+	private static final LocalDateTime PRICE_HISTORY_EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
 
-	public PagedTenderResponse getAllTenders(int pageNo, int numOfRows) {
-		// 1. 온비드 API 호출을 위한 URI 구성
+	// 메모리 조회 모델(TenderReadModel)이 준비되어 있으면 DB를 거치지 않음 (트랜잭션도 열지 않도록 SUPPORTS)
+	// countMode: 전체 건수를 정확히(EXACT, 캐시), 추정으로(ESTIMATE), 또는 세지 않고 hasNext만(NONE)
+	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+	public PagedTenderResponse getAllTenders(int pageNo, int numOfRows, TenderCountCache.Mode countMode) {
+		Pageable pageable = PageRequest.of(pageNo - 1, numOfRows, LIST_ORDER);
 
-		Pageable pageable = PageRequest.of(pageNo - 1, numOfRows, Sort.by(Sort.Direction.DESC, "announcementDate"));
+		Optional<TenderReadModel.Result> fromMemory = queryReadModel(null, pageable);
+		if (fromMemory.isPresent()) {
+			return fromReadModel(fromMemory.get(), null, countMode, pageable);
+		}
 
-		Page<Tender> tenderPage = tenderRepository.findByActiveTrue(pageable);
+		Slice<Tender> tenderSlice = tenderRepository.findByActiveTrue(pageable);
 
-		List<TenderResponseDTO> dtoList = tenderPage.getContent().stream().map(TenderResponseDTO::fromEntity)
+		List<TenderResponseDTO> dtoList = tenderSlice.getContent().stream().map(TenderResponseDTO::fromEntity)
 				.collect(Collectors.toList());
 
-		LocalDateTime now = LocalDateTime.now();
-		dtoList.sort((dto1, dto2) -> {
-			LocalDateTime ann1 = dto1.getAnnouncementDate();
-			LocalDateTime ann2 = dto2.getAnnouncementDate();
-			if (ann1 == null && ann2 == null)
-				return 0;
-			if (ann1 == null)
-				return 1;
-			if (ann2 == null)
-				return -1;
-			boolean isDto1Started = !ann1.isAfter(now);
-			boolean isDto2Started = !ann2.isAfter(now);
-			if (isDto1Started && !isDto2Started) {
-				return -1;
-			}
-			if (!isDto1Started && isDto2Started) {
-				return 1;
-			}
-			if (isDto1Started && isDto2Started) {
-				return ann2.compareTo(ann1);
-			} else {
-				return ann1.compareTo(ann2);
-			}
-		});
-
-		return PagedTenderResponse.builder().tenders(dtoList).totalCount((int) tenderPage.getTotalElements()) // Long을
-																												// int로
-																												// 캐스팅
-				.pageNo(pageNo).numOfRows(numOfRows).build();
+		TenderCountCache.Count total = countOf(null, countMode, pageable, tenderSlice.getNumberOfElements(),
+				tenderSlice.hasNext(), () -> countInDb(null));
+		return toPagedResponse(dtoList, total, tenderSlice.hasNext(), pageNo, numOfRows);
 	}
 
 	public TenderResponseDTO getTenderDetail(String cltrMnmtNo) {
-		Tender tender = tenderRepository.findByCltrMnmtNo(cltrMnmtNo)
+		return tenderDetailCache.get(cltrMnmtNo)
 				.orElseThrow(() -> new NoSuchElementException("물건관리번호 " + cltrMnmtNo + "를 찾을 수 없습니다."));
+	}
 
-		return TenderResponseDTO.fromEntity(tender);
+	// 공고의 온비드 가격 변동 이력 (기간을 생략하면 전체, 오래된 순)
+	public List<TenderPriceHistoryDTO> getPriceHistory(String cltrMnmtNo, String fromStr, String toStr) {
+		LocalDateTime from = parseDateTime(fromStr);
+		LocalDateTime to = parseDateTime(toStr);
+		return tenderPriceHistoryRepository
+				.findByCltrMnmtNoAndObservedAtBetweenOrderByObservedAtAsc(cltrMnmtNo,
+						from != null ? from : PRICE_HISTORY_EPOCH, to != null ? to : LocalDateTime.now())
+				.stream()
+				.map(TenderPriceHistoryDTO::fromEntity)
+				.collect(Collectors.toList());
 	}
 
+	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
 	public PagedTenderResponse searchTenders(
             String cltrNm, String dpslMtdCd, String sido, String sgk, String emd,
             String goodsPriceFrom, String goodsPriceTo, String openPriceFrom, String openPriceTo,
             String pbctBegnDtmStr, String pbctClsDtmStr, // ✅ String으로 받아서 파싱
-            int pageNo, int numOfRows, int status) {
+            int pageNo, int numOfRows, int status, TenderCountCache.Mode countMode) {
 
         long startTime = System.currentTimeMillis();
 
-        Pageable pageable = PageRequest.of(pageNo - 1, numOfRows, Sort.by(Sort.Direction.DESC, "announcementDate"));
+        Pageable pageable = PageRequest.of(pageNo - 1, numOfRows, LIST_ORDER);
+
+        TenderReadModel.SearchFilter filter = toSearchFilter(cltrNm, dpslMtdCd, sido, sgk, emd,
+                goodsPriceFrom, goodsPriceTo, pbctBegnDtmStr, pbctClsDtmStr);
+
+        Optional<TenderReadModel.Result> fromMemory = queryReadModel(filter, pageable);
+        if (fromMemory.isPresent()) {
+            log.debug("searchTenders from read model finished in {}ms. Page elements: {}",
+                    (System.currentTimeMillis() - startTime), fromMemory.get().tenders().size());
+            return fromReadModel(fromMemory.get(), filter, countMode, pageable);
+        }
+
+        // ✅ TenderRepository의 searchTendersByCriteria 메서드 호출 (count 쿼리 없음)
+        Slice<Tender> tenderSlice = tenderRepository.searchTendersByCriteria(
+                filter.cltrNm(), filter.organization(), filter.sido(), filter.sgk(), filter.emd(),
+                filter.minGoodsPrice(), filter.maxGoodsPrice(),
+                filter.announcedFrom(), filter.deadlineTo(),
+                pageable
+        );
+
+        List<TenderResponseDTO> dtoList = tenderSlice.getContent().stream()
+                .map(TenderResponseDTO::fromEntity)
+                .collect(Collectors.toList());
+
+        // ✅ 건수는 정규화한 검색 조건별로 캐시 (동기화가 끝나면 다시 셈)
+        TenderCountCache.Count total = countOf(filter, countMode, pageable, tenderSlice.getNumberOfElements(),
+                tenderSlice.hasNext(), () -> countInDb(filter));
+
+        long endTime = System.currentTimeMillis();
+        log.info("searchTenders from DB finished in {}ms. Total elements: {}", (endTime - startTime),
+                total != null ? total.value() : null);
 
+        return toPagedResponse(dtoList, total, tenderSlice.hasNext(), pageNo, numOfRows);
+    }
+
+	/**
+	 * 커서(keyset) 방식 전체 목록. 다음 페이지는 응답의 nextCursor로 요청하며, count를 하지 않으므로 totalCount는 null입니다.
+	 *
+	 * @param cursor 비어 있으면 첫 페이지
+	 * @throws IllegalArgumentException 잘못된 커서
+	 */
+	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+	public PagedTenderResponse getTendersAfter(String cursor, int numOfRows) {
+		return scrollTenders(null, TenderCursor.decode(cursor), numOfRows);
+	}
+
+	// ✅ 커서(keyset) 방식 상세 검색 (조건은 searchTenders와 같음)
+	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+	public PagedTenderResponse searchTendersAfter(
+            String cltrNm, String dpslMtdCd, String sido, String sgk, String emd,
+            String goodsPriceFrom, String goodsPriceTo,
+            String pbctBegnDtmStr, String pbctClsDtmStr,
+            String cursor, int numOfRows) {
+		TenderCursor after = TenderCursor.decode(cursor);
+		return scrollTenders(toSearchFilter(cltrNm, dpslMtdCd, sido, sgk, emd,
+				goodsPriceFrom, goodsPriceTo, pbctBegnDtmStr, pbctClsDtmStr), after, numOfRows);
+	}
+
+	private PagedTenderResponse scrollTenders(TenderReadModel.SearchFilter filter, TenderCursor after, int numOfRows) {
+		if (numOfRows < 1) {
+			throw new IllegalArgumentException("numOfRows는 1 이상이어야 합니다.");
+		}
+		TenderReadModel readModel = tenderReadModelProvider.getIfAvailable();
+		Optional<TenderReadModel.Window> fromMemory = readModel == null ? Optional.empty()
+				: readModel.queryAfter(filter, after, numOfRows);
+		if (fromMemory.isPresent()) {
+			return toScrollResponse(fromMemory.get().tenders(), fromMemory.get().nextCursor(), numOfRows);
+		}
+
+		// 한 건 더 읽어서 다음 페이지가 있는지 확인
+		long afterOrder = after != null ? after.listOrder() : Long.MIN_VALUE;
+		String afterKey = after != null ? after.cltrMnmtNo() : "";
+		Pageable limit = PageRequest.of(0, numOfRows + 1);
+		List<Tender> tenders = filter == null
+				? tenderRepository.findActiveAfter(afterOrder, afterKey, limit)
+				: tenderRepository.searchTendersAfter(
+						filter.cltrNm(), filter.organization(), filter.sido(), filter.sgk(), filter.emd(),
+						filter.minGoodsPrice(), filter.maxGoodsPrice(),
+						filter.announcedFrom(), filter.deadlineTo(),
+						afterOrder, afterKey, limit);
+
+		TenderCursor next = null;
+		if (tenders.size() > numOfRows) {
+			Tender last = tenders.get(numOfRows - 1);
+			next = new TenderCursor(last.getListOrder(), last.getCltrMnmtNo());
+			tenders = tenders.subList(0, numOfRows);
+		}
+		return toScrollResponse(tenders.stream().map(TenderResponseDTO::fromEntity).collect(Collectors.toList()),
+				next, numOfRows);
+	}
+
+	// ✅ 검색 파라미터(String)를 검색 조건으로 변환 (형식이 틀린 값은 조건에서 제외)
+	private TenderReadModel.SearchFilter toSearchFilter(String cltrNm, String dpslMtdCd, String sido, String sgk,
+			String emd, String goodsPriceFrom, String goodsPriceTo, String pbctBegnDtmStr, String pbctClsDtmStr) {
         // ✅ 날짜 String을 LocalDateTime으로 파싱
         LocalDateTime pbctBegnDtm = parseDateTime(pbctBegnDtmStr);
         LocalDateTime pbctClsDtm = parseDateTime(pbctClsDtmStr);
@@ -133,47 +200,81 @@ public class TenderService {
         } catch (NumberFormatException e) {
             log.warn("감정가 필드 파싱 오류: {} 또는 {}. 검색에서 제외합니다.", goodsPriceFrom, goodsPriceTo);
         }
+        return new TenderReadModel.SearchFilter(cltrNm, dpslMtdCd, sido, sgk, emd,
+                minGoodsPrice, maxGoodsPrice, pbctBegnDtm, pbctClsDtm);
+	}
 
+	private Optional<TenderReadModel.Result> queryReadModel(TenderReadModel.SearchFilter filter, Pageable pageable) {
+		TenderReadModel readModel = tenderReadModelProvider.getIfAvailable();
+		return readModel == null ? Optional.empty()
+				: readModel.query(filter, pageable.getOffset(), pageable.getPageSize());
+	}
 
-        // ✅ TenderRepository의 searchTendersByCriteria 메서드 호출
-        Page<Tender> tenderPage = tenderRepository.searchTendersByCriteria(
-                cltrNm, dpslMtdCd, sido, sgk, emd,
-                minGoodsPrice, maxGoodsPrice, 
-                pbctBegnDtm, pbctClsDtm,
-                pageable
-        );
+	/**
+	 * 페이지의 전체 건수. 마지막 페이지면 조회한 행만으로 정확히 알 수 있으므로 COUNT 없이 캐시에 넣고,
+	 * 아니면 countMode에 따라 캐시/COUNT(EXACT), 캐시 또는 하한(ESTIMATE), 생략(NONE).
+	 *
+	 * @param rows    이 페이지에서 읽은 행 수
+	 * @return NONE이면 null
+	 */
+	private TenderCountCache.Count countOf(TenderReadModel.SearchFilter filter, TenderCountCache.Mode countMode,
+			Pageable pageable, int rows, boolean hasNext, LongSupplier counter) {
+		long seen = pageable.getOffset() + rows;
+		if (!hasNext && (rows > 0 || pageable.getOffset() == 0)) {
+			tenderCountCache.put(filter, seen);
+			return new TenderCountCache.Count(seen, true);
+		}
+		long atLeast = seen + (hasNext ? 1 : 0); // 이 페이지까지 + 다음 페이지가 있으면 1
+		return switch (countMode) {
+			case EXACT -> new TenderCountCache.Count(tenderCountCache.exact(filter, counter), true);
+			// 캐시 값이 이미 읽은 행 수보다 작으면(이전 동기화 기준) 하한을 대신 씀
+			case ESTIMATE -> tenderCountCache.estimate(filter)
+					.filter(cached -> cached.value() >= atLeast)
+					.orElseGet(() -> new TenderCountCache.Count(atLeast, false));
+			case NONE -> null;
+		};
+	}
 
-        List<TenderResponseDTO> dtoList = tenderPage.getContent().stream()
-                .map(TenderResponseDTO::fromEntity)
-                .collect(Collectors.toList());
+	// 메모리 조회 모델: 전체 목록은 건수를 바로 알고, 검색은 페이지만 채우고 멈추므로 건수는 캐시(없으면 메모리에서 셈)
+	private PagedTenderResponse fromReadModel(TenderReadModel.Result result, TenderReadModel.SearchFilter filter,
+			TenderCountCache.Mode countMode, Pageable pageable) {
+		TenderCountCache.Count total = result.totalCount() != null
+				? new TenderCountCache.Count(result.totalCount(), true)
+				: countOf(filter, countMode, pageable, result.tenders().size(), result.hasNext(),
+						() -> countMatching(filter));
+		return toPagedResponse(result.tenders(), total, result.hasNext(), pageable.getPageNumber() + 1,
+				pageable.getPageSize());
+	}
+
+	// 조건에 맞는 활성 공고 수 (메모리 조회 모델이 준비되어 있으면 메모리에서, 아니면 DB COUNT)
+	private long countMatching(TenderReadModel.SearchFilter filter) {
+		TenderReadModel readModel = tenderReadModelProvider.getIfAvailable();
+		OptionalLong inMemory = readModel == null ? OptionalLong.empty() : readModel.count(filter);
+		return inMemory.isPresent() ? inMemory.getAsLong() : countInDb(filter);
+	}
 
-        // ✅ getAllTenders와 동일한 메모리 정렬 적용
-        LocalDateTime now = LocalDateTime.now();
-        dtoList.sort((dto1, dto2) -> {
-            LocalDateTime ann1 = dto1.getAnnouncementDate();
-            LocalDateTime ann2 = dto2.getAnnouncementDate();
-            if (ann1 == null && ann2 == null) return 0;
-            if (ann1 == null) return 1;
-            if (ann2 == null) return -1;
-            boolean isDto1Started = ann1.isBefore(now) || ann1.isEqual(now); // ann1 <= now
-            boolean isDto2Started = ann2.isBefore(now) || ann2.isEqual(now); // ann2 <= now
-            if (isDto1Started && !isDto2Started) { return -1; }
-            if (!isDto1Started && isDto2Started) { return 1; }
-            if (isDto1Started && isDto2Started) { return ann2.compareTo(ann1); }
-            else { return ann1.compareTo(ann2); }
-        });
+	private long countInDb(TenderReadModel.SearchFilter filter) {
+		if (filter == null) {
+			return tenderRepository.countByActiveTrue();
+		}
+		return tenderRepository.countTendersByCriteria(
+				filter.cltrNm(), filter.organization(), filter.sido(), filter.sgk(), filter.emd(),
+				filter.minGoodsPrice(), filter.maxGoodsPrice(),
+				filter.announcedFrom(), filter.deadlineTo());
+	}
 
+	private PagedTenderResponse toPagedResponse(List<TenderResponseDTO> dtoList, TenderCountCache.Count total,
+			boolean hasNext, int pageNo, int numOfRows) {
+		return PagedTenderResponse.builder().tenders(dtoList)
+				.totalCount(total != null ? (int) total.value() : null) // Long을 int로 캐스팅
+				.totalCountExact(total != null ? total.exact() : null)
+				.hasNext(hasNext).pageNo(pageNo).numOfRows(numOfRows).build();
+	}
 
-        long endTime = System.currentTimeMillis();
-        log.info("searchTenders from DB finished in {}ms. Total elements: {}", (endTime - startTime), tenderPage.getTotalElements());
-
-        return PagedTenderResponse.builder()
-                .tenders(dtoList)
-                .totalCount((int) tenderPage.getTotalElements())
-                .pageNo(pageNo)
-                .numOfRows(numOfRows)
-                .build();
-    }
+	private PagedTenderResponse toScrollResponse(List<TenderResponseDTO> dtoList, TenderCursor next, int numOfRows) {
+		return PagedTenderResponse.builder().tenders(dtoList).numOfRows(numOfRows).hasNext(next != null)
+				.nextCursor(next != null ? next.encode() : null).build();
+	}
 	
 	// ✅ 날짜/시간 파싱 헬퍼 메서드
     private LocalDateTime parseDateTime(String dateTimeString) {
@@ -190,7 +291,7 @@ public class TenderService {
             } else if (dateTimeString.length() == 19 && dateTimeString.contains(" ")) { // yyyy-MM-dd HH:mm:ss
                 return LocalDateTime.parse(dateTimeString, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
             } else if (dateTimeString.length() == 14) { // yyyyMMddHHmmss (온비드 API 포맷)
-                return LocalDateTime.parse(dateTimeString, DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+                return OnbidValueDecoder.parseCompactDateTime(dateTimeString);
             }
             log.warn("Unsupported date-time format for search: {}", dateTimeString);
             return null;
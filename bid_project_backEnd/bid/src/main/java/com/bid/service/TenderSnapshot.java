@@ -0,0 +1,506 @@
+package com.bid.service;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.bid.dto.response.TenderResponseDTO;
+
+/**
+ * 활성 tenders 전체를 담는 고정 레이아웃 컬럼형 바이너리 스냅샷 (파일을 mmap 한 읽기 전용 뷰).
+ * 부팅 시 파일을 매핑하고 헤더만 확인하므로 행 수와 무관하게 바로 쓸 수 있고, 값은 읽을 때 해당 칸만 디코딩합니다.
+ *
+ * <pre>
+ * 헤더 (64 bytes)  : magic, formatVersion, generation(sync_runs.id), rowCount, columnCount, createdAt,
+ *                   bidWatermark(조회 시작 전 마지막 bids.bid_id)
+ * 컬럼 디렉터리     : 컬럼마다 (columnId int, offset long, length long)
+ * LONG 컬럼        : rowCount * 8 bytes (null은 Long.MIN_VALUE, 날짜는 UTC 기준 epoch seconds)
+ * STRING 컬럼      : (rowCount + 1) * 4 bytes 시작 위치 + null 비트맵 + UTF-8 본문
+ * </pre>
+ * 행은 cltrMnmtNo의 UTF-8 바이트 순으로 정렬되어 있어 물건관리번호 조회는 이진 탐색 한 번입니다.
+ */
+public final class TenderSnapshot {
+
+	private static final int MAGIC = 0x42534E50; // "BSNP"
+	static final int FORMAT_VERSION = 3; // 레이아웃이나 컬럼 구성이 바뀌면 올림 (다른 버전 파일은 버림)
+	private static final int HEADER_BYTES = 64;
+	private static final int DIRECTORY_ENTRY_BYTES = 20;
+	private static final long NULL_LONG = Long.MIN_VALUE;
+
+	enum Type { LONG, DATE, STRING }
+
+	// 스냅샷 컬럼. id는 파일에 기록되므로 바꾸지 말고 새 컬럼은 새 id로 추가합니다.
+	enum Column {
+		CLTR_MNMT_NO(1, Type.STRING, "cltr_mnmt_no"),
+		TENDER_ID(2, Type.LONG, "tender_id"),
+		PBCT_NO(3, Type.LONG, "pbct_no"),
+		CLTR_HSTR_NO(4, Type.STRING, "cltr_hstr_no"),
+		TENDER_TITLE(5, Type.STRING, "tender_title"),
+		ORGANIZATION(6, Type.STRING, "organization"),
+		BID_NUMBER(7, Type.STRING, "bid_number"),
+		GOODS_NAME(8, Type.STRING, "goods_name"),
+		MIN_BID_PRICE(9, Type.LONG, "min_bid_price"),
+		APSL_ASES_AVG_AMT(10, Type.LONG, "apsl_ases_avg_amt"),
+		ANNOUNCEMENT_DATE(11, Type.DATE, "announcement_date"),
+		DEADLINE(12, Type.DATE, "deadline"),
+		INITIAL_OPEN_PRICE_FROM(13, Type.LONG, "initial_open_price_from"),
+		INITIAL_OPEN_PRICE_TO(14, Type.LONG, "initial_open_price_to"),
+		LAST_SYNCED_AT(15, Type.DATE, "last_synced_at"),
+		PBCT_CDTN_NO(16, Type.LONG, "pbct_cdtn_no"),
+		CLTR_NO(17, Type.LONG, "cltr_no"),
+		SCRN_GRP_CD(18, Type.STRING, "scrn_grp_cd"),
+		CTGR_FULL_NM(19, Type.STRING, "ctgr_full_nm"),
+		LDNM_ADRS(20, Type.STRING, "ldnm_adrs"),
+		NMRD_ADRS(21, Type.STRING, "nmrd_adrs"),
+		LDNM_PNU(22, Type.STRING, "ldnm_pnu"),
+		DPSL_MTD_CD(23, Type.STRING, "dpsl_mtd_cd"),
+		BID_MTD_NM(24, Type.STRING, "bid_mtd_nm"),
+		FEE_RATE(25, Type.STRING, "fee_rate"),
+		PBCT_CLTR_STAT_NM(26, Type.STRING, "pbct_cltr_stat_nm"),
+		USCBD_CNT(27, Type.LONG, "uscbd_cnt"),
+		IQRY_CNT(28, Type.LONG, "iqry_cnt"),
+		MANF(29, Type.STRING, "manf"),
+		MDL(30, Type.STRING, "mdl"),
+		NRGT(31, Type.STRING, "nrgt"),
+		GRBX(32, Type.STRING, "grbx"),
+		ENDPC(33, Type.STRING, "endpc"),
+		VHCL_MLGE(34, Type.STRING, "vhcl_mlge"),
+		FUEL(35, Type.STRING, "fuel"),
+		SCRT_NM(36, Type.STRING, "scrt_nm"),
+		TPBZ(37, Type.STRING, "tpbz"),
+		ITM_NM(38, Type.STRING, "itm_nm"),
+		MMB_RGT_NM(39, Type.STRING, "mmb_rgt_nm"),
+		CLTR_IMG_FILES(40, Type.STRING, "cltr_img_files"),
+		HIGHEST_BID_PRICE(41, Type.LONG, "highest_bid_price");
+
+		final int id;
+		final Type type;
+		final String sqlName;
+
+		Column(int id, Type type, String sqlName) {
+			this.id = id;
+			this.type = type;
+			this.sqlName = sqlName;
+		}
+	}
+
+	// 스냅샷을 만들 때 쓰는 조회 문장 (활성 행 전체, Writer가 그대로 이어 쓸 수 있도록 물건관리번호 바이트 순)
+	static final String SELECT_ACTIVE_SQL = Arrays.stream(Column.values())
+			.map(column -> column.sqlName)
+			.collect(Collectors.joining(", ", "SELECT ",
+					" FROM tenders WHERE active = TRUE ORDER BY CAST(cltr_mnmt_no AS BINARY)"));
+
+	private final MappedByteBuffer buffer;
+	private final long generation;
+	private final long bidWatermark;
+	private final int rowCount;
+	private final Map<Column, Integer> columnOffsets; // 컬럼 데이터 시작 위치
+
+	private TenderSnapshot(MappedByteBuffer buffer, long generation, long bidWatermark, int rowCount,
+			Map<Column, Integer> columnOffsets) {
+		this.buffer = buffer;
+		this.generation = generation;
+		this.bidWatermark = bidWatermark;
+		this.rowCount = rowCount;
+		this.columnOffsets = columnOffsets;
+	}
+
+	/**
+	 * 스냅샷 파일을 읽기 전용으로 매핑합니다. 헤더/디렉터리만 확인하고 값은 읽지 않습니다.
+	 *
+	 * @throws IOException 파일을 읽을 수 없거나 형식/버전이 맞지 않는 경우
+	 */
+	public static TenderSnapshot map(Path file) throws IOException {
+		MappedByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+				throw new IOException("Invalid snapshot size " + size + ": " + file);
+			}
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size); // 채널을 닫아도 매핑은 유지됨
+		}
+		buffer.order(ByteOrder.BIG_ENDIAN);
+
+		if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+			throw new IOException("Unsupported snapshot format: " + file);
+		}
+		long generation = buffer.getLong(8);
+		int rowCount = buffer.getInt(16);
+		int columnCount = buffer.getInt(20);
+		long bidWatermark = buffer.getLong(32);
+		if (rowCount < 0 || columnCount < 0 || HEADER_BYTES + (long) columnCount * DIRECTORY_ENTRY_BYTES > size(buffer)) {
+			throw new IOException("Corrupt snapshot header: " + file);
+		}
+
+		Map<Integer, long[]> directory = new HashMap<>();
+		for (int i = 0; i < columnCount; i++) {
+			int entry = HEADER_BYTES + i * DIRECTORY_ENTRY_BYTES;
+			directory.put(buffer.getInt(entry), new long[] { buffer.getLong(entry + 4), buffer.getLong(entry + 12) });
+		}
+		Map<Column, Integer> columnOffsets = new EnumMap<>(Column.class);
+		for (Column column : Column.values()) {
+			long[] location = directory.get(column.id);
+			if (location == null || location[0] < 0 || location[0] + location[1] > size(buffer)
+					|| location[1] < expectedMinLength(column, rowCount)) {
+				throw new IOException("Snapshot column " + column + " is missing or truncated: " + file);
+			}
+			columnOffsets.put(column, (int) location[0]);
+		}
+		return new TenderSnapshot(buffer, generation, bidWatermark, rowCount, columnOffsets);
+	}
+
+	public long generation() {
+		return generation;
+	}
+
+	// 이 id까지의 입찰은 highest_bid_price에 들어 있음
+	public long bidWatermark() {
+		return bidWatermark;
+	}
+
+	public int size() {
+		return rowCount;
+	}
+
+	// 물건관리번호로 행 번호를 찾습니다 (이진 탐색)
+	public OptionalInt indexOf(String cltrMnmtNo) {
+		byte[] target = cltrMnmtNo.getBytes(StandardCharsets.UTF_8);
+		int low = 0;
+		int high = rowCount - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int cmp = compareString(Column.CLTR_MNMT_NO, mid, target);
+			if (cmp < 0) {
+				low = mid + 1;
+			} else if (cmp > 0) {
+				high = mid - 1;
+			} else {
+				return OptionalInt.of(mid);
+			}
+		}
+		return OptionalInt.empty();
+	}
+
+	Long getLong(Column column, int row) {
+		long value = buffer.getLong(columnOffsets.get(column) + row * 8);
+		return value == NULL_LONG ? null : value;
+	}
+
+	LocalDateTime getDateTime(Column column, int row) {
+		Long epochSeconds = getLong(column, row);
+		return epochSeconds == null ? null : LocalDateTime.ofEpochSecond(epochSeconds, 0, ZoneOffset.UTC);
+	}
+
+	String getString(Column column, int row) {
+		int base = columnOffsets.get(column);
+		if (isNull(base, row)) {
+			return null;
+		}
+		int start = buffer.getInt(base + row * 4);
+		int end = buffer.getInt(base + (row + 1) * 4);
+		byte[] bytes = new byte[end - start];
+		buffer.get(blobStart(base) + start, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	// 범주형 컬럼 값 (같은 값은 한 인스턴스를 공유)
+	String getCategory(Column column, int row) {
+		return OnbidValueDecoder.category(getString(column, row));
+	}
+
+	// 한 행을 API 응답 DTO로 디코딩 (TenderResponseDTO.fromEntity와 같은 값)
+	public TenderResponseDTO toDto(int row) {
+		LocalDateTime announcementDate = getDateTime(Column.ANNOUNCEMENT_DATE, row);
+		LocalDateTime deadline = getDateTime(Column.DEADLINE, row);
+		Long minBidPrice = getLong(Column.MIN_BID_PRICE, row);
+		return TenderResponseDTO.builder()
+				.cltrMnmtNo(getString(Column.CLTR_MNMT_NO, row))
+				.tenderId(getLong(Column.TENDER_ID, row))
+				.pbctNo(getLong(Column.PBCT_NO, row))
+				.cltrHstrNo(getString(Column.CLTR_HSTR_NO, row))
+				.tenderTitle(getString(Column.TENDER_TITLE, row))
+				.organization(getCategory(Column.ORGANIZATION, row))
+				.bidNumber(getString(Column.BID_NUMBER, row))
+				.goodsName(getString(Column.GOODS_NAME, row))
+				.minBidPrice(minBidPrice != null ? minBidPrice : 0L)
+				.highestBidPrice(getLong(Column.HIGHEST_BID_PRICE, row))
+				.apslAsesAvgAmt(getLong(Column.APSL_ASES_AVG_AMT, row))
+				.announcementDate(announcementDate)
+				.deadline(deadline)
+				.openPriceFrom(getLong(Column.INITIAL_OPEN_PRICE_FROM, row))
+				.openPriceTo(getLong(Column.INITIAL_OPEN_PRICE_TO, row))
+				.lastSyncedAt(getDateTime(Column.LAST_SYNCED_AT, row))
+				.pbctCdtnNo(getLong(Column.PBCT_CDTN_NO, row))
+				.cltrNo(getLong(Column.CLTR_NO, row))
+				.scrnGrpCd(getCategory(Column.SCRN_GRP_CD, row))
+				.ctgrFullNm(getCategory(Column.CTGR_FULL_NM, row))
+				.ldnmAdrs(getString(Column.LDNM_ADRS, row))
+				.nmrdAdrs(getString(Column.NMRD_ADRS, row))
+				.ldnmPnu(getString(Column.LDNM_PNU, row))
+				.dpslMtdCd(getCategory(Column.DPSL_MTD_CD, row))
+				.bidMtdNm(getCategory(Column.BID_MTD_NM, row))
+				.feeRate(getCategory(Column.FEE_RATE, row))
+				.pbctCltrStatNm(getCategory(Column.PBCT_CLTR_STAT_NM, row))
+				.uscbdCnt(getLong(Column.USCBD_CNT, row))
+				.iqryCnt(getLong(Column.IQRY_CNT, row))
+				.manf(getCategory(Column.MANF, row))
+				.mdl(getString(Column.MDL, row))
+				.nrgt(getString(Column.NRGT, row))
+				.grbx(getCategory(Column.GRBX, row))
+				.endpc(getString(Column.ENDPC, row))
+				.vhclMlge(getString(Column.VHCL_MLGE, row))
+				.fuel(getCategory(Column.FUEL, row))
+				.scrtNm(getString(Column.SCRT_NM, row))
+				.tpbz(getString(Column.TPBZ, row))
+				.itmNm(getString(Column.ITM_NM, row))
+				.mmbRgtNm(getString(Column.MMB_RGT_NM, row))
+				.cltrImgFiles(getString(Column.CLTR_IMG_FILES, row))
+				.active(true)
+				.status(TenderResponseDTO.statusOf(announcementDate, deadline))
+				.build();
+	}
+
+	private int compareString(Column column, int row, byte[] target) {
+		int base = columnOffsets.get(column);
+		int start = buffer.getInt(base + row * 4);
+		int end = buffer.getInt(base + (row + 1) * 4);
+		int blob = blobStart(base);
+		int length = end - start;
+		for (int i = 0; i < Math.min(length, target.length); i++) {
+			int cmp = Byte.compareUnsigned(buffer.get(blob + start + i), target[i]);
+			if (cmp != 0) {
+				return cmp;
+			}
+		}
+		return Integer.compare(length, target.length);
+	}
+
+	private boolean isNull(int base, int row) {
+		int bitmap = base + (rowCount + 1) * 4;
+		return (buffer.get(bitmap + (row >>> 3)) & (1 << (row & 7))) != 0;
+	}
+
+	private int blobStart(int base) {
+		return base + (rowCount + 1) * 4 + bitmapBytes(rowCount);
+	}
+
+	private static int bitmapBytes(int rowCount) {
+		return (rowCount + 7) / 8;
+	}
+
+	private static long expectedMinLength(Column column, int rowCount) {
+		return column.type == Type.STRING ? (rowCount + 1L) * 4 + bitmapBytes(rowCount) : rowCount * 8L;
+	}
+
+	private static long size(MappedByteBuffer buffer) {
+		return buffer.capacity();
+	}
+
+	/**
+	 * DB 조회 결과를 한 행씩 컬럼별 임시 파일(spill)에 이어 쓰고, 다 받으면 헤더 뒤에 컬럼 순서대로 이어 붙여 스냅샷 파일을 씁니다.
+	 * 행을 힙에 모으지 않으므로 메모리는 행 수와 무관합니다 (컬럼마다 버퍼 하나, 문자열 컬럼은 null 비트맵만 힙에 둠).
+	 * 행은 cltrMnmtNo의 UTF-8 바이트 순으로 들어와야 합니다 (SELECT_ACTIVE_SQL의 ORDER BY).
+	 */
+	static final class Writer implements AutoCloseable {
+
+		private static final int SPILL_BUFFER_BYTES = 16 * 1024;
+
+		private final Path spillDir;
+		private final Column[] columns = Column.values();
+		private final DataOutputStream[] values; // LONG/DATE: 값, STRING: UTF-8 본문
+		private final DataOutputStream[] offsets; // STRING: 행 시작 위치 (LONG/DATE는 null)
+		private final BitSet[] nulls; // STRING: null 비트맵
+		private final long[] blobLengths;
+		private byte[] lastKey;
+		private int rowCount;
+
+		/**
+		 * @param dir 임시 파일을 만들 디렉터리 (스냅샷 파일과 같은 파일 시스템)
+		 */
+		Writer(Path dir) throws IOException {
+			this.spillDir = Files.createTempDirectory(dir, "tender-snapshot-spill");
+			this.values = new DataOutputStream[columns.length];
+			this.offsets = new DataOutputStream[columns.length];
+			this.nulls = new BitSet[columns.length];
+			this.blobLengths = new long[columns.length];
+			try {
+				for (Column column : columns) {
+					int c = column.ordinal();
+					values[c] = spill(column + ".values");
+					if (column.type == Type.STRING) {
+						offsets[c] = spill(column + ".offsets");
+						nulls[c] = new BitSet();
+					}
+				}
+			} catch (IOException | RuntimeException e) {
+				close();
+				throw e;
+			}
+		}
+
+		// SELECT_ACTIVE_SQL 결과의 현재 행을 추가
+		void addRow(ResultSet rs) throws SQLException {
+			String key = rs.getString(Column.CLTR_MNMT_NO.sqlName);
+			byte[] keyBytes = key == null ? null : key.getBytes(StandardCharsets.UTF_8);
+			// indexOf의 이진 탐색이 맞으려면 물건관리번호가 바이트 순으로 엄격히 증가해야 함
+			if (keyBytes == null || (lastKey != null && Arrays.compareUnsigned(lastKey, keyBytes) >= 0)) {
+				throw new SQLException("Snapshot rows must be ordered by cltr_mnmt_no bytes and unique: " + key);
+			}
+			lastKey = keyBytes;
+			try {
+				for (Column column : columns) {
+					int c = column.ordinal();
+					switch (column.type) {
+						case LONG -> {
+							long value = rs.getLong(column.sqlName);
+							values[c].writeLong(rs.wasNull() ? NULL_LONG : value);
+						}
+						case DATE -> {
+							Timestamp value = rs.getTimestamp(column.sqlName);
+							values[c].writeLong(value == null ? NULL_LONG
+									: value.toLocalDateTime().toEpochSecond(ZoneOffset.UTC));
+						}
+						case STRING -> {
+							byte[] value = column == Column.CLTR_MNMT_NO ? keyBytes : bytesOf(rs.getString(column.sqlName));
+							offsets[c].writeInt((int) blobLengths[c]);
+							if (value == null) {
+								nulls[c].set(rowCount);
+							} else {
+								values[c].write(value);
+								blobLengths[c] += value.length;
+								if (blobLengths[c] > Integer.MAX_VALUE) {
+									throw new IOException("Snapshot column " + column + " too large");
+								}
+							}
+						}
+					}
+				}
+			} catch (IOException e) {
+				throw new SQLException("Failed to spill snapshot row " + key + ": " + e.getMessage(), e);
+			}
+			rowCount++;
+		}
+
+		int size() {
+			return rowCount;
+		}
+
+		/**
+		 * 임시 파일에 쓴 뒤 target으로 옮깁니다 (읽는 쪽이 반쯤 쓰인 파일을 보지 않도록).
+		 */
+		void writeTo(Path target, long generation, long bidWatermark) throws IOException {
+			for (Column column : columns) {
+				int c = column.ordinal();
+				values[c].close();
+				if (offsets[c] != null) {
+					offsets[c].close();
+				}
+			}
+			long[] lengths = new long[columns.length];
+			for (int c = 0; c < columns.length; c++) {
+				lengths[c] = expectedMinLength(columns[c], rowCount) + blobLengths[c];
+			}
+
+			Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp),
+					1 << 16))) {
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT_VERSION);
+				out.writeLong(generation);
+				out.writeInt(rowCount);
+				out.writeInt(columns.length);
+				out.writeLong(System.currentTimeMillis());
+				out.writeLong(bidWatermark);
+				out.write(new byte[HEADER_BYTES - 40]);
+
+				long offset = HEADER_BYTES + (long) columns.length * DIRECTORY_ENTRY_BYTES;
+				for (int c = 0; c < columns.length; c++) {
+					out.writeInt(columns[c].id);
+					out.writeLong(offset);
+					out.writeLong(lengths[c]);
+					offset += lengths[c];
+				}
+				if (offset > Integer.MAX_VALUE) {
+					throw new IOException("Snapshot too large: " + offset + " bytes");
+				}
+				for (Column column : columns) {
+					int c = column.ordinal();
+					if (column.type == Type.STRING) {
+						Files.copy(spillFile(column + ".offsets"), out);
+						out.writeInt((int) blobLengths[c]);
+						out.write(Arrays.copyOf(nulls[c].toByteArray(), bitmapBytes(rowCount)));
+					}
+					Files.copy(spillFile(column + ".values"), out);
+				}
+			} catch (IOException | RuntimeException e) {
+				Files.deleteIfExists(temp);
+				throw e;
+			}
+			Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+		}
+
+		// 임시 파일 정리 (writeTo 성공/실패와 무관하게 호출)
+		@Override
+		public void close() {
+			for (DataOutputStream stream : values) {
+				closeQuietly(stream);
+			}
+			for (DataOutputStream stream : offsets) {
+				closeQuietly(stream);
+			}
+			try (Stream<Path> files = Files.list(spillDir)) {
+				for (Path file : (Iterable<Path>) files::iterator) {
+					Files.deleteIfExists(file);
+				}
+				Files.deleteIfExists(spillDir);
+			} catch (IOException e) {
+				// 다음 재생성에서 같은 디렉터리를 쓰지 않으므로 남아도 읽히지 않음
+			}
+		}
+
+		private DataOutputStream spill(String name) throws IOException {
+			return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(spillFile(name)),
+					SPILL_BUFFER_BYTES));
+		}
+
+		private Path spillFile(String name) {
+			return spillDir.resolve(name);
+		}
+
+		private static byte[] bytesOf(String value) {
+			return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+		}
+
+		private static void closeQuietly(OutputStream stream) {
+			if (stream != null) {
+				try {
+					stream.close();
+				} catch (IOException e) {
+					// 지울 임시 파일
+				}
+			}
+		}
+	}
+}
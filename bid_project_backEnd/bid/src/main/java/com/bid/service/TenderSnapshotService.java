@@ -0,0 +1,335 @@
+package com.bid.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.bid.dto.response.TenderResponseDTO;
+import com.bid.entity.SyncRun;
+import com.bid.event.TenderSyncCompletedEvent;
+import com.bid.repository.SyncRunRepository;
+import com.bid.repository.TenderRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 활성 공고 스냅샷(TenderSnapshot) 파일을 관리합니다.
+ * 부팅할 때는 DB를 조회하기 전에 가장 최근 파일을 mmap 해서 바로 읽을 수 있게 하고, 애플리케이션 준비 후
+ * 파일의 세대(sync_runs.id)가 DB에서 마지막으로 완료된 동기화(종류 무관, 우선 갱신 포함)와 다르거나
+ * 파일을 만든 뒤에 들어온 입찰(bids.bid_id > bidWatermark)이 있으면 버리고 다시 만듭니다.
+ * 전체/빠른 동기화가 끝날 때마다(TenderSyncCompletedEvent) 최소 간격을 두고 새 세대의 파일을 씁니다.
+ *
+ * 우선 갱신(HOT)과 입찰은 몇 건만 바꾸므로 파일을 다시 쓰지 않고 TenderReadModel의 변경분으로 반영합니다.
+ * 이 노드의 것은 변경 이벤트로 바로 들어오고, 다른 노드의 것은 여기서 DB에서 다시 읽어 CaughtUp 이벤트로 알립니다:
+ * 다른 노드의 우선 갱신이 끝나면 그 세대의 행을, follower-poll-ms마다 마지막으로 본 뒤의 입찰이 들어간 공고의 최고 입찰가를 읽습니다.
+ *
+ * 파일은 (세대, 입찰 id)마다 다른 이름으로 쓰고 교체한 뒤 이전 파일을 지웁니다 (매핑된 파일은 덮어쓸 수 없는 OS가 있음).
+ * 세대가 확인된 스냅샷(확인을 통과한 부팅 파일, 새로 쓴 파일)은 SnapshotReady 이벤트로 알립니다 (TenderReadModel).
+ */
+@Service
+@Slf4j
+public class TenderSnapshotService {
+
+	/**
+	 * DB의 마지막 완료 세대와 맞는 스냅샷이 준비됨.
+	 *
+	 * @param queryStartedNanos 활성 행 조회를 시작한 System.nanoTime (이 전에 커밋된 변경은 스냅샷에 들어 있음,
+	 *                          부팅 파일을 그대로 쓰는 경우 Long.MIN_VALUE)
+	 */
+	public record SnapshotReady(TenderSnapshot snapshot, long queryStartedNanos) {
+	}
+
+	/**
+	 * 다른 노드가 스냅샷 이후에 바꾼 공고와 입찰 (DB에서 다시 읽은 현재 값).
+	 *
+	 * @param tenders          다른 노드의 우선 갱신이 쓰거나 비활성화한 행 (active=false면 비활성화됨)
+	 * @param highestBidPrices 새 입찰이 들어간 공고의 최고 입찰가
+	 */
+	public record CaughtUp(List<TenderResponseDTO> tenders, Map<String, Long> highestBidPrices) {
+	}
+
+	private static final Pattern SNAPSHOT_FILE = Pattern.compile("tender-snapshot-(\\d+)(?:-(\\d+))?\\.bin");
+	// 스냅샷을 다시 쓰는 동기화 종류 (활성 행 전체를 확인하는 실행)
+	private static final List<SyncRun.SyncType> SNAPSHOT_SYNC_TYPES = List.of(SyncRun.SyncType.FULL,
+			SyncRun.SyncType.FAST);
+	private static final int FETCH_SIZE = 1000; // 결과를 한꺼번에 받지 않고 이만큼씩 스트리밍
+	// bid_id는 커밋 순서와 다를 수 있으므로 마지막으로 본 id보다 이만큼 앞에서부터 다시 읽음 (같은 값은 다시 반영해도 같음)
+	private static final long BID_LOOKBACK = 100;
+
+	private static final String MAX_BID_ID_SQL = "SELECT COALESCE(MAX(bid_id), 0) FROM bids";
+	// 새 입찰이 들어간 공고의 현재 최고 입찰가 (입찰 건수가 아니라 공고 수만큼)
+	private static final String BIDS_AFTER_SQL = "SELECT t.cltr_mnmt_no, t.highest_bid_price, b.last_bid_id "
+			+ "FROM (SELECT tender_id, MAX(bid_id) AS last_bid_id FROM bids WHERE bid_id > ? GROUP BY tender_id) b "
+			+ "JOIN tenders t ON t.id = b.tender_id";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final SyncRunRepository syncRunRepository;
+	private final TenderRepository tenderRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ScheduledThreadPoolExecutor rebuildExecutor;
+
+	private final AtomicReference<TenderSnapshot> current = new AtomicReference<>();
+	private final AtomicBoolean rebuildScheduled = new AtomicBoolean(false);
+	private final AtomicLong bidWatermark = new AtomicLong(-1); // 여기까지의 입찰은 알림 (스냅샷 확인 전에는 -1)
+	private Map<String, Long> lastPolledBidPrices = Map.of(); // 지난 조회 결과 (겹쳐 읽은 구간을 다시 알리지 않음)
+	private volatile long lastRebuildAt;
+
+	@Value("${onbid.snapshot.enabled:true}")
+	private boolean enabled;
+
+	@Value("${onbid.snapshot.dir:./data/snapshot}")
+	private String snapshotDir;
+
+	@Value("${onbid.snapshot.min-interval-ms:60000}")
+	private long minIntervalMs; // 동기화 완료가 몰려도 이 간격보다 자주 다시 쓰지 않음
+
+	public TenderSnapshotService(JdbcTemplate jdbcTemplate, SyncRunRepository syncRunRepository,
+			TenderRepository tenderRepository, ApplicationEventPublisher eventPublisher) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.syncRunRepository = syncRunRepository;
+		this.tenderRepository = tenderRepository;
+		this.eventPublisher = eventPublisher;
+		this.rebuildExecutor = new ScheduledThreadPoolExecutor(1,
+				Thread.ofPlatform().name("TenderSnapshotWriter").daemon(true).factory());
+	}
+
+	// 가장 최근 스냅샷 파일을 매핑 (DB 조회 없음)
+	@PostConstruct
+	public void loadLatest() {
+		if (!enabled) {
+			return;
+		}
+		for (Path file : listSnapshotFiles()) {
+			try {
+				TenderSnapshot snapshot = TenderSnapshot.map(file);
+				current.set(snapshot);
+				log.info("Mapped tender snapshot {} (generation {}, {} rows).", file.getFileName(),
+						snapshot.generation(), snapshot.size());
+				return;
+			} catch (IOException e) {
+				log.warn("Discarding unreadable tender snapshot {}: {}", file.getFileName(), e.getMessage());
+				deleteQuietly(file);
+			}
+		}
+		log.info("No tender snapshot found in {}.", snapshotDir);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		rebuildExecutor.shutdownNow();
+	}
+
+	/**
+	 * 현재 스냅샷. 없거나(첫 부팅/비활성) 세대가 확인되지 않은 동안에도 마지막으로 매핑한 파일을 돌려줍니다.
+	 */
+	public Optional<TenderSnapshot> current() {
+		return Optional.ofNullable(current.get());
+	}
+
+	// 준비 후 세대 확인: DB의 마지막 완료 동기화(우선 갱신 포함)나 마지막 입찰과 다르면 다시 만듦
+	@EventListener(ApplicationReadyEvent.class)
+	public void verifyGeneration() {
+		if (enabled) {
+			rebuildExecutor.execute(() -> {
+				Long latest = latestGeneration();
+				TenderSnapshot snapshot = current.get();
+				if (latest == null) {
+					return; // 완료된 동기화가 아직 없음
+				}
+				long lastBidId = lastBidId();
+				if (snapshot == null || snapshot.generation() != latest || snapshot.bidWatermark() != lastBidId) {
+					log.info("Tender snapshot generation {} (bids up to {}) is stale (latest {}, bids up to {}), "
+							+ "rebuilding.", snapshot == null ? "-" : snapshot.generation(),
+							snapshot == null ? "-" : snapshot.bidWatermark(), latest, lastBidId);
+					rebuild();
+				} else {
+					bidWatermark.accumulateAndGet(snapshot.bidWatermark(), Math::max);
+					eventPublisher.publishEvent(new SnapshotReady(snapshot, Long.MIN_VALUE));
+				}
+			});
+		}
+	}
+
+	@EventListener
+	public void onSyncCompleted(TenderSyncCompletedEvent event) {
+		if (!enabled) {
+			return;
+		}
+		if (!SNAPSHOT_SYNC_TYPES.contains(event.syncType())) {
+			// 우선 갱신: 이 노드의 것은 변경 이벤트로 이미 반영됨, 다른 노드의 것은 그 세대의 행만 다시 읽음
+			if (!event.local()) {
+				rebuildExecutor.execute(() -> catchUpRun(event.generation()));
+			}
+			return;
+		}
+		if (!rebuildScheduled.compareAndSet(false, true)) {
+			return; // 이미 예약된 재생성이 이번 완료분까지 포함해서 씀
+		}
+		long delay = Math.max(0, lastRebuildAt + minIntervalMs - System.currentTimeMillis());
+		rebuildExecutor.schedule(() -> {
+			rebuildScheduled.set(false);
+			rebuild();
+		}, delay, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 활성 행 전체로 새 세대의 파일을 쓰고 매핑을 교체합니다.
+	 * 세대를 먼저 읽으므로, 조회 도중 끝난 동기화는 다음 재생성에서 반영됩니다.
+	 */
+	private void rebuild() {
+		lastRebuildAt = System.currentTimeMillis();
+		Long generation = latestGeneration();
+		if (generation == null) {
+			return;
+		}
+		try {
+			long lastBidId = lastBidId();
+			Path dir = Paths.get(snapshotDir);
+			Files.createDirectories(dir);
+			long started = System.currentTimeMillis();
+			long queryStartedNanos = System.nanoTime();
+			Path file = dir.resolve("tender-snapshot-" + generation + "-" + lastBidId + ".bin");
+			try (TenderSnapshot.Writer writer = new TenderSnapshot.Writer(dir)) {
+				jdbcTemplate.query(connection -> {
+					PreparedStatement statement = connection.prepareStatement(TenderSnapshot.SELECT_ACTIVE_SQL,
+							ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+					statement.setFetchSize(FETCH_SIZE);
+					return statement;
+				}, (RowCallbackHandler) writer::addRow);
+				writer.writeTo(file, generation, lastBidId);
+			}
+			TenderSnapshot snapshot = TenderSnapshot.map(file);
+			current.set(snapshot);
+			bidWatermark.accumulateAndGet(lastBidId, Math::max);
+			log.info("Wrote tender snapshot generation {} ({} rows) in {} ms.", generation, snapshot.size(),
+					System.currentTimeMillis() - started);
+			listSnapshotFiles().stream().filter(other -> !other.equals(file)).forEach(this::deleteQuietly);
+			eventPublisher.publishEvent(new SnapshotReady(snapshot, queryStartedNanos));
+		} catch (IOException | RuntimeException e) {
+			log.error("Failed to write tender snapshot: {}", e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 다른 노드의 우선 갱신이 쓰거나 비활성화한 행을 읽어 알립니다.
+	 * 그 뒤 더 높은 세대가 덮어쓴 행은 빠지지만, 그 세대는 전체/빠른 동기화이므로 끝나면 스냅샷을 다시 씁니다.
+	 */
+	private void catchUpRun(long generation) {
+		try {
+			List<TenderResponseDTO> tenders = tenderRepository.findBySyncGeneration(generation).stream()
+					.map(TenderResponseDTO::fromEntity)
+					.toList();
+			if (!tenders.isEmpty()) {
+				eventPublisher.publishEvent(new CaughtUp(tenders, Map.of()));
+			}
+			log.debug("Caught up {} tenders from remote sync generation {}.", tenders.size(), generation);
+		} catch (RuntimeException e) {
+			log.warn("Failed to catch up remote sync generation {}: {}", generation, e.getMessage());
+		}
+	}
+
+	/**
+	 * 마지막으로 본 뒤 들어온 입찰(다른 노드 포함)의 공고별 최고 입찰가를 알립니다.
+	 * 스냅샷이 확인되기 전에는 건너뜁니다 (확인/재생성 때 그 시점까지의 입찰은 스냅샷에 들어감).
+	 */
+	@Scheduled(fixedDelayString = "${onbid.sync.follower-poll-ms:60000}",
+			initialDelayString = "${onbid.sync.follower-poll-ms:60000}")
+	public void pollBids() {
+		long after = bidWatermark.get();
+		if (!enabled || after < 0) {
+			return;
+		}
+		Map<String, Long> polled = new HashMap<>();
+		long[] lastBidId = { after };
+		jdbcTemplate.query(BIDS_AFTER_SQL, (RowCallbackHandler) rs -> {
+			long price = rs.getLong("highest_bid_price");
+			if (!rs.wasNull()) {
+				polled.put(rs.getString("cltr_mnmt_no"), price);
+			}
+			lastBidId[0] = Math.max(lastBidId[0], rs.getLong("last_bid_id"));
+		}, Math.max(0, after - BID_LOOKBACK));
+		bidWatermark.accumulateAndGet(lastBidId[0], Math::max);
+
+		Map<String, Long> highestBidPrices = new HashMap<>(polled);
+		highestBidPrices.entrySet().removeIf(entry -> entry.getValue().equals(lastPolledBidPrices.get(entry.getKey())));
+		lastPolledBidPrices = polled;
+		if (!highestBidPrices.isEmpty()) {
+			eventPublisher.publishEvent(new CaughtUp(List.of(), highestBidPrices));
+		}
+	}
+
+	// 가장 최근에 끝난 동기화 (종류 무관: 우선 갱신도 행을 바꾸므로 스냅샷 세대가 됨)
+	private Long latestGeneration() {
+		return syncRunRepository.findFirstByStatusOrderByFinishedAtDesc(SyncRun.Status.COMPLETED)
+				.map(SyncRun::getId)
+				.orElse(null);
+	}
+
+	private long lastBidId() {
+		Long lastBidId = jdbcTemplate.queryForObject(MAX_BID_ID_SQL, Long.class);
+		return lastBidId != null ? lastBidId : 0L;
+	}
+
+	// 세대(같으면 입찰 id) 내림차순 스냅샷 파일 목록
+	private List<Path> listSnapshotFiles() {
+		Path dir = Paths.get(snapshotDir);
+		if (!Files.isDirectory(dir)) {
+			return List.of();
+		}
+		try (Stream<Path> files = Files.list(dir)) {
+			return files.filter(file -> SNAPSHOT_FILE.matcher(file.getFileName().toString()).matches())
+					.sorted(Comparator.comparingLong(TenderSnapshotService::generationOf)
+							.thenComparingLong(TenderSnapshotService::bidWatermarkOf).reversed())
+					.toList();
+		} catch (IOException e) {
+			log.warn("Cannot list tender snapshots in {}: {}", dir, e.getMessage());
+			return List.of();
+		}
+	}
+
+	private static long generationOf(Path file) {
+		Matcher matcher = SNAPSHOT_FILE.matcher(file.getFileName().toString());
+		return matcher.matches() ? Long.parseLong(matcher.group(1)) : -1;
+	}
+
+	private static long bidWatermarkOf(Path file) {
+		Matcher matcher = SNAPSHOT_FILE.matcher(file.getFileName().toString());
+		return matcher.matches() && matcher.group(2) != null ? Long.parseLong(matcher.group(2)) : -1;
+	}
+
+	// 매핑이 남아 있어 지우지 못하는 경우(Windows)는 다음 재생성 때 다시 시도
+	private void deleteQuietly(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			log.debug("Could not delete old tender snapshot {}: {}", file.getFileName(), e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,480 @@
+package com.bid.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bid.dto.TenderSyncState;
+import com.bid.dto.response.TenderResponseDTO;
+import com.bid.entity.OnbidPageDigest;
+import com.bid.entity.SyncRun;
+import com.bid.entity.SyncRunPage;
+import com.bid.entity.Tender;
+import com.bid.event.TenderChangeBatch;
+import com.bid.event.TenderChangeEvent;
+import com.bid.event.TenderChanged;
+import com.bid.event.TenderCreated;
+import com.bid.event.TenderDeactivated;
+import com.bid.repository.OnbidPageDigestRepository;
+import com.bid.repository.SyncRunPageRepository;
+import com.bid.repository.SyncRunRepository;
+import com.bid.repository.TenderBulkRepository;
+import com.bid.repository.TenderRepository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 동기화 파이프라인의 DB 쓰기 단계.
+ * 파싱된 DTO를 chunk 단위로 받아 chunk마다 별도 트랜잭션으로 커밋합니다.
+ * 동기화 1회마다 sync_runs 행을 만들고, 그 id(세대)를 이번에 확인된 행에 기록합니다.
+ * 전체 동기화는 페이지별 진행 상태(sync_run_pages)를 남겨서, 중단된 실행을 같은 세대로 이어서 할 수 있습니다.
+ * 하나의 SyncSession은 한 스레드(writer)에서만 사용해야 합니다.
+ * 구독자가 있으면 바뀐 행마다 변경 이벤트(필드 diff 포함)를 만들어 커밋 후 TenderChangeBus로 전달합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TenderSyncWriter {
+
+	// 비활성 행의 지문 자리에 넣는 값 (어떤 지문과도 같지 않으므로 다시 나타나면 재활성화 upsert)
+	private static final String INACTIVE_MARKER = "";
+
+	private final TenderRepository tenderRepository;
+	private final TenderBulkRepository tenderBulkRepository;
+	private final SyncRunRepository syncRunRepository;
+	private final SyncRunPageRepository syncRunPageRepository;
+	private final OnbidPageDigestRepository onbidPageDigestRepository;
+	private final SyncMetrics syncMetrics;
+	private final TenderChangeBus tenderChangeBus;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Value("${onbid.sync.batch-size:1000}")
+	private int syncBatchSize; // upsert 시 JDBC 배치 한 번에 보낼 행 수
+
+	@Value("${onbid.price-history.enabled:true}")
+	private boolean priceHistoryEnabled; // 온비드 가격이 바뀐 공고의 가격 이력(tender_price_history) 기록 여부
+
+	@Value("${onbid.sync.resume-window-minutes:180}")
+	private long resumeWindowMinutes; // 이 시간 안에 시작된 미완료 전체 동기화만 이어서 실행
+
+	@Getter
+	public static class SyncSession {
+		private final long generation; // sync_runs.id
+		private final SyncRun.SyncType syncType;
+		private final String shardKey; // 전체 동기화 샤드 (빠른 동기화는 null)
+		private final Map<String, String> knownHashes; // 키 -> 지문 (비활성 행은 INACTIVE_MARKER)
+		private int processedCount;
+		private int newCount;
+		private int updatedCount;
+		private int unchangedCount;
+		private int deactivatedCount;
+		private int skippedPageCount;
+		private List<Integer> pendingPages = List.of(); // 전체 동기화에서 이번에 받아야 할 페이지
+		private boolean resumed;
+
+		private SyncSession(SyncRun syncRun, Map<String, String> knownHashes) {
+			this.generation = syncRun.getId();
+			this.syncType = syncRun.getSyncType();
+			this.shardKey = syncRun.getShardKey();
+			this.knownHashes = knownHashes;
+			// 재개 시 이전 실행이 마지막으로 기록한 누적 건수부터 이어서 셉니다.
+			this.newCount = syncRun.getNewCount();
+			this.updatedCount = syncRun.getUpdatedCount();
+			this.unchangedCount = syncRun.getUnchangedCount();
+			this.skippedPageCount = syncRun.getSkippedPageCount();
+		}
+	}
+
+	@Transactional
+	public SyncSession openSession(SyncRun.SyncType syncType) {
+		SyncRun syncRun = syncRunRepository.save(SyncRun.builder()
+				.syncType(syncType)
+				.status(SyncRun.Status.RUNNING)
+				.startedAt(LocalDateTime.now())
+				.build());
+
+		SyncSession session = new SyncSession(syncRun, loadKnownHashes(tenderRepository.findAllSyncStates()));
+		log.info("Opened {} sync run (generation {}) against {} known tenders.", syncType, syncRun.getId(),
+				session.knownHashes.size());
+		return session;
+	}
+
+	/**
+	 * 지정한 공고만 갱신하는 세션을 엽니다 (우선 갱신용). 비교용 지문도 해당 키만 읽습니다.
+	 */
+	@Transactional
+	public SyncSession openTargetedSession(SyncRun.SyncType syncType, Collection<String> cltrMnmtNos) {
+		SyncRun syncRun = syncRunRepository.save(SyncRun.builder()
+				.syncType(syncType)
+				.status(SyncRun.Status.RUNNING)
+				.startedAt(LocalDateTime.now())
+				.build());
+		return new SyncSession(syncRun, loadKnownHashes(tenderRepository.findSyncStatesByCltrMnmtNoIn(cltrMnmtNos)));
+	}
+
+	/**
+	 * 샤드 하나의 전체 동기화 세션을 엽니다. 최근(resumeWindowMinutes 이내)에 시작되어 끝나지 못한 같은 샤드의 실행이 있고
+	 * totalCount/페이지 크기가 같아 페이지 경계가 그대로라면 그 실행(세대)을 이어받아 DONE이 아닌 페이지만 남깁니다.
+	 * 이전 실행에서 DONE 처리된 페이지의 행은 이미 같은 세대로 기록되어 있으므로 비활성화 판단도 그대로 유효합니다.
+	 */
+	@Transactional
+	public SyncSession openFullSession(OnbidShard shard, int totalCount, int pageSize) {
+		int totalPages = (int) Math.ceil((double) totalCount / pageSize);
+		LocalDateTime now = LocalDateTime.now();
+
+		Optional<SyncRun> resumable = syncRunRepository
+				.findFirstBySyncTypeAndShardKeyOrderByIdDesc(SyncRun.SyncType.FULL, shard.key())
+				.filter(run -> run.getStatus() != SyncRun.Status.COMPLETED)
+				.filter(run -> run.getStartedAt().isAfter(now.minusMinutes(resumeWindowMinutes)))
+				.filter(run -> Integer.valueOf(totalCount).equals(run.getTotalCount())
+						&& Integer.valueOf(pageSize).equals(run.getPageSize()));
+
+		SyncRun syncRun;
+		List<Integer> pendingPages;
+		if (resumable.isPresent()) {
+			syncRun = resumable.get();
+			syncRun.setStatus(SyncRun.Status.RUNNING);
+			syncRun.setFinishedAt(null);
+			syncRun.setResumeCount(syncRun.getResumeCount() + 1);
+			Set<Integer> donePages = new HashSet<>(
+					syncRunPageRepository.findPageNos(syncRun.getId(), SyncRunPage.Status.DONE));
+			pendingPages = IntStream.rangeClosed(1, totalPages)
+					.filter(pageNo -> !donePages.contains(pageNo))
+					.boxed()
+					.collect(Collectors.toList());
+			log.info("Resuming FULL sync run for shard {} (generation {}, started at {}). {} of {} pages already done.",
+					shard.key(), syncRun.getId(), syncRun.getStartedAt(), donePages.size(), totalPages);
+		} else {
+			syncRun = syncRunRepository.save(SyncRun.builder()
+					.syncType(SyncRun.SyncType.FULL)
+					.shardKey(shard.key())
+					.status(SyncRun.Status.RUNNING)
+					.startedAt(now)
+					.totalCount(totalCount)
+					.pageSize(pageSize)
+					.totalPages(totalPages)
+					.build());
+			Long syncRunId = syncRun.getId();
+			syncRunPageRepository.saveAll(IntStream.rangeClosed(1, totalPages)
+					.mapToObj(pageNo -> SyncRunPage.builder()
+							.syncRunId(syncRunId)
+							.pageNo(pageNo)
+							.status(SyncRunPage.Status.PENDING)
+							.build())
+					.collect(Collectors.toList()));
+			pendingPages = IntStream.rangeClosed(1, totalPages).boxed().collect(Collectors.toList());
+		}
+
+		// 샤드에서 마지막으로 가져온 행만 비교 대상 (다른 샤드/샤드 없는 행이 나오면 upsert로 샤드가 기록됨)
+		SyncSession session = new SyncSession(syncRun,
+				loadKnownHashes(tenderRepository.findSyncStatesByShard(shard.key())));
+		session.pendingPages = pendingPages;
+		session.resumed = resumable.isPresent();
+		log.info("Opened FULL sync run for shard {} (generation {}) against {} known tenders. {} page(s) to fetch.",
+				shard.key(), syncRun.getId(), session.knownHashes.size(), pendingPages.size());
+		return session;
+	}
+
+	/**
+	 * 샤드별로 마지막에 기록된 totalCount의 합계. 한 번도 totalCount를 기록하지 못한 샤드가 있으면 empty.
+	 */
+	@Transactional(readOnly = true)
+	public OptionalLong lastKnownTotalCount(List<OnbidShard> shards) {
+		long total = 0;
+		for (OnbidShard shard : shards) {
+			Optional<SyncRun> lastRun = syncRunRepository
+					.findFirstBySyncTypeAndShardKeyAndTotalCountIsNotNullOrderByIdDesc(SyncRun.SyncType.FULL, shard.key());
+			if (lastRun.isEmpty()) {
+				return OptionalLong.empty();
+			}
+			total += lastRun.get().getTotalCount();
+		}
+		return OptionalLong.of(total);
+	}
+
+	// 페이지 번호 -> 지난번 정상 처리한 응답 지문
+	@Transactional(readOnly = true)
+	public Map<Integer, OnbidPageDigest> loadPageDigests(String querySignature) {
+		return onbidPageDigestRepository.findByQuerySignature(querySignature).stream()
+				.collect(Collectors.toMap(OnbidPageDigest::getPageNo, digest -> digest));
+	}
+
+	// 기존 DB 데이터(키/지문/활성 여부)와 메모리에서 비교 - 엔티티 전체를 로딩하지 않음
+	private static Map<String, String> loadKnownHashes(List<TenderSyncState> states) {
+		Map<String, String> knownHashes = new HashMap<>();
+		for (TenderSyncState state : states) {
+			String hash = Boolean.TRUE.equals(state.getActive()) && state.getContentHash() != null
+					? state.getContentHash()
+					: INACTIVE_MARKER;
+			knownHashes.put(state.getCltrMnmtNo(), hash);
+		}
+		return knownHashes;
+	}
+
+	/**
+	 * chunk 하나를 하나의 트랜잭션으로 씁니다. 지문이 달라졌거나 새로 생긴 행만 upsert 하고,
+	 * 그대로인 행은 세대 번호만 갱신합니다.
+	 *
+	 * @return 실제로 내용 쓰기가 발생한 행 수
+	 */
+	@Transactional
+	public int writeChunk(SyncSession session, List<TenderResponseDTO> chunk) {
+		List<TenderResponseDTO> tendersToUpsert = new ArrayList<>();
+		List<String> unchangedCltrMnmtNos = new ArrayList<>();
+		int inserted = 0;
+
+		for (TenderResponseDTO dto : chunk) {
+			if (dto.getCltrMnmtNo() == null || dto.getCltrMnmtNo().isEmpty()) {
+				log.warn("Skipping tender with null or empty cltrMnmtNo from API: {}", dto.getTenderTitle());
+				continue;
+			}
+			session.processedCount++;
+			dto.setContentHash(TenderFingerprint.of(dto));
+
+			String knownHash = session.knownHashes.get(dto.getCltrMnmtNo());
+			if (knownHash == null) {
+				session.newCount++;
+				inserted++;
+			} else if (!dto.getContentHash().equals(knownHash)) { // 내용 변경 또는 재활성화
+				session.updatedCount++;
+			} else {
+				session.unchangedCount++; // 페이지 간 중복 항목도 두 번째부터는 여기로 옵니다.
+				unchangedCltrMnmtNos.add(dto.getCltrMnmtNo());
+				continue;
+			}
+			session.knownHashes.put(dto.getCltrMnmtNo(), dto.getContentHash());
+			tendersToUpsert.add(dto);
+		}
+		// chunk는 항상 한 페이지에서 나오므로 페이지 지문도 하나입니다.
+		String pageDigest = chunk.isEmpty() ? null : chunk.get(0).getPageDigest();
+		tenderBulkRepository.markSeen(unchangedCltrMnmtNos, session.generation, pageDigest, session.shardKey);
+		// diff용 이전 값은 쓰기 전에, 바뀐 행만 읽습니다.
+		Map<String, Tender> before = tenderChangeBus.hasListeners() && !tendersToUpsert.isEmpty()
+				? tenderRepository.findByCltrMnmtNoIn(tendersToUpsert.stream().map(TenderResponseDTO::getCltrMnmtNo)
+						.toList()).stream().collect(Collectors.toMap(Tender::getCltrMnmtNo, Function.identity(),
+								(first, second) -> first))
+				: null;
+		syncMetrics.countRows(session.syncType, "inserted", inserted);
+		syncMetrics.countRows(session.syncType, "updated", tendersToUpsert.size() - inserted);
+		syncMetrics.countRows(session.syncType, "unchanged", unchangedCltrMnmtNos.size());
+		int written = tenderBulkRepository.upsertAll(tendersToUpsert, session.generation, session.shardKey,
+				syncBatchSize);
+		if (priceHistoryEnabled) {
+			recordPriceChanges(session, tendersToUpsert);
+		}
+		if (before != null) {
+			publishUpserts(session, tendersToUpsert, before);
+		}
+		return written;
+	}
+
+	/**
+	 * 내용이 바뀐 행 중 온비드 가격이 마지막 이력과 다른 행만 가격 이력에 추가합니다 (같은 트랜잭션).
+	 * 가격은 지문에 포함되므로 지문이 같은 행은 비교할 필요가 없습니다.
+	 */
+	private void recordPriceChanges(SyncSession session, List<TenderResponseDTO> upserted) {
+		if (upserted.isEmpty()) {
+			return;
+		}
+		Map<String, TenderBulkRepository.TrackedPrices> latest = tenderBulkRepository
+				.findLatestPrices(upserted.stream().map(TenderResponseDTO::getCltrMnmtNo).toList());
+		List<TenderResponseDTO> changed = upserted.stream()
+				.filter(dto -> {
+					TenderBulkRepository.TrackedPrices prices = new TenderBulkRepository.TrackedPrices(
+							dto.getMinBidPrice(), dto.getApslAsesAvgAmt());
+					TenderBulkRepository.TrackedPrices previous = latest.get(dto.getCltrMnmtNo());
+					return previous == null
+							? prices.minBidPrice() != null || prices.apslAsesAvgAmt() != null // 가격 없는 첫 행은 생략
+							: !prices.equals(previous);
+				})
+				.toList();
+		tenderBulkRepository.insertPriceHistory(changed, session.generation, syncBatchSize);
+	}
+
+	// upsert 한 행의 변경 이벤트 (DB에 실제로 남은 값 기준)
+	private void publishUpserts(SyncSession session, List<TenderResponseDTO> upserted, Map<String, Tender> before) {
+		List<TenderChangeEvent> events = new ArrayList<>(upserted.size());
+		LocalDateTime syncedAt = LocalDateTime.now();
+		for (TenderResponseDTO dto : upserted) {
+			Tender previous = before.get(dto.getCltrMnmtNo());
+			if (previous != null) {
+				dto.setHighestBidPrice(previous.getHighestBidPrice()); // 입찰가는 upsert가 건드리지 않음
+			}
+			dto.setActive(true);
+			dto.setLastSyncedAt(syncedAt);
+			dto.setStatus(TenderResponseDTO.statusOf(dto.getAnnouncementDate(), dto.getDeadline()));
+			if (previous == null) {
+				events.add(new TenderCreated(dto.getCltrMnmtNo(), session.generation, dto));
+				continue;
+			}
+			Map<String, TenderChanged.FieldChange> changes = TenderFingerprint
+					.diff(TenderResponseDTO.fromEntity(previous), dto);
+			if (!previous.isActive()) {
+				changes.put("active", new TenderChanged.FieldChange(false, true));
+			}
+			if (!changes.isEmpty()) {
+				events.add(new TenderChanged(dto.getCltrMnmtNo(), session.generation, changes, dto));
+			}
+		}
+		publish(events);
+	}
+
+	private void publishDeactivations(long generation, List<String> cltrMnmtNos) {
+		publish(cltrMnmtNos.stream()
+				.<TenderChangeEvent>map(cltrMnmtNo -> new TenderDeactivated(cltrMnmtNo, generation))
+				.toList());
+	}
+
+	// 커밋된 뒤에 버스로 전달됨 (TenderChangeBus.onBatch)
+	private void publish(List<TenderChangeEvent> events) {
+		if (!events.isEmpty()) {
+			eventPublisher.publishEvent(new TenderChangeBatch(events));
+		}
+	}
+
+	/**
+	 * 응답이 지난번과 같은 페이지의 행들을 파싱 없이 이번 세대로 확인 처리합니다.
+	 * fetcher 스레드에서 호출되므로 세션의 건수는 건드리지 않습니다 (completePage에서 반영).
+	 *
+	 * @return 확인 처리된 행 수
+	 */
+	@Transactional
+	public int stampUnchangedPage(SyncSession session, String pageDigest) {
+		return tenderBulkRepository.markPageSeen(pageDigest, session.generation);
+	}
+
+	/**
+	 * 정상 처리된 페이지를 DONE으로 기록하고, 다음 실행에서 비교할 응답 지문을 저장합니다.
+	 */
+	@Transactional
+	public void completePage(SyncSession session, int pageNo, String querySignature,
+			OnbidPageFetcher.PageResult result) {
+		if (result.skipped()) {
+			session.skippedPageCount++;
+			session.processedCount += result.itemCount();
+			session.unchangedCount += result.itemCount();
+			syncMetrics.countRows(session.syncType, "unchanged", result.itemCount());
+		}
+		if (result.bodyDigest() != null) {
+			OnbidPageDigest digest = onbidPageDigestRepository.findByQuerySignatureAndPageNo(querySignature, pageNo)
+					.orElseGet(() -> OnbidPageDigest.builder().querySignature(querySignature).pageNo(pageNo).build());
+			digest.setBodyDigest(result.bodyDigest());
+			digest.setItemCount(result.itemCount());
+			digest.setEtag(result.etag());
+			digest.setLastModified(result.lastModified());
+			digest.setUpdatedAt(LocalDateTime.now());
+			onbidPageDigestRepository.save(digest);
+		}
+		markPage(session, pageNo, SyncRunPage.Status.DONE);
+	}
+
+	/**
+	 * 페이지 하나의 결과를 기록합니다. DONE은 그 페이지의 모든 chunk가 커밋된 뒤에만 기록해야 하며,
+	 * 재개 시 건수가 이어지도록 지금까지의 누적 건수도 함께 저장합니다.
+	 */
+	@Transactional
+	public void markPage(SyncSession session, int pageNo, SyncRunPage.Status status) {
+		syncRunPageRepository.updateStatus(session.generation, pageNo, status, LocalDateTime.now());
+		syncRunRepository.findById(session.generation).ifPresent(syncRun -> applyCounts(syncRun, session));
+	}
+
+	/**
+	 * 샤드에서 이번 세대에 확인되지 않은 활성 행을 UPDATE 한 문장으로 비활성화합니다.
+	 * 모든 페이지를 정상적으로 받은 전체 동기화에서만 호출해야 합니다.
+	 */
+	@Transactional
+	public int deactivateMissing(SyncSession session) {
+		List<String> deactivating = tenderChangeBus.hasListeners()
+				? tenderBulkRepository.findActiveOlderThan(session.shardKey, session.generation)
+				: List.of();
+		session.deactivatedCount = tenderBulkRepository.deactivateOlderThan(session.shardKey, session.generation);
+		publishDeactivations(session.generation, deactivating);
+		syncMetrics.countRows(session.syncType, "deactivated", session.deactivatedCount);
+		return session.deactivatedCount;
+	}
+
+	/**
+	 * 온비드에서 더 이상 조회되지 않는 것으로 확인된 공고를 바로 비활성화합니다 (우선 갱신용).
+	 */
+	@Transactional
+	public int deactivateTenders(SyncSession session, Collection<String> cltrMnmtNos) {
+		List<String> deactivating = tenderChangeBus.hasListeners() ? tenderBulkRepository.findActive(cltrMnmtNos)
+				: List.of();
+		int deactivated = tenderBulkRepository.deactivate(cltrMnmtNos, session.generation);
+		publishDeactivations(session.generation, deactivating);
+		session.deactivatedCount += deactivated;
+		syncMetrics.countRows(session.syncType, "deactivated", deactivated);
+		return deactivated;
+	}
+
+	/**
+	 * 현재 샤드 구성 밖의 행(샤드 도입 전 행, 설정에서 빠진 샤드의 행)을 정리합니다.
+	 * 모든 샤드가 정상 완료된 적이 있을 때만, 그중 가장 오래된 완료 실행보다 이전에 확인된 행을 비활성화합니다.
+	 *
+	 * @return 비활성화된 행 수 (아직 완료되지 않은 샤드가 있으면 0)
+	 */
+	@Transactional
+	public int deactivateOrphans(List<OnbidShard> shards) {
+		long generationFloor = Long.MAX_VALUE;
+		long latestGeneration = 0;
+		for (OnbidShard shard : shards) {
+			Optional<SyncRun> lastCompleted = syncRunRepository
+					.findFirstBySyncTypeAndShardKeyAndStatusOrderByFinishedAtDesc(SyncRun.SyncType.FULL, shard.key(),
+							SyncRun.Status.COMPLETED);
+			if (lastCompleted.isEmpty()) {
+				return 0;
+			}
+			generationFloor = Math.min(generationFloor, lastCompleted.get().getId());
+			latestGeneration = Math.max(latestGeneration, lastCompleted.get().getId());
+		}
+		List<String> shardKeys = shards.stream().map(OnbidShard::key).toList();
+		List<String> deactivating = tenderChangeBus.hasListeners()
+				? tenderBulkRepository.findOrphans(shardKeys, generationFloor)
+				: List.of();
+		int deactivated = tenderBulkRepository.deactivateOrphans(shardKeys, generationFloor);
+		publishDeactivations(latestGeneration, deactivating);
+		syncMetrics.countRows(SyncRun.SyncType.FULL, "deactivated", deactivated);
+		if (deactivated > 0) {
+			log.info("Deactivated {} tenders outside the current shards {} (not seen since generation {}).",
+					deactivated, shardKeys, generationFloor);
+		}
+		return deactivated;
+	}
+
+	@Transactional
+	public void finishSession(SyncSession session, SyncRun.Status status) {
+		syncRunRepository.findById(session.generation).ifPresent(syncRun -> {
+			syncRun.setStatus(status);
+			syncRun.setFinishedAt(LocalDateTime.now());
+			applyCounts(syncRun, session);
+		});
+		log.info("DB sync summary (generation {}, shard {}, {}) - New: {}, Updated: {}, Unchanged: {}, "
+				+ "Deactivated: {}, Skipped pages: {}", session.generation, session.shardKey, status, session.newCount,
+				session.updatedCount, session.unchangedCount, session.deactivatedCount, session.skippedPageCount);
+	}
+
+	private static void applyCounts(SyncRun syncRun, SyncSession session) {
+		syncRun.setNewCount(session.newCount);
+		syncRun.setUpdatedCount(session.updatedCount);
+		syncRun.setUnchangedCount(session.unchangedCount);
+		syncRun.setDeactivatedCount(session.deactivatedCount);
+		syncRun.setSkippedPageCount(session.skippedPageCount);
+	}
+}
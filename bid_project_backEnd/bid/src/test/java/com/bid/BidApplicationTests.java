@@ -1,8 +1,10 @@
 package com.bid;
 
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
+@Tag("mariadb") // 애플리케이션 설정의 MariaDB가 필요 (./gradlew mariadbTest)
 @SpringBootTest
 class BidApplicationTests {
 
@@ -0,0 +1,139 @@
+package com.bid.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.bid.dto.response.TenderResponseDTO;
+
+/**
+ * 서로 다른 락으로 동시에 도는 동기화 세션(우선 갱신/빠른 동기화와 샤드별 전체 동기화)이 같은 행을 엇갈려 쓸 때
+ * 세대 번호가 줄어들지 않아서, 나중에 시작한 샤드 동기화의 세대 기반 비활성화가 살아 있는 공고를 건드리지 않는지 확인합니다.
+ *
+ * MariaDB 전용 SQL(ON DUPLICATE KEY UPDATE, GREATEST)이라 로컬 MariaDB가 필요하며 {@code ./gradlew mariadbTest}로만 실행합니다.
+ * 데이터베이스 이름에 test가 들어간 전용 DB(기본 onbid_test)만 사용합니다.
+ */
+@Tag("mariadb")
+@EnabledIfSystemProperty(named = "onbid.mariadb-test", matches = "true")
+@SpringBootTest
+class TenderBulkRepositoryGenerationTest {
+
+	private static final String DEFAULT_DATASOURCE_URL = "jdbc:mariadb://localhost:3306/onbid_test"
+			+ "?createDatabaseIfNotExist=true&useUnicode=true&characterEncoding=utf8&useBulkStmts=true";
+	private static final String KEY_PREFIX = "GEN-TEST-";
+	private static final String SHARD = "GEN-TEST-SHARD";
+	private static final int CHUNK_SIZE = 100;
+
+	// sync_runs.id 순서: 우선 갱신(또는 빠른 동기화)이 먼저 시작하고 샤드 전체 동기화가 다음 세대를 엶
+	private static final long HOT_GENERATION = 1_000_001L;
+	private static final long FULL_GENERATION = 1_000_002L;
+
+	@Autowired
+	private TenderBulkRepository tenderBulkRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@DynamicPropertySource
+	static void mariadbProperties(DynamicPropertyRegistry registry) {
+		String datasourceUrl = System.getProperty("onbid.mariadb-test.datasource-url", DEFAULT_DATASOURCE_URL);
+		if (!datasourceUrl.contains("test")) { // 개발용 DB에 쓰지 않도록
+			throw new IllegalStateException("Test database name must contain 'test': " + datasourceUrl);
+		}
+		registry.add("spring.datasource.url", () -> datasourceUrl);
+		registry.add("spring.jpa.show-sql", () -> "false");
+		registry.add("onbid.api.base-url", () -> "http://localhost:1");
+		registry.add("onbid.sync.run-on-startup", () -> "false");
+		registry.add("onbid.sync.shard.check-interval-ms", () -> "3600000");
+		registry.add("onbid.sync.follower-poll-ms", () -> "3600000");
+		registry.add("onbid.refresh.hot.enabled", () -> "false");
+		registry.add("logging.level.org.springframework.security", () -> "INFO");
+	}
+
+	@BeforeEach
+	void deleteTestRows() {
+		jdbcTemplate.update("DELETE FROM tenders WHERE cltr_mnmt_no LIKE ?", KEY_PREFIX + "%");
+	}
+
+	@Test
+	void olderSessionUpsertAndMarkSeenDoNotLowerGeneration() {
+		String key = KEY_PREFIX + "1";
+
+		// 샤드 전체 동기화(g+1)가 먼저 행을 확인
+		tenderBulkRepository.upsertAll(List.of(tender(key, "h1", null)), FULL_GENERATION, SHARD, CHUNK_SIZE);
+		// 그 전에 시작한 우선 갱신(g)이 같은 행을 나중에 씀 (내용 변경, 변경 없음 두 경로)
+		tenderBulkRepository.upsertAll(List.of(tender(key, "h2", null)), HOT_GENERATION, null, CHUNK_SIZE);
+		tenderBulkRepository.markSeen(List.of(key), HOT_GENERATION, null, null);
+
+		assertEquals(FULL_GENERATION, generationOf(key));
+		// 샤드 동기화 마무리: 이번 세대에 확인한 행은 남아 있어야 함
+		tenderBulkRepository.deactivateOlderThan(SHARD, FULL_GENERATION);
+		assertTrue(isActive(key));
+	}
+
+	@Test
+	void olderSessionPageMarkDoesNotLowerGeneration() {
+		String key = KEY_PREFIX + "2";
+		String pageDigest = KEY_PREFIX + "page";
+
+		tenderBulkRepository.upsertAll(List.of(tender(key, "h1", pageDigest)), FULL_GENERATION, SHARD, CHUNK_SIZE);
+		// 먼저 시작한 빠른 동기화가 같은 페이지를 "변경 없음"으로 확인
+		tenderBulkRepository.markPageSeen(pageDigest, HOT_GENERATION);
+
+		assertEquals(FULL_GENERATION, generationOf(key));
+		tenderBulkRepository.deactivateOlderThan(SHARD, FULL_GENERATION);
+		assertTrue(isActive(key));
+	}
+
+	@Test
+	void newerGenerationStillAdvancesAndUnseenRowsAreDeactivated() {
+		String seen = KEY_PREFIX + "3";
+		String unseen = KEY_PREFIX + "4";
+
+		tenderBulkRepository.upsertAll(List.of(tender(seen, "h1", null), tender(unseen, "h1", null)),
+				HOT_GENERATION, SHARD, CHUNK_SIZE);
+		// 다음 세대의 샤드 동기화는 seen만 확인
+		tenderBulkRepository.markSeen(List.of(seen), FULL_GENERATION, null, SHARD);
+
+		assertEquals(FULL_GENERATION, generationOf(seen));
+		assertEquals(List.of(unseen), tenderBulkRepository.findActiveOlderThan(SHARD, FULL_GENERATION));
+		assertEquals(1, tenderBulkRepository.deactivateOlderThan(SHARD, FULL_GENERATION));
+		assertTrue(isActive(seen));
+		assertFalse(isActive(unseen));
+	}
+
+	private static TenderResponseDTO tender(String cltrMnmtNo, String contentHash, String pageDigest) {
+		LocalDateTime now = LocalDateTime.now();
+		return TenderResponseDTO.builder()
+				.cltrMnmtNo(cltrMnmtNo)
+				.tenderTitle("세대 테스트 " + cltrMnmtNo)
+				.announcementDate(now.minusDays(1))
+				.deadline(now.plusDays(1))
+				.contentHash(contentHash)
+				.pageDigest(pageDigest)
+				.build();
+	}
+
+	private long generationOf(String cltrMnmtNo) {
+		return jdbcTemplate.queryForObject("SELECT sync_generation FROM tenders WHERE cltr_mnmt_no = ?", Long.class,
+				cltrMnmtNo);
+	}
+
+	private boolean isActive(String cltrMnmtNo) {
+		return jdbcTemplate.queryForObject("SELECT active FROM tenders WHERE cltr_mnmt_no = ?", Boolean.class,
+				cltrMnmtNo);
+	}
+}
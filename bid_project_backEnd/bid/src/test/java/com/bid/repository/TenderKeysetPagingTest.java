@@ -0,0 +1,161 @@
+package com.bid.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.bid.dto.response.TenderResponseDTO;
+import com.bid.entity.Tender;
+import com.bid.entity.TenderPhase;
+import com.bid.service.TenderCursor;
+
+/**
+ * DB 커서(keyset) 조회(searchTendersAfter)가 목록 정렬 키가 같은 행(같은 공고일)과
+ * 공고일 없는 행(정렬 키 Long.MAX_VALUE)을 건너뛰거나 두 번 돌려주지 않는지 확인합니다.
+ * 커서는 TenderService와 같이 문자열로 주고받습니다.
+ *
+ * 로컬 MariaDB가 필요하며 {@code ./gradlew mariadbTest}로만 실행합니다.
+ * 데이터베이스 이름에 test가 들어간 전용 DB(기본 onbid_test)만 사용합니다.
+ */
+@Tag("mariadb")
+@EnabledIfSystemProperty(named = "onbid.mariadb-test", matches = "true")
+@SpringBootTest
+class TenderKeysetPagingTest {
+
+	private static final String DEFAULT_DATASOURCE_URL = "jdbc:mariadb://localhost:3306/onbid_test"
+			+ "?createDatabaseIfNotExist=true&useUnicode=true&characterEncoding=utf8&useBulkStmts=true";
+	private static final String KEY_PREFIX = "KEYSET-TEST-";
+
+	// K02~K04는 공고일이 같아 정렬 키가 같고, K06~K08은 공고일이 없어 정렬 키가 Long.MAX_VALUE
+	private static final List<String> LIST_ORDER = List.of("K01", "K02", "K03", "K04", "K05", "K06", "K07", "K08");
+
+	@Autowired
+	private TenderRepository tenderRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@DynamicPropertySource
+	static void mariadbProperties(DynamicPropertyRegistry registry) {
+		String datasourceUrl = System.getProperty("onbid.mariadb-test.datasource-url", DEFAULT_DATASOURCE_URL);
+		if (!datasourceUrl.contains("test")) { // 개발용 DB에 쓰지 않도록
+			throw new IllegalStateException("Test database name must contain 'test': " + datasourceUrl);
+		}
+		registry.add("spring.datasource.url", () -> datasourceUrl);
+		registry.add("spring.jpa.show-sql", () -> "false");
+		registry.add("onbid.api.base-url", () -> "http://localhost:1");
+		registry.add("onbid.sync.run-on-startup", () -> "false");
+		registry.add("onbid.sync.shard.check-interval-ms", () -> "3600000");
+		registry.add("onbid.sync.follower-poll-ms", () -> "3600000");
+		registry.add("onbid.refresh.hot.enabled", () -> "false");
+		registry.add("logging.level.org.springframework.security", () -> "INFO");
+	}
+
+	@BeforeEach
+	void insertTestRows() {
+		deleteTestRows();
+		LocalDateTime now = LocalDateTime.now().withNano(0);
+		LocalDateTime tied = now.minusDays(2);
+		// 저장 순서를 목록 순서와 다르게 해서 id 순서에 기대지 않도록 함
+		tenderRepository.saveAll(List.of(
+				tender("K07", null, now),
+				tender("K03", tied, now),
+				tender("K05", now.plusDays(1), now),
+				tender("K08", null, now),
+				tender("K01", now.minusDays(1), now),
+				tender("K04", tied, now),
+				tender("K06", null, now),
+				tender("K02", tied, now)));
+	}
+
+	@AfterEach
+	void deleteTestRows() {
+		jdbcTemplate.update("DELETE FROM tenders WHERE cltr_mnmt_no LIKE ?", KEY_PREFIX + "%");
+	}
+
+	@Test
+	void cursorWalkVisitsEveryRowOnceAcrossTiesAndUndatedRows() {
+		List<String> expected = LIST_ORDER.stream().map(key -> KEY_PREFIX + key).toList();
+
+		for (int limit = 1; limit <= 4; limit++) {
+			assertEquals(expected, walkWithCursor(limit), "limit " + limit);
+		}
+	}
+
+	@Test
+	void cursorInsideTieResumesAtNextKeyWithSameListOrder() {
+		long tiedOrder = listOrderOf("K03");
+		assertEquals(tiedOrder, listOrderOf("K02"));
+
+		assertEquals(List.of(KEY_PREFIX + "K04", KEY_PREFIX + "K05"),
+				keysAfter(new TenderCursor(tiedOrder, KEY_PREFIX + "K03"), 2));
+	}
+
+	@Test
+	void cursorOnUndatedRowResumesAmongUndatedRowsOnly() {
+		assertEquals(TenderPhase.UNDATED_ORDER, listOrderOf("K06"));
+
+		// listOrder > Long.MAX_VALUE인 행은 없으므로 물건관리번호 비교만으로 이어감
+		assertEquals(List.of(KEY_PREFIX + "K07", KEY_PREFIX + "K08"),
+				keysAfter(new TenderCursor(TenderPhase.UNDATED_ORDER, KEY_PREFIX + "K06"), 10));
+		assertTrue(keysAfter(new TenderCursor(TenderPhase.UNDATED_ORDER, KEY_PREFIX + "K08"), 10).isEmpty());
+	}
+
+	// TenderService.scrollTenders와 같이 한 건 더 읽어 다음 커서를 만들고, 커서는 문자열로 주고받으며 끝까지 조회
+	private List<String> walkWithCursor(int limit) {
+		List<String> keys = new ArrayList<>();
+		String cursor = null;
+		do {
+			List<Tender> page = after(TenderCursor.decode(cursor), limit + 1);
+			cursor = null;
+			if (page.size() > limit) {
+				page = page.subList(0, limit);
+				Tender last = page.get(limit - 1);
+				cursor = new TenderCursor(last.getListOrder(), last.getCltrMnmtNo()).encode();
+			}
+			page.forEach(tender -> keys.add(tender.getCltrMnmtNo()));
+		} while (cursor != null && keys.size() <= LIST_ORDER.size());
+		return keys;
+	}
+
+	private List<String> keysAfter(TenderCursor cursor, int limit) {
+		return after(cursor, limit).stream().map(Tender::getCltrMnmtNo).toList();
+	}
+
+	// 다른 테스트 행과 섞이지 않도록 물건명(접두어)으로 검색
+	private List<Tender> after(TenderCursor cursor, int limit) {
+		long afterOrder = cursor != null ? cursor.listOrder() : Long.MIN_VALUE;
+		String afterKey = cursor != null ? cursor.cltrMnmtNo() : "";
+		return tenderRepository.searchTendersAfter(KEY_PREFIX, null, null, null, null, null, null, null, null,
+				afterOrder, afterKey, PageRequest.of(0, limit));
+	}
+
+	private long listOrderOf(String key) {
+		return jdbcTemplate.queryForObject("SELECT list_order FROM tenders WHERE cltr_mnmt_no = ?", Long.class,
+				KEY_PREFIX + key);
+	}
+
+	private static Tender tender(String key, LocalDateTime announcementDate, LocalDateTime now) {
+		return Tender.fromDto(TenderResponseDTO.builder()
+				.cltrMnmtNo(KEY_PREFIX + key)
+				.tenderTitle(KEY_PREFIX + key + " 커서 테스트")
+				.announcementDate(announcementDate)
+				.deadline(now.plusDays(10))
+				.build());
+	}
+}
@@ -0,0 +1,181 @@
+package com.bid.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.ReflectionUtils;
+
+import com.bid.dto.response.TenderResponseDTO;
+import com.bid.exception.OnbidRateLimitException;
+import com.bid.service.OnbidApiParser.ParserMode;
+import com.bid.service.OnbidApiParser.TenderListResult;
+
+/**
+ * 스트리밍(STAX) 파서와 비교용 DOM 파서가 같은 응답에서 같은 DTO 목록과 totalCount를 만드는지 확인합니다.
+ * 빠진 필드, 형식이 틀린 날짜/숫자, 빈 목록, 호출 한도 초과(코드 22) 응답을 함께 다룹니다.
+ */
+class OnbidApiParserTest {
+
+	// 정상 항목 하나, 필드가 빠진 항목 하나, 날짜/숫자 형식이 틀린 항목 하나
+	private static final String PAGE = """
+			<?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+			<response>
+			  <header><resultCode>00</resultCode><resultMsg>NORMAL SERVICE.</resultMsg></header>
+			  <body>
+			    <items>
+			      <item>
+			        <RNUM>1</RNUM>
+			        <PLNM_NO>12345</PLNM_NO>
+			        <PBCT_NO>67890</PBCT_NO>
+			        <CLTR_HSTR_NO>0001</CLTR_HSTR_NO>
+			        <CLTR_MNMT_NO>2025-0301-000123</CLTR_MNMT_NO>
+			        <CLTR_NM>서울 강남구 A&amp;B 아파트</CLTR_NM>
+			        <DPSL_MTD_NM>매각</DPSL_MTD_NM>
+			        <CTGR_FULL_NM>부동산 / 주거용건물 / 아파트</CTGR_FULL_NM>
+			        <MIN_BID_PRC>350000000</MIN_BID_PRC>
+			        <APSL_ASES_AVG_AMT>500000000</APSL_ASES_AVG_AMT>
+			        <PBCT_BEGN_DTM>20250301090000</PBCT_BEGN_DTM>
+			        <PBCT_CLS_DTM>20250305170000</PBCT_CLS_DTM>
+			        <NEW_FIELD>온비드가 새로 추가한 필드</NEW_FIELD>
+			      </item>
+			      <item>
+			        <CLTR_MNMT_NO>2025-0301-000124</CLTR_MNMT_NO>
+			        <CLTR_NM>필드가 빠진 물건</CLTR_NM>
+			      </item>
+			      <item>
+			        <PLNM_NO>12346</PLNM_NO>
+			        <CLTR_MNMT_NO>2025-0301-000125</CLTR_MNMT_NO>
+			        <CLTR_NM>형식이 틀린 물건</CLTR_NM>
+			        <MIN_BID_PRC>비공개</MIN_BID_PRC>
+			        <APSL_ASES_AVG_AMT></APSL_ASES_AVG_AMT>
+			        <PBCT_BEGN_DTM>2025-03-01 09:00</PBCT_BEGN_DTM>
+			        <PBCT_CLS_DTM>20250231120000</PBCT_CLS_DTM>
+			      </item>
+			    </items>
+			    <numOfRows>3</numOfRows>
+			    <pageNo>1</pageNo>
+			    <totalCount>1234</totalCount>
+			  </body>
+			</response>
+			""";
+
+	private static final String EMPTY_PAGE = """
+			<?xml version="1.0" encoding="UTF-8"?>
+			<response>
+			  <header><resultCode>00</resultCode><resultMsg>NORMAL SERVICE.</resultMsg></header>
+			  <body><items></items><numOfRows>3</numOfRows><pageNo>7</pageNo><totalCount>0</totalCount></body>
+			</response>
+			""";
+
+	// 헤더의 결과 코드로 온 호출 한도 초과
+	private static final String RATE_LIMITED = """
+			<?xml version="1.0" encoding="UTF-8"?>
+			<response>
+			  <header><resultCode>22</resultCode><resultMsg>LIMITED NUMBER OF SERVICE REQUESTS EXCEEDS ERROR.</resultMsg></header>
+			  <body><items></items><totalCount>0</totalCount></body>
+			</response>
+			""";
+
+	// 공공데이터포털 공통 에러 형식으로 온 호출 한도 초과
+	private static final String PORTAL_RATE_LIMITED = """
+			<OpenAPI_ServiceResponse>
+			  <cmmMsgHeader>
+			    <errMsg>SERVICE ERROR</errMsg>
+			    <returnAuthMsg>LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR</returnAuthMsg>
+			    <returnReasonCode>22</returnReasonCode>
+			  </cmmMsgHeader>
+			</OpenAPI_ServiceResponse>
+			""";
+
+	@Test
+	void staxAndDomProduceSameTenders() {
+		TenderListResult stax = parse(ParserMode.STAX, PAGE);
+		TenderListResult dom = parse(ParserMode.DOM, PAGE);
+
+		assertEquals(3, stax.getTenders().size());
+		assertEquals(1234, stax.getTotalCount());
+		assertEquals(stax.getTotalCount(), dom.getTotalCount());
+		assertEquals(fieldsOf(stax.getTenders()), fieldsOf(dom.getTenders()));
+	}
+
+	@Test
+	void missingAndMalformedValuesBecomeNullInBothModes() {
+		for (ParserMode mode : ParserMode.values()) {
+			List<TenderResponseDTO> tenders = parse(mode, PAGE).getTenders();
+
+			TenderResponseDTO complete = tenders.get(0);
+			assertEquals(12345L, complete.getTenderId(), mode.name());
+			assertEquals("1", complete.getCltrHstrNo(), mode.name()); // 앞의 0 제거
+			assertEquals("서울 강남구 A&B 아파트", complete.getTenderTitle(), mode.name());
+			assertEquals(350_000_000L, complete.getMinBidPrice(), mode.name());
+			assertEquals(LocalDateTime.of(2025, 3, 1, 9, 0), complete.getAnnouncementDate(), mode.name());
+			assertEquals(LocalDateTime.of(2025, 3, 5, 17, 0), complete.getDeadline(), mode.name());
+
+			TenderResponseDTO missing = tenders.get(1);
+			assertEquals("2025-0301-000124", missing.getCltrMnmtNo(), mode.name());
+			assertNull(missing.getTenderId(), mode.name());
+			assertNull(missing.getMinBidPrice(), mode.name());
+			assertNull(missing.getAnnouncementDate(), mode.name());
+			assertNull(missing.getDeadline(), mode.name());
+
+			TenderResponseDTO malformed = tenders.get(2);
+			assertEquals(12346L, malformed.getTenderId(), mode.name()); // 틀린 필드만 null, 항목은 유지
+			assertNull(malformed.getMinBidPrice(), mode.name());
+			assertNull(malformed.getApslAsesAvgAmt(), mode.name());
+			assertNull(malformed.getAnnouncementDate(), mode.name());
+			assertNull(malformed.getDeadline(), mode.name()); // 2월 31일
+		}
+	}
+
+	@Test
+	void emptyItemsGiveNoTendersInBothModes() {
+		for (ParserMode mode : ParserMode.values()) {
+			TenderListResult result = parse(mode, EMPTY_PAGE);
+
+			assertTrue(result.getTenders().isEmpty(), mode.name());
+			assertEquals(0, result.getTotalCount(), mode.name());
+		}
+	}
+
+	@Test
+	void rateLimitCodeThrowsInBothModes() {
+		for (ParserMode mode : ParserMode.values()) {
+			assertThrows(OnbidRateLimitException.class, () -> parse(mode, RATE_LIMITED), mode.name());
+			assertThrows(OnbidRateLimitException.class, () -> parse(mode, PORTAL_RATE_LIMITED), mode.name());
+		}
+	}
+
+	private static TenderListResult parse(ParserMode mode, String xml) {
+		OnbidApiParser parser = new OnbidApiParser();
+		ReflectionTestUtils.setField(parser, "parserMode", mode);
+		InputStream body = new ByteArrayInputStream(xml.strip().getBytes(StandardCharsets.UTF_8));
+		return parser.parse(body);
+	}
+
+	// TenderResponseDTO는 equals가 없으므로 필드 값을 모아 비교
+	private static List<Map<String, Object>> fieldsOf(List<TenderResponseDTO> tenders) {
+		return tenders.stream().map(OnbidApiParserTest::fieldsOf).toList();
+	}
+
+	private static Map<String, Object> fieldsOf(TenderResponseDTO tender) {
+		Map<String, Object> fields = new LinkedHashMap<>();
+		ReflectionUtils.doWithFields(TenderResponseDTO.class, field -> {
+			ReflectionUtils.makeAccessible(field);
+			fields.put(field.getName(), field.get(tender));
+		}, field -> !Modifier.isStatic(field.getModifiers()));
+		return fields;
+	}
+}
@@ -0,0 +1,357 @@
+package com.bid.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 로컬 온비드 stub 서버 (getKamcoPbctCltrList 응답 형식).
+ * 실제 openapi.onbid.co.kr와 서비스 키 없이 OnbidSyncService 전체 경로(조회/파싱/저장)를 돌려 보기 위한 용도입니다.
+ *
+ * <ul>
+ * <li>합성 모드(기본): 물건 totalCount건을 결정적으로 만들어 pageNo/numOfRows 대로 잘라 스트리밍합니다.
+ * DPSL_MTD_CD(짝수 번째 0001 매각 / 홀수 번째 0002 임대)와 CLTR_MNMT_NO 필터를 지원하고,
+ * dataVersion이 같으면 같은 ETag를 돌려주므로 조건부 요청(304)도 확인할 수 있습니다.</li>
+ * <li>녹화 모드: recordedDir의 page-{pageNo}.xml을 그대로 돌려줍니다 (필터/numOfRows 무시, 없는 페이지는 빈 응답).</li>
+ * </ul>
+ * latencyMs만큼 응답 헤더를 늦추고, errorRate 확률로 HTTP 503 또는 호출 한도 초과(resultCode 22) 응답을 섞습니다.
+ *
+ * 단독 실행: {@code java ... com.bid.service.OnbidStubServer} (-Donbid.stub.port, -Donbid.stub.total-count,
+ * -Donbid.stub.latency-ms, -Donbid.stub.error-rate, -Donbid.stub.recorded-dir)
+ */
+public class OnbidStubServer implements AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(OnbidStubServer.class);
+
+	public static final String PATH = "/openapi/services/KamcoPblsalThingInquireSvc/getKamcoPbctCltrList";
+
+	private static final DateTimeFormatter ONBID_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+	private static final LocalDateTime BASE_DATE_TIME = LocalDateTime.of(2026, 1, 5, 10, 0);
+	private static final String[] DPSL_MTD = { "0001", "0002" };
+	private static final String[] DPSL_MTD_NM = { "매각", "임대(대부)" };
+	private static final String[] SIDO = { "서울특별시", "부산광역시", "경기도", "충청남도", "전라남도" };
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private final int totalCount;
+	private final long latencyMs;
+	private final double errorRate;
+	private final Path recordedDir;
+
+	private final AtomicInteger dataVersion = new AtomicInteger(1);
+
+	// 통계 (벤치마크 리포트용)
+	private final AtomicLong requestCount = new AtomicLong();
+	private final AtomicLong notModifiedCount = new AtomicLong();
+	private final AtomicLong errorCount = new AtomicLong();
+	private final AtomicLong servedItemCount = new AtomicLong();
+
+	public OnbidStubServer(int port, int totalCount, long latencyMs, double errorRate, Path recordedDir)
+			throws IOException {
+		this.totalCount = totalCount;
+		this.latencyMs = latencyMs;
+		this.errorRate = errorRate;
+		this.recordedDir = recordedDir;
+		this.executor = Executors.newVirtualThreadPerTaskExecutor();
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+		this.server.createContext(PATH, this::handle);
+		this.server.setExecutor(executor);
+	}
+
+	// 시스템 프로퍼티(onbid.stub.*)로 설정한 stub 서버
+	public static OnbidStubServer fromSystemProperties() throws IOException {
+		String recorded = System.getProperty("onbid.stub.recorded-dir");
+		return new OnbidStubServer(
+				Integer.getInteger("onbid.stub.port", 0),
+				Integer.getInteger("onbid.stub.total-count", 50_000),
+				Long.getLong("onbid.stub.latency-ms", 50L),
+				Double.parseDouble(System.getProperty("onbid.stub.error-rate", "0.0")),
+				recorded == null || recorded.isBlank() ? null : Path.of(recorded));
+	}
+
+	public static void main(String[] args) throws IOException {
+		OnbidStubServer stub = fromSystemProperties();
+		stub.start();
+		log.info("Onbid stub server listening on {}", stub.baseUrl());
+	}
+
+	public void start() {
+		server.start();
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	// onbid.api.base-url로 그대로 쓰는 주소
+	public String baseUrl() {
+		return "http://127.0.0.1:" + server.getAddress().getPort() + PATH;
+	}
+
+	public long requestCount() {
+		return requestCount.get();
+	}
+
+	public long notModifiedCount() {
+		return notModifiedCount.get();
+	}
+
+	public long errorCount() {
+		return errorCount.get();
+	}
+
+	public long servedItemCount() {
+		return servedItemCount.get();
+	}
+
+	// 합성 데이터의 일부 항목 내용을 바꿔서 다음 조회부터 다른 응답(다른 ETag/지문)이 나가게 합니다.
+	public void changeData() {
+		dataVersion.incrementAndGet();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			requestCount.incrementAndGet();
+			Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+			sleep(latencyMs);
+
+			if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+				errorCount.incrementAndGet();
+				if (ThreadLocalRandom.current().nextBoolean()) {
+					exchange.sendResponseHeaders(503, -1);
+				} else {
+					sendXml(exchange, null, writer -> writer.write(errorBody("22",
+							"LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR")));
+				}
+				return;
+			}
+
+			int pageNo = parseInt(query.get("pageNo"), 1);
+			if (recordedDir != null) {
+				serveRecorded(exchange, pageNo);
+				return;
+			}
+
+			int numOfRows = parseInt(query.get("numOfRows"), 10);
+			Selection selection = Selection.of(query, totalCount);
+			String etag = "\"v" + dataVersion.get() + "-" + Integer.toHexString(query.toString().hashCode()) + "\"";
+			if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+				notModifiedCount.incrementAndGet();
+				exchange.getResponseHeaders().set("ETag", etag);
+				exchange.sendResponseHeaders(304, -1);
+				return;
+			}
+			sendXml(exchange, etag, writer -> writePage(writer, selection, pageNo, numOfRows));
+		} catch (IOException e) {
+			log.debug("Stub response aborted: {}", e.getMessage()); // 클라이언트가 먼저 끊은 경우
+		}
+	}
+
+	private void serveRecorded(HttpExchange exchange, int pageNo) throws IOException {
+		Path page = recordedDir.resolve("page-" + pageNo + ".xml");
+		if (!Files.exists(page)) {
+			sendXml(exchange, null, writer -> writer.write(emptyBody(pageNo)));
+			return;
+		}
+		exchange.getResponseHeaders().set("Content-Type", "application/xml;charset=UTF-8");
+		exchange.sendResponseHeaders(200, Files.size(page));
+		try (OutputStream out = exchange.getResponseBody()) {
+			Files.copy(page, out);
+		}
+	}
+
+	private void writePage(Writer writer, Selection selection, int pageNo, int numOfRows) throws IOException {
+		writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?><response><header>"
+				+ "<resultCode>00</resultCode><resultMsg>NORMAL SERVICE.</resultMsg></header><body><items>");
+		long from = (long) (pageNo - 1) * numOfRows;
+		long to = Math.min(from + numOfRows, selection.count());
+		int version = dataVersion.get();
+		for (long rank = from; rank < to; rank++) {
+			writeItem(writer, (int) rank + 1, selection.indexAt((int) rank), version);
+		}
+		servedItemCount.addAndGet(Math.max(0, to - from));
+		writer.write("</items><numOfRows>" + numOfRows + "</numOfRows><pageNo>" + pageNo + "</pageNo><totalCount>"
+				+ selection.count() + "</totalCount></body></response>");
+	}
+
+	private static void writeItem(Writer writer, int rnum, int index, int version) throws IOException {
+		int dpsl = index % 2;
+		// 버전이 바뀌면 약 1%의 물건만 최저입찰가가 바뀝니다.
+		long minBidPrice = 10_000_000L + (index % 997) * 10_000L + (index % 100 == 0 ? (version - 1) * 1_000L : 0);
+		LocalDateTime begin = BASE_DATE_TIME.plusHours(index % 720);
+		writer.write("<item>");
+		field(writer, "RNUM", Integer.toString(rnum));
+		field(writer, "PLNM_NO", Integer.toString(800_000 + index / 10));
+		field(writer, "PBCT_NO", Integer.toString(9_000_000 + index));
+		field(writer, "ORG_BASE_NO", "1");
+		field(writer, "ORG_NM", "한국자산관리공사");
+		field(writer, "CLTR_NO", Integer.toString(1_500_000 + index));
+		field(writer, "PBCT_CDTN_NO", Integer.toString(2_000_000 + index));
+		field(writer, "CLTR_HSTR_NO", Integer.toString(3_000_000 + index));
+		field(writer, "SCRN_GRP_CD", "0001");
+		field(writer, "CTGR_FULL_NM", "토지 / 대지");
+		field(writer, "BID_MNMT_NO", "");
+		field(writer, "CLTR_NM", SIDO[index % SIDO.length] + " 합성물건 " + index);
+		field(writer, "CLTR_MNMT_NO", cltrMnmtNo(index));
+		field(writer, "LDNM_ADRS", SIDO[index % SIDO.length] + " 합성구 합성동 " + index);
+		field(writer, "NMRD_ADRS", SIDO[index % SIDO.length] + " 합성로 " + index);
+		field(writer, "DPSL_MTD_CD", DPSL_MTD[dpsl]);
+		field(writer, "DPSL_MTD_NM", DPSL_MTD_NM[dpsl]);
+		field(writer, "BID_MTD_NM", "일반경쟁(최고가방식) / 총액");
+		field(writer, "MIN_BID_PRC", Long.toString(minBidPrice));
+		field(writer, "APSL_ASES_AVG_AMT", Long.toString(minBidPrice + minBidPrice / 5));
+		field(writer, "FEE_RATE", "(100%)");
+		field(writer, "PBCT_BEGN_DTM", begin.format(ONBID_DATE_TIME_FORMATTER));
+		field(writer, "PBCT_CLS_DTM", begin.plusDays(2).format(ONBID_DATE_TIME_FORMATTER));
+		field(writer, "PBCT_CLTR_STAT_NM", "인터넷입찰진행중");
+		field(writer, "USCBD_CNT", Integer.toString(index % 7));
+		field(writer, "IQRY_CNT", Integer.toString(index % 3000));
+		field(writer, "GOODS_NM", "합성 물건 상세 " + index);
+		writer.write("</item>");
+	}
+
+	// 실제 물건관리번호와 같은 형식 (예: 2026-0001-000123)
+	static String cltrMnmtNo(int index) {
+		return String.format("2026-%04d-%06d", index / 1_000_000 + 1, index % 1_000_000);
+	}
+
+	private static void field(Writer writer, String name, String value) throws IOException {
+		writer.write('<');
+		writer.write(name);
+		writer.write('>');
+		writer.write(value);
+		writer.write("</");
+		writer.write(name);
+		writer.write('>');
+	}
+
+	private static String emptyBody(int pageNo) {
+		return "<?xml version=\"1.0\" encoding=\"UTF-8\"?><response><header><resultCode>00</resultCode>"
+				+ "<resultMsg>NORMAL SERVICE.</resultMsg></header><body><items></items><pageNo>" + pageNo
+				+ "</pageNo><totalCount>0</totalCount></body></response>";
+	}
+
+	// 공공데이터포털 공통 에러 응답
+	private static String errorBody(String code, String message) {
+		return "<OpenAPI_ServiceResponse><cmmMsgHeader><errMsg>SERVICE ERROR</errMsg><returnAuthMsg>" + message
+				+ "</returnAuthMsg><returnReasonCode>" + code + "</returnReasonCode></cmmMsgHeader>"
+				+ "</OpenAPI_ServiceResponse>";
+	}
+
+	@FunctionalInterface
+	private interface BodyWriter {
+		void write(Writer writer) throws IOException;
+	}
+
+	// 길이를 모르는 채로 chunked 전송하므로 큰 페이지도 stub 서버 힙에 쌓이지 않습니다.
+	private static void sendXml(HttpExchange exchange, String etag, BodyWriter bodyWriter) throws IOException {
+		exchange.getResponseHeaders().set("Content-Type", "application/xml;charset=UTF-8");
+		if (etag != null) {
+			exchange.getResponseHeaders().set("ETag", etag);
+		}
+		exchange.sendResponseHeaders(200, 0);
+		try (Writer writer = new BufferedWriter(
+				new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8), 64 * 1024)) {
+			bodyWriter.write(writer);
+		}
+	}
+
+	private static Map<String, String> parseQuery(String rawQuery) {
+		Map<String, String> query = new HashMap<>();
+		if (rawQuery == null) {
+			return query;
+		}
+		for (String pair : rawQuery.split("&")) {
+			int eq = pair.indexOf('=');
+			if (eq > 0) {
+				query.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+						URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+			}
+		}
+		query.remove("serviceKey"); // ETag 계산에서 제외
+		return query;
+	}
+
+	private static int parseInt(String value, int defaultValue) {
+		try {
+			return value == null ? defaultValue : Integer.parseInt(value.trim());
+		} catch (NumberFormatException e) {
+			return defaultValue;
+		}
+	}
+
+	private static void sleep(long millis) {
+		if (millis <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * 필터를 적용한 물건 목록. 합성 물건 index의 매각 방식은 index % 2로 정해지므로 목록을 만들지 않고 계산합니다.
+	 *
+	 * @param first 선택된 첫 물건 index
+	 * @param step  선택된 물건 사이 간격
+	 * @param count 선택된 물건 수
+	 */
+	private record Selection(int first, int step, int count) {
+
+		static Selection of(Map<String, String> query, int totalCount) {
+			String cltrMnmtNo = query.get("CLTR_MNMT_NO");
+			if (cltrMnmtNo != null) {
+				int index = indexOf(cltrMnmtNo);
+				return index >= 0 && index < totalCount ? new Selection(index, 1, 1) : new Selection(0, 1, 0);
+			}
+			String dpslMtdCd = query.get("DPSL_MTD_CD");
+			if (dpslMtdCd != null) {
+				int first = DPSL_MTD[0].equals(dpslMtdCd) ? 0 : DPSL_MTD[1].equals(dpslMtdCd) ? 1 : -1;
+				return first < 0 ? new Selection(0, 1, 0) : new Selection(first, 2, (totalCount - first + 1) / 2);
+			}
+			return new Selection(0, 1, totalCount);
+		}
+
+		int indexAt(int rank) {
+			return first + rank * step;
+		}
+
+		private static int indexOf(String cltrMnmtNo) {
+			String[] parts = cltrMnmtNo.split("-");
+			if (parts.length != 3) {
+				return -1;
+			}
+			try {
+				return (Integer.parseInt(parts[1]) - 1) * 1_000_000 + Integer.parseInt(parts[2]);
+			} catch (NumberFormatException e) {
+				return -1;
+			}
+		}
+	}
+}
@@ -0,0 +1,253 @@
+package com.bid.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.bid.entity.SyncRun;
+import com.bid.repository.SyncRunRepository;
+
+/**
+ * 로컬 온비드 stub 서버(OnbidStubServer)와 로컬 MariaDB로 빠른/전체 동기화를 돌려서
+ * 처리량(items/sec), 최대 힙 사용량, 항목당 DB 문장 수를 기록하는 벤치마크입니다.
+ *
+ * 실제 DB를 쓰므로 기본 test 실행에서는 제외되고, {@code ./gradlew onbidBenchmark}로만 실행합니다.
+ * 데이터베이스 이름에 benchmark가 들어간 전용 DB(기본 onbid_benchmark)만 사용하며 시작할 때 동기화 테이블을 비웁니다.
+ * 설정: -Donbid.stub.total-count / latency-ms / error-rate / recorded-dir, -Donbid.benchmark.datasource-url,
+ * -Donbid.benchmark.min-items-per-sec (전체 동기화 처리량이 이보다 낮으면 실패, 기본 0 = 기록만)
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "onbid.benchmark", matches = "true")
+@SpringBootTest
+class OnbidSyncBenchmarkTest {
+
+	private static final Logger log = LoggerFactory.getLogger(OnbidSyncBenchmarkTest.class);
+
+	private static final String DEFAULT_DATASOURCE_URL = "jdbc:mariadb://localhost:3306/onbid_benchmark"
+			+ "?createDatabaseIfNotExist=true&useUnicode=true&characterEncoding=utf8&useBulkStmts=true";
+	private static final String[] SYNC_TABLES = { "tenders", "sync_runs", "sync_run_pages", "onbid_page_digests",
+			"sync_locks" };
+	private static final Duration FULL_SYNC_TIMEOUT = Duration.ofMinutes(30);
+	private static final long POLL_INTERVAL_MS = 1000;
+
+	private static OnbidStubServer stub;
+
+	@Autowired
+	private OnbidSyncService onbidSyncService;
+
+	@Autowired
+	private OnbidShardPlanner onbidShardPlanner;
+
+	@Autowired
+	private SyncRunRepository syncRunRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	// 한 단계의 측정 결과
+	private record PhaseResult(String phase, long items, long elapsedMs, long peakHeapBytes, long statements,
+			long requests, long notModified, long skippedPages) {
+
+		double itemsPerSec() {
+			return elapsedMs == 0 ? 0 : items * 1000.0 / elapsedMs;
+		}
+
+		double statementsPerItem() {
+			return items == 0 ? 0 : (double) statements / items;
+		}
+	}
+
+	@DynamicPropertySource
+	static void benchmarkProperties(DynamicPropertyRegistry registry) throws IOException {
+		stub = OnbidStubServer.fromSystemProperties();
+		stub.start();
+
+		String datasourceUrl = System.getProperty("onbid.benchmark.datasource-url", DEFAULT_DATASOURCE_URL);
+		if (!datasourceUrl.contains("benchmark")) { // 개발용 DB를 비우지 않도록
+			throw new IllegalStateException("Benchmark database name must contain 'benchmark': " + datasourceUrl);
+		}
+		registry.add("spring.datasource.url", () -> datasourceUrl);
+		registry.add("spring.jpa.show-sql", () -> "false");
+		registry.add("onbid.api.base-url", stub::baseUrl);
+		registry.add("onbid.api.service-key", () -> "benchmark");
+		// 동기화는 테스트가 직접 실행하고, 주기 작업은 측정 중에 끼어들지 않게 합니다.
+		registry.add("onbid.sync.run-on-startup", () -> "false");
+		registry.add("onbid.sync.shard.check-interval-ms", () -> "3600000");
+		registry.add("onbid.sync.follower-poll-ms", () -> "3600000");
+		registry.add("onbid.refresh.hot.enabled", () -> "false");
+		// 단계마다 모든 샤드가 다시 동기화 대상이 되도록
+		registry.add("onbid.sync.min-interval-minutes", () -> "0");
+		registry.add("onbid.sync.shard.default-refresh-minutes", () -> "0");
+		registry.add("onbid.sync.shard.refresh-minutes[DPSL_MTD_CD=0002]", () -> "0");
+		registry.add("onbid.fetch.retry-backoff-ms", () -> "100");
+		registry.add("logging.level.org.springframework.security", () -> "INFO");
+	}
+
+	@AfterAll
+	static void stopStub() {
+		if (stub != null) {
+			stub.close();
+		}
+	}
+
+	@Test
+	void fastAndFullSyncThroughput() throws InterruptedException {
+		truncateSyncTables();
+		List<PhaseResult> results = new ArrayList<>();
+
+		results.add(measure("fast sync", () -> {
+			onbidSyncService.performFastSync();
+			return 0;
+		}));
+		results.add(measure("full sync (cold)", this::runFullSyncAndWait));
+		PhaseResult unchanged = measure("full sync (unchanged)", this::runFullSyncAndWait);
+		results.add(unchanged);
+		stub.changeData();
+		results.add(measure("full sync (1% changed)", this::runFullSyncAndWait));
+
+		report(results);
+
+		Long activeTenders = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tenders WHERE active = TRUE",
+				Long.class);
+		assertEquals(Integer.getInteger("onbid.stub.total-count", 50_000).longValue(), activeTenders,
+				"every stub item should be active after a full sync");
+		assertTrue(unchanged.notModified() + unchanged.skippedPages() > 0,
+				"an unchanged catalog should be served by 304s or skipped pages");
+
+		double minItemsPerSec = Double.parseDouble(System.getProperty("onbid.benchmark.min-items-per-sec", "0"));
+		assertTrue(results.get(1).itemsPerSec() >= minItemsPerSec, "cold full sync throughput regressed below "
+				+ minItemsPerSec + " items/sec");
+	}
+
+	@FunctionalInterface
+	private interface Phase {
+		// @return 측정 중 테스트가 직접 보낸 DB 문장 수 (결과에서 뺌)
+		long run() throws InterruptedException;
+	}
+
+	private PhaseResult measure(String phase, Phase body) throws InterruptedException {
+		long baselineRunId = maxSyncRunId();
+		long requestsBefore = stub.requestCount();
+		long notModifiedBefore = stub.notModifiedCount();
+		System.gc();
+		List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+				.filter(pool -> pool.getType() == MemoryType.HEAP)
+				.toList();
+		heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+		long questionsBefore = questions();
+
+		long started = System.nanoTime();
+		long ownStatements = body.run();
+		long elapsedMs = Duration.ofNanos(System.nanoTime() - started).toMillis();
+
+		long statements = questions() - questionsBefore - ownStatements - 1; // 1: 두 번째 SHOW STATUS
+		long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+
+		List<SyncRun> runs = syncRunRepository.findAll().stream()
+				.filter(run -> run.getId() > baselineRunId)
+				.toList();
+		runs.forEach(run -> assertEquals(SyncRun.Status.COMPLETED, run.getStatus(),
+				phase + " run " + run.getId() + " (" + run.getShardKey() + ") did not complete"));
+		long items = runs.stream()
+				.mapToLong(run -> count(run.getNewCount()) + count(run.getUpdatedCount())
+						+ count(run.getUnchangedCount()))
+				.sum();
+		long skippedPages = runs.stream().mapToLong(run -> count(run.getSkippedPageCount())).sum();
+
+		return new PhaseResult(phase, items, elapsedMs, peakHeap, statements, stub.requestCount() - requestsBefore,
+				stub.notModifiedCount() - notModifiedBefore, skippedPages);
+	}
+
+	/**
+	 * 전체 동기화를 시작하고 계획된 모든 샤드의 새 실행이 끝날 때까지 기다립니다.
+	 *
+	 * @return 기다리는 동안 보낸 조회 문장 수
+	 */
+	private long runFullSyncAndWait() throws InterruptedException {
+		long baselineRunId = maxSyncRunId();
+		List<OnbidShard> shards = onbidShardPlanner.plan();
+		onbidSyncService.performFullSyncInBackground();
+
+		long ownStatements = 1;
+		long deadline = System.nanoTime() + FULL_SYNC_TIMEOUT.toNanos();
+		while (System.nanoTime() < deadline) {
+			Thread.sleep(POLL_INTERVAL_MS);
+			ownStatements += shards.size();
+			boolean allFinished = shards.stream()
+					.map(shard -> syncRunRepository.findFirstBySyncTypeAndShardKeyOrderByIdDesc(SyncRun.SyncType.FULL,
+							shard.key()))
+					.allMatch(run -> run.filter(latest -> latest.getId() > baselineRunId)
+							.filter(latest -> latest.getStatus() != SyncRun.Status.RUNNING)
+							.isPresent());
+			if (allFinished && !onbidSyncService.isSyncing()) {
+				return ownStatements;
+			}
+		}
+		throw new IllegalStateException("Full sync did not finish within " + FULL_SYNC_TIMEOUT);
+	}
+
+	private void report(List<PhaseResult> results) {
+		StringBuilder report = new StringBuilder(String.format(
+				"%nOnbid sync benchmark (stub items=%d, latency=%sms, error-rate=%s)%n",
+				Integer.getInteger("onbid.stub.total-count", 50_000), Long.getLong("onbid.stub.latency-ms", 50L),
+				System.getProperty("onbid.stub.error-rate", "0.0")));
+		report.append(String.format("%-24s %10s %10s %12s %14s %12s %10s %8s %8s%n", "phase", "items", "ms",
+				"items/sec", "peak heap MB", "stmts/item", "requests", "304s", "skipped"));
+		for (PhaseResult result : results) {
+			report.append(String.format("%-24s %10d %10d %12.1f %14.1f %12.3f %10d %8d %8d%n", result.phase(),
+					result.items(), result.elapsedMs(), result.itemsPerSec(), result.peakHeapBytes() / 1048576.0,
+					result.statementsPerItem(), result.requests(), result.notModified(), result.skippedPages()));
+		}
+		report.append(String.format("stub errors injected: %d", stub.errorCount()));
+		log.info(report.toString());
+	}
+
+	private void truncateSyncTables() {
+		jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+				for (String table : SYNC_TABLES) {
+					statement.execute("TRUNCATE TABLE " + table);
+				}
+				statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+			}
+			return null;
+		});
+	}
+
+	private long maxSyncRunId() {
+		return Objects.requireNonNullElse(jdbcTemplate.queryForObject("SELECT MAX(id) FROM sync_runs", Long.class),
+				0L);
+	}
+
+	// 서버가 받은 전체 문장 수 (로컬 전용 DB이므로 차이는 이 JVM이 보낸 문장 수)
+	private long questions() {
+		return jdbcTemplate.queryForObject("SHOW GLOBAL STATUS LIKE 'Questions'", (rs, rowNum) -> rs.getLong("Value"));
+	}
+
+	private static long count(Number value) {
+		return value == null ? 0 : value.longValue();
+	}
+}
@@ -0,0 +1,78 @@
+package com.bid.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+class OnbidValueDecoderTest {
+
+	@Test
+	void parsesCompactDateTime() {
+		assertEquals(LocalDateTime.of(2025, 3, 1, 9, 5, 7), OnbidValueDecoder.parseCompactDateTime("20250301090507"));
+		assertEquals(LocalDateTime.of(2024, 2, 29, 23, 59, 59),
+				OnbidValueDecoder.parseCompactDateTime(" 20240229235959\n"));
+	}
+
+	@Test
+	void malformedShortOrBlankDateTimeIsNull() {
+		assertNull(OnbidValueDecoder.parseCompactDateTime(null));
+		assertNull(OnbidValueDecoder.parseCompactDateTime(""));
+		assertNull(OnbidValueDecoder.parseCompactDateTime("   "));
+		assertNull(OnbidValueDecoder.parseCompactDateTime("202503010905")); // 짧음
+		assertNull(OnbidValueDecoder.parseCompactDateTime("202503010905070")); // 김
+		assertNull(OnbidValueDecoder.parseCompactDateTime("2025-03-01 09:0"));
+		assertNull(OnbidValueDecoder.parseCompactDateTime("2025030109050A"));
+		assertNull(OnbidValueDecoder.parseCompactDateTime("20230229120000")); // 윤년 아님
+		assertNull(OnbidValueDecoder.parseCompactDateTime("20250431120000"));
+		assertNull(OnbidValueDecoder.parseCompactDateTime("20251301120000"));
+		assertNull(OnbidValueDecoder.parseCompactDateTime("20250301246000"));
+	}
+
+	@Test
+	void parsesLong() {
+		assertEquals(0L, OnbidValueDecoder.parseLong("0"));
+		assertEquals(350_000_000L, OnbidValueDecoder.parseLong(" 350000000 "));
+		assertEquals(-12L, OnbidValueDecoder.parseLong("-12"));
+		assertEquals(7L, OnbidValueDecoder.parseLong("+007"));
+		assertEquals(Long.MAX_VALUE, OnbidValueDecoder.parseLong("9223372036854775807"));
+		assertEquals(Long.MIN_VALUE, OnbidValueDecoder.parseLong("-9223372036854775808"));
+	}
+
+	@Test
+	void malformedBlankOrOverflowingLongIsNull() {
+		assertNull(OnbidValueDecoder.parseLong(null));
+		assertNull(OnbidValueDecoder.parseLong(""));
+		assertNull(OnbidValueDecoder.parseLong("  "));
+		assertNull(OnbidValueDecoder.parseLong("-"));
+		assertNull(OnbidValueDecoder.parseLong("1,000"));
+		assertNull(OnbidValueDecoder.parseLong("12.5"));
+		assertNull(OnbidValueDecoder.parseLong("1 2"));
+		assertNull(OnbidValueDecoder.parseLong("abc"));
+		assertNull(OnbidValueDecoder.parseLong("9223372036854775808"));
+		assertNull(OnbidValueDecoder.parseLong("-9223372036854775809"));
+		assertNull(OnbidValueDecoder.parseLong("99999999999999999999"));
+	}
+
+	@Test
+	void poolSharesInstancesWithinBounds() {
+		OnbidValueDecoder.BoundedStringPool pool = new OnbidValueDecoder.BoundedStringPool(2, 5);
+		String first = pool.intern(new String("매각"));
+
+		assertSame(first, pool.intern(new String("매각")));
+		assertNull(pool.intern(null));
+		String tooLong = new String("일반경쟁입찰");
+		assertSame(tooLong, pool.intern(tooLong)); // 최대 길이 초과는 풀에 넣지 않음
+		assertEquals(1, pool.size());
+
+		String second = pool.intern(new String("임대"));
+		assertSame(second, pool.intern(new String("임대")));
+		String overflow = new String("공매");
+		assertSame(overflow, pool.intern(overflow)); // 가득 차면 그대로 돌려줌
+		assertEquals(2, pool.size());
+		assertSame(first, pool.intern(new String("매각"))); // 먼저 들어온 값은 계속 공유
+	}
+}
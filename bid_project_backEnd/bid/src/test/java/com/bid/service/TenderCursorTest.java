@@ -0,0 +1,64 @@
+package com.bid.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+import com.bid.entity.TenderPhase;
+
+/**
+ * 커서 문자열이 같은 위치로 되돌아오는지, 이 서버가 만들지 않은(변조된) 커서는 거부하는지 확인합니다.
+ */
+class TenderCursorTest {
+
+	@Test
+	void encodedCursorDecodesToSamePosition() {
+		for (TenderCursor cursor : new TenderCursor[] {
+				new TenderCursor(-1_740_000_000L, "2025-0301-000123"), // 시작된 공고
+				new TenderCursor(TenderPhase.UPCOMING_ORDER_BASE + 1_740_000_000L, "2025-0301-000124"), // 예정 공고
+				new TenderCursor(TenderPhase.UNDATED_ORDER, "2025-0301-000125"), // 공고일 없음
+				new TenderCursor(Long.MIN_VALUE, "A:B:C"), // 구분자가 들어간 물건관리번호
+				new TenderCursor(0L, "서울-가-1") }) {
+			String token = cursor.encode();
+
+			assertTrue(token.matches("[A-Za-z0-9_-]+"), token); // URL에 그대로 넣을 수 있음
+			assertEquals(cursor, TenderCursor.decode(token));
+			assertEquals(cursor, TenderCursor.decode(" " + token + " "));
+		}
+	}
+
+	@Test
+	void blankCursorMeansFirstPage() {
+		assertNull(TenderCursor.decode(null));
+		assertNull(TenderCursor.decode(""));
+		assertNull(TenderCursor.decode("   "));
+	}
+
+	@Test
+	void tamperedOrForeignCursorIsRejected() {
+		String token = new TenderCursor(-1_740_000_000L, "2025-0301-000123").encode();
+
+		assertInvalid("not a cursor!"); // Base64url 아님
+		assertInvalid(token + "="); // 패딩 없는 형식에 패딩
+		assertInvalid(token.substring(1)); // 앞부분이 잘림
+		assertInvalid(encode("2:-1740000000:2025-0301-000123")); // 다른 버전
+		assertInvalid(encode("1:abc:2025-0301-000123")); // 숫자가 아닌 정렬 키
+		assertInvalid(encode("1:99999999999999999999:K")); // long 범위 초과
+		assertInvalid(encode("1:-1740000000:")); // 물건관리번호 없음
+		assertInvalid(encode("1:-1740000000")); // 구분자 부족
+	}
+
+	private static void assertInvalid(String token) {
+		assertThrows(IllegalArgumentException.class, () -> TenderCursor.decode(token), token);
+	}
+
+	private static String encode(String raw) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,248 @@
+package com.bid.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.bid.dto.response.TenderResponseDTO;
+import com.bid.entity.TenderPhase;
+import com.bid.event.TenderBidPlacedEvent;
+import com.bid.event.TenderChangeEvent;
+import com.bid.event.TenderChanged;
+import com.bid.event.TenderCreated;
+import com.bid.event.TenderDeactivated;
+
+/**
+ * 스냅샷 목록 순서, 변경분 병합(변경/비활성화/신규), 검색 조기 종료, 커서 조회를 DB 없이 확인합니다.
+ * 기대 순서: 시작된 공고(공고일 내림차순) → 예정 공고(공고일 오름차순) → 공고일 없는 공고, 같으면 물건관리번호 순.
+ */
+class TenderReadModelTest {
+
+	private static final long GENERATION = 7L;
+	private static final TenderReadModel.SearchFilter SEOUL = new TenderReadModel.SearchFilter("서울", null, null,
+			null, null, null, null, null, null);
+
+	// K04, K05는 공고일이 같아 목록 순서 값이 같음
+	private static final List<String> SNAPSHOT_ORDER = List.of("K01", "K02", "K03", "K04", "K05", "K06", "K07",
+			"K08", "K09");
+	// K03 공고일 변경(맨 앞으로), K02 비활성화, K04A(동률 사이)/K00(예정)/K08A(공고일 없음) 신규
+	private static final List<String> MERGED_ORDER = List.of("K03", "K01", "K04", "K04A", "K05", "K06", "K07",
+			"K00", "K08", "K08A", "K09");
+
+	@TempDir
+	Path dir;
+
+	private LocalDateTime now;
+	private TenderReadModel readModel;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		now = LocalDateTime.now().withNano(0);
+		readModel = new TenderReadModel();
+		TenderSnapshot snapshot = TenderSnapshotFixture.write(dir, GENERATION, List.of(
+				tender("K01", "서울 강남 아파트", now.minusDays(1)),
+				tender("K02", "부산 상가", now.minusDays(2)),
+				tender("K03", "서울 토지", now.minusDays(3)),
+				tender("K04", "서울 오피스", now.minusDays(4)),
+				tender("K05", "대구 창고", now.minusDays(4)),
+				tender("K06", "서울 예정 주택", now.plusDays(1)),
+				tender("K07", "부산 예정 주택", now.plusDays(2)),
+				tender("K08", "서울 미정", null),
+				tender("K09", "광주 미정", null)));
+		readModel.onSnapshotReady(new TenderSnapshotService.SnapshotReady(snapshot, Long.MIN_VALUE));
+	}
+
+	@Test
+	void notReadyUntilSnapshotIsIndexed() {
+		TenderReadModel empty = new TenderReadModel();
+
+		assertTrue(empty.query(null, 0, 10).isEmpty());
+		assertTrue(empty.queryAfter(null, null, 10).isEmpty());
+		assertTrue(empty.count(null).isEmpty());
+	}
+
+	@Test
+	void queryPagesSnapshotInListOrder() {
+		TenderReadModel.Result all = readModel.query(null, 0, 100).orElseThrow();
+
+		assertEquals(SNAPSHOT_ORDER, keysOf(all.tenders()));
+		assertEquals(SNAPSHOT_ORDER.size(), all.totalCount());
+		assertFalse(all.hasNext());
+		assertEveryPageMatches(SNAPSHOT_ORDER);
+	}
+
+	@Test
+	void overlayIsMergedByListPosition() {
+		applyOverlay();
+
+		TenderReadModel.Result all = readModel.query(null, 0, 100).orElseThrow();
+
+		assertEquals(MERGED_ORDER, keysOf(all.tenders()));
+		assertEquals(MERGED_ORDER.size(), all.totalCount());
+		assertEquals("서울 토지 (정정)", all.tenders().get(0).getTenderTitle()); // 스냅샷 값이 아닌 변경분
+		assertEquals(OptionalLong.of(MERGED_ORDER.size()), readModel.count(null));
+		assertEveryPageMatches(MERGED_ORDER);
+	}
+
+	@Test
+	void laterChangeReplacesEarlierOverlay() {
+		applyOverlay();
+		// 비활성화했던 K02가 다시 들어오고, 신규였던 K00은 비활성화됨
+		readModel.onTenderChanges(List.of(
+				new TenderCreated("K02", GENERATION + 2, tender("K02", "부산 상가", now.minusDays(2))),
+				new TenderDeactivated("K00", GENERATION + 2)));
+
+		List<String> expected = new ArrayList<>(MERGED_ORDER);
+		expected.add(expected.indexOf("K04"), "K02");
+		expected.remove("K00");
+		assertEquals(expected, keysOf(readModel.query(null, 0, 100).orElseThrow().tenders()));
+		assertEveryPageMatches(expected);
+	}
+
+	@Test
+	void snapshotReadyDropsChangesAppliedBeforeItsQuery() throws Exception {
+		applyOverlay();
+		long queryStartedNanos = System.nanoTime();
+		TenderSnapshot next = TenderSnapshotFixture.write(dir, GENERATION + 1, List.of(
+				tender("K01", "서울 강남 아파트", now.minusDays(1))));
+
+		readModel.onSnapshotReady(new TenderSnapshotService.SnapshotReady(next, queryStartedNanos));
+
+		assertEquals(List.of("K01"), keysOf(readModel.query(null, 0, 100).orElseThrow().tenders()));
+	}
+
+	@Test
+	void filteredSearchStopsOncePageIsFilled() {
+		applyOverlay();
+		// 서울: K03, K01, K04, K04A, K06, K08
+		TenderReadModel.Result first = readModel.query(SEOUL, 0, 2).orElseThrow();
+		TenderReadModel.Result last = readModel.query(SEOUL, 4, 2).orElseThrow();
+		TenderReadModel.Result beyond = readModel.query(SEOUL, 6, 2).orElseThrow();
+
+		assertEquals(List.of("K03", "K01"), keysOf(first.tenders()));
+		assertNull(first.totalCount()); // 검색 건수는 count/TenderCountCache로 따로 셈
+		assertTrue(first.hasNext());
+		assertEquals(List.of("K06", "K08"), keysOf(last.tenders()));
+		assertFalse(last.hasNext());
+		assertTrue(beyond.tenders().isEmpty());
+		assertFalse(beyond.hasNext());
+		assertEquals(OptionalLong.of(6), readModel.count(SEOUL));
+	}
+
+	@Test
+	void queryAfterWalksMergedListAcrossTiesAndUndatedRows() {
+		applyOverlay();
+
+		for (int limit = 1; limit <= 4; limit++) {
+			assertEquals(MERGED_ORDER, walkWithCursor(null, limit), "limit " + limit);
+		}
+		assertEquals(List.of("K03", "K01", "K04", "K04A", "K06", "K08"), walkWithCursor(SEOUL, 1));
+	}
+
+	@Test
+	void queryAfterResumesAfterCursorOfDeactivatedTender() {
+		TenderCursor afterK02 = new TenderCursor(TenderPhase.listOrder(now.minusDays(2), now), "K02");
+		applyOverlay();
+
+		TenderReadModel.Window window = readModel.queryAfter(null, afterK02, 3).orElseThrow();
+
+		assertEquals(List.of("K04", "K04A", "K05"), keysOf(window.tenders()));
+		assertEquals(new TenderCursor(TenderPhase.listOrder(now.minusDays(4), now), "K05"), window.nextCursor());
+	}
+
+	@Test
+	void bidRaisesHighestBidPriceButKeepsOnbidMinBidPrice() {
+		applyOverlay();
+		readModel.onBidPlaced(new TenderBidPlacedEvent("K01", 2_000_000L)); // 스냅샷 행
+		readModel.onBidPlaced(new TenderBidPlacedEvent("K01", 1_500_000L)); // 늦게 처리된 낮은 입찰은 무시
+		readModel.onBidPlaced(new TenderBidPlacedEvent("K03", 3_000_000L)); // 변경분 행
+
+		List<TenderResponseDTO> tenders = readModel.query(null, 0, 2).orElseThrow().tenders();
+
+		assertEquals(List.of("K03", "K01"), keysOf(tenders));
+		assertEquals(3_000_000L, tenders.get(0).getHighestBidPrice());
+		assertEquals(2_000_000L, tenders.get(1).getHighestBidPrice());
+		assertEquals(1_000_000L, tenders.get(1).getMinBidPrice()); // 온비드 값 그대로
+		assertNull(readModel.query(null, 2, 1).orElseThrow().tenders().get(0).getHighestBidPrice());
+	}
+
+	@Test
+	void remoteChangesAndBidsAreMergedLikeLocalOnes() {
+		TenderResponseDTO changed = tender("K09", "광주 미정 (정정)", now.minusHours(1)); // 다른 노드의 우선 갱신
+		changed.setActive(true);
+		TenderResponseDTO deactivated = tender("K01", "서울 강남 아파트", now.minusDays(1));
+		deactivated.setActive(false);
+
+		readModel.onCaughtUp(new TenderSnapshotService.CaughtUp(List.of(changed, deactivated),
+				Map.of("K03", 5_000_000L)));
+
+		List<TenderResponseDTO> tenders = readModel.query(null, 0, 100).orElseThrow().tenders();
+		assertEquals(List.of("K09", "K02", "K03", "K04", "K05", "K06", "K07", "K08"), keysOf(tenders));
+		assertEquals("광주 미정 (정정)", tenders.get(0).getTenderTitle());
+		assertEquals(5_000_000L, tenders.get(2).getHighestBidPrice());
+	}
+
+	private void applyOverlay() {
+		List<TenderChangeEvent> events = List.of(
+				new TenderChanged("K03", GENERATION + 1, Map.of(),
+						tender("K03", "서울 토지 (정정)", now.minusHours(12))),
+				new TenderDeactivated("K02", GENERATION + 1),
+				new TenderCreated("K04A", GENERATION + 1, tender("K04A", "서울 신규", now.minusDays(4))),
+				new TenderCreated("K00", GENERATION + 1, tender("K00", "인천 예정", now.plusDays(3))),
+				new TenderCreated("K08A", GENERATION + 1, tender("K08A", "대전 미정", null)));
+		readModel.onTenderChanges(events);
+	}
+
+	// 모든 (offset, limit) 조합이 전체 목록의 해당 구간과 같은지
+	private void assertEveryPageMatches(List<String> expected) {
+		for (int limit = 1; limit <= expected.size() + 1; limit++) {
+			for (int offset = 0; offset <= expected.size() + 1; offset++) {
+				TenderReadModel.Result page = readModel.query(null, offset, limit).orElseThrow();
+				int from = Math.min(offset, expected.size());
+				int to = Math.min(offset + limit, expected.size());
+				assertEquals(expected.subList(from, to), keysOf(page.tenders()), "offset " + offset + ", limit " + limit);
+				assertEquals(to < expected.size(), page.hasNext(), "offset " + offset + ", limit " + limit);
+			}
+		}
+	}
+
+	// 커서를 문자열로 주고받으며 끝까지 조회
+	private List<String> walkWithCursor(TenderReadModel.SearchFilter filter, int limit) {
+		List<String> keys = new ArrayList<>();
+		String cursor = null;
+		do {
+			TenderReadModel.Window window = readModel.queryAfter(filter, TenderCursor.decode(cursor), limit)
+					.orElseThrow();
+			keys.addAll(keysOf(window.tenders()));
+			cursor = window.nextCursor() == null ? null : window.nextCursor().encode();
+		} while (cursor != null && keys.size() <= MERGED_ORDER.size());
+		return keys;
+	}
+
+	private TenderResponseDTO tender(String cltrMnmtNo, String title, LocalDateTime announcementDate) {
+		return TenderResponseDTO.builder()
+				.cltrMnmtNo(cltrMnmtNo)
+				.tenderTitle(title)
+				.organization("매각")
+				.minBidPrice(1_000_000L)
+				.announcementDate(announcementDate)
+				.deadline(now.plusDays(10))
+				.build();
+	}
+
+	private static List<String> keysOf(List<TenderResponseDTO> tenders) {
+		return tenders.stream().map(TenderResponseDTO::getCltrMnmtNo).toList();
+	}
+}
@@ -0,0 +1,86 @@
+package com.bid.service;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.bid.dto.response.TenderResponseDTO;
+
+/**
+ * 테스트용 스냅샷 파일을 DB 없이 만듭니다. 행마다 SELECT_ACTIVE_SQL 결과처럼 보이는 ResultSet을 Writer에 넘깁니다.
+ */
+final class TenderSnapshotFixture {
+
+	private TenderSnapshotFixture() {
+	}
+
+	static TenderSnapshot write(Path dir, long generation, List<TenderResponseDTO> tenders)
+			throws IOException, SQLException {
+		return write(dir, generation, 0L, tenders);
+	}
+
+	static TenderSnapshot write(Path dir, long generation, long bidWatermark, List<TenderResponseDTO> tenders)
+			throws IOException, SQLException {
+		Path file = dir.resolve("tender-snapshot-" + generation + ".bin");
+		try (TenderSnapshot.Writer writer = new TenderSnapshot.Writer(dir)) {
+			// SELECT_ACTIVE_SQL처럼 물건관리번호 순으로 넘김 (테스트 키는 ASCII)
+			for (TenderResponseDTO tender : tenders.stream()
+					.sorted(Comparator.comparing(TenderResponseDTO::getCltrMnmtNo))
+					.toList()) {
+				writer.addRow(resultSet(columnsOf(tender)));
+			}
+			writer.writeTo(file, generation, bidWatermark);
+		}
+		return TenderSnapshot.map(file);
+	}
+
+	static Map<String, Object> columnsOf(TenderResponseDTO tender) {
+		Map<String, Object> columns = new HashMap<>();
+		columns.put("cltr_mnmt_no", tender.getCltrMnmtNo());
+		columns.put("tender_title", tender.getTenderTitle());
+		columns.put("organization", tender.getOrganization());
+		columns.put("goods_name", tender.getGoodsName());
+		columns.put("min_bid_price", tender.getMinBidPrice());
+		columns.put("highest_bid_price", tender.getHighestBidPrice());
+		columns.put("announcement_date", timestampOf(tender.getAnnouncementDate()));
+		columns.put("deadline", timestampOf(tender.getDeadline()));
+		return columns;
+	}
+
+	// 필요한 메서드(getLong/getTimestamp/getString/wasNull)만 구현한 한 행짜리 ResultSet
+	static ResultSet resultSet(Map<String, Object> columns) {
+		boolean[] wasNull = new boolean[1];
+		return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] { ResultSet.class },
+				(proxy, method, args) -> {
+					switch (method.getName()) {
+						case "getLong": {
+							Object value = columns.get((String) args[0]);
+							wasNull[0] = value == null;
+							return value == null ? 0L : ((Number) value).longValue();
+						}
+						case "getTimestamp":
+						case "getString": {
+							Object value = columns.get((String) args[0]);
+							wasNull[0] = value == null;
+							return value;
+						}
+						case "wasNull":
+							return wasNull[0];
+						default:
+							throw new SQLException("Not supported in fixture: " + method.getName());
+					}
+				});
+	}
+
+	private static Timestamp timestampOf(LocalDateTime dateTime) {
+		return dateTime == null ? null : Timestamp.valueOf(dateTime);
+	}
+}
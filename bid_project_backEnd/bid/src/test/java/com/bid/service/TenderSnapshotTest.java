@@ -0,0 +1,81 @@
+package com.bid.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.bid.dto.response.TenderResponseDTO;
+
+/**
+ * 스냅샷 Writer(컬럼별 임시 파일에 이어 쓰기)로 쓴 파일이 같은 값으로 읽히는지 확인합니다.
+ */
+class TenderSnapshotTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void writtenRowsReadBackWithNullsAndMultibyteStrings() throws Exception {
+		LocalDateTime announced = LocalDateTime.of(2025, 3, 1, 10, 0);
+		TenderSnapshot snapshot = TenderSnapshotFixture.write(dir, 42L, 1234L, List.of(
+				TenderResponseDTO.builder().cltrMnmtNo("B-2").tenderTitle(null).minBidPrice(null).build(),
+				TenderResponseDTO.builder().cltrMnmtNo("A-1").tenderTitle("서울특별시 강남구 아파트").organization("매각")
+						.goodsName("총면적 84.9㎡").minBidPrice(350_000_000L).highestBidPrice(360_000_000L).announcementDate(announced)
+						.deadline(announced.plusDays(7)).build()));
+
+		assertEquals(42L, snapshot.generation());
+		assertEquals(1234L, snapshot.bidWatermark());
+		assertEquals(2, snapshot.size());
+		assertEquals(OptionalInt.of(0), snapshot.indexOf("A-1"));
+		assertEquals(OptionalInt.of(1), snapshot.indexOf("B-2"));
+		assertTrue(snapshot.indexOf("C-3").isEmpty());
+
+		TenderResponseDTO first = snapshot.toDto(0);
+		assertEquals("서울특별시 강남구 아파트", first.getTenderTitle());
+		assertEquals("매각", first.getOrganization());
+		assertEquals("총면적 84.9㎡", first.getGoodsName());
+		assertEquals(350_000_000L, first.getMinBidPrice());
+		assertEquals(360_000_000L, first.getHighestBidPrice());
+		assertEquals(announced, first.getAnnouncementDate());
+		assertEquals(announced.plusDays(7), first.getDeadline());
+
+		TenderResponseDTO second = snapshot.toDto(1);
+		assertNull(second.getTenderTitle());
+		assertNull(second.getAnnouncementDate());
+		assertEquals(0L, second.getMinBidPrice()); // fromEntity와 같이 null은 0
+		assertNull(second.getHighestBidPrice()); // 입찰 없음
+	}
+
+	@Test
+	void emptySnapshotIsReadable() throws Exception {
+		TenderSnapshot snapshot = TenderSnapshotFixture.write(dir, 1L, List.of());
+
+		assertEquals(0, snapshot.size());
+		assertTrue(snapshot.indexOf("A-1").isEmpty());
+	}
+
+	@Test
+	void writerRejectsRowsOutOfKeyOrderAndRemovesSpillFiles() throws Exception {
+		try (TenderSnapshot.Writer writer = new TenderSnapshot.Writer(dir)) {
+			writer.addRow(TenderSnapshotFixture.resultSet(TenderSnapshotFixture.columnsOf(
+					TenderResponseDTO.builder().cltrMnmtNo("B-2").build())));
+			assertThrows(SQLException.class, () -> writer.addRow(TenderSnapshotFixture.resultSet(
+					TenderSnapshotFixture.columnsOf(TenderResponseDTO.builder().cltrMnmtNo("A-1").build()))));
+		}
+		try (Stream<Path> files = Files.list(dir)) {
+			assertTrue(files.findAny().isEmpty());
+		}
+	}
+}